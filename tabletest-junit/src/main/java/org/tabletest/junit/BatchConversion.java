@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import org.tabletest.parser.Table;
+
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+import static org.tabletest.junit.ExplicitConverterDetector.hasExplicitConverter;
+
+/**
+ * The values of a table converted column by column with batch type converters.
+ * <p>
+ * For each column bound to a scalar parameter whose type has a batch type converter, the plain
+ * cells of the column are converted in one call. Null cells, collections, and value sets are left
+ * to be converted cell by cell, and so is the column of a {@code @Scenario} parameter.
+ * <p>
+ * A column is converted when a value of it is first needed, and only for the rows that will run.
+ * Rows skipped as unchanged are left out. When the rest of the table may be skipped after failures,
+ * the rows to run are not known in advance, so each row is converted in a batch of its own.
+ *
+ * @see TypeConverter#batch()
+ */
+final class BatchConversion {
+
+    private static final Object NOT_CONVERTED = new Object();
+
+    private final Map<Integer, ColumnConversion> columns;
+
+    private BatchConversion(Map<Integer, ColumnConversion> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Finds the columns of the table that have a batch type converter, to be converted when first needed.
+     *
+     * @param table      The parsed table
+     * @param parameters The test method parameters
+     * @param naming     The naming of the invocations, telling the scenario name column and parameter
+     * @param runs       Whether the row at a zero-based position will run, rather than be skipped as unchanged
+     * @param rowByRow   Whether to convert each row on its own, as the rows to run are not known in advance
+     * @return the batch conversion of the table
+     */
+    static BatchConversion of(
+        Table table,
+        Parameter[] parameters,
+        ScenarioNameTemplate naming,
+        IntPredicate runs,
+        boolean rowByRow
+    ) {
+        Map<Integer, ColumnConversion> columns = new HashMap<>();
+        int offset = naming.hasUndeclaredColumn() ? 1 : 0;
+        int columnCount = Math.min(parameters.length, table.columnCount() - offset);
+        for (int column = 0; column < columnCount; column++) {
+            Parameter parameter = parameters[column];
+            ParameterType parameterType = ParameterType.of(parameter);
+            if (hasExplicitConverter(parameter)
+                || parameter.isAnnotationPresent(MaxDuration.class)
+                || naming.isScenarioParameter(column)
+                || parameterType.typeStack().size() != 1) {
+                continue;
+            }
+            Class<?> testClass = parameter.getDeclaringExecutable().getDeclaringClass();
+            if (ConverterGraph.of(testClass).batchConversionTo(parameterType).isPresent()) {
+                columns.put(
+                    column,
+                    new ColumnConversion(table, column + offset, parameterType, testClass, runs, rowByRow)
+                );
+            }
+        }
+        return new BatchConversion(columns.isEmpty() ? Collections.emptyMap() : columns);
+    }
+
+    /**
+     * @param rowIndex The zero-based position of the row in the table
+     * @param column   The position of the cell among the row's parameter values
+     * @return true if the cell was converted by a batch type converter
+     * @throws TableTestException if the batch type converter fails
+     */
+    boolean isConverted(int rowIndex, int column) {
+        ColumnConversion conversion = columns.get(column);
+        return conversion != null && conversion.valueOf(rowIndex) != NOT_CONVERTED;
+    }
+
+    /**
+     * @param rowIndex The zero-based position of the row in the table
+     * @param column   The position of the cell among the row's parameter values
+     * @return the value converted by a batch type converter
+     */
+    Object value(int rowIndex, int column) {
+        return columns.get(column).valueOf(rowIndex);
+    }
+
+    /**
+     * The batch conversion of one column, converting the plain cells of the rows that will run
+     * when a value is first needed, or of one row at a time.
+     */
+    private static final class ColumnConversion {
+        private final Table table;
+        private final int tableColumn;
+        private final ParameterType parameterType;
+        private final Class<?> testClass;
+        private final IntPredicate runs;
+        private final boolean rowByRow;
+        private final Object[] byRow;
+        private final boolean[] attempted;
+        private boolean batched;
+
+        private ColumnConversion(
+            Table table,
+            int tableColumn,
+            ParameterType parameterType,
+            Class<?> testClass,
+            IntPredicate runs,
+            boolean rowByRow
+        ) {
+            this.table = table;
+            this.tableColumn = tableColumn;
+            this.parameterType = parameterType;
+            this.testClass = testClass;
+            this.runs = runs;
+            this.rowByRow = rowByRow;
+            this.byRow = new Object[table.rowCount()];
+            this.attempted = new boolean[table.rowCount()];
+            Arrays.fill(byRow, NOT_CONVERTED);
+        }
+
+        Object valueOf(int rowIndex) {
+            if (!attempted[rowIndex]) {
+                boolean wholeColumn = !rowByRow && !batched;
+                batched = true;
+                convertRows(index -> index == rowIndex || wholeColumn && runs.test(index));
+            }
+            return byRow[rowIndex];
+        }
+
+        private void convertRows(IntPredicate included) {
+            List<Integer> rowIndices = new ArrayList<>();
+            List<String> values = new ArrayList<>();
+            for (int rowIndex = 0; rowIndex < table.rowCount(); rowIndex++) {
+                if (attempted[rowIndex] || !included.test(rowIndex)) continue;
+                attempted[rowIndex] = true;
+                Object cell = table.row(rowIndex).value(tableColumn);
+                if (cell instanceof String) {
+                    rowIndices.add(rowIndex);
+                    values.add((String) cell);
+                }
+            }
+            if (values.isEmpty()) {
+                return;
+            }
+            TypeConversion.convertAll(values, parameterType, testClass)
+                .ifPresent(converted -> {
+                    for (int i = 0; i < rowIndices.size(); i++) {
+                        byRow[rowIndices.get(i)] = converted.get(i);
+                    }
+                });
+        }
+    }
+}
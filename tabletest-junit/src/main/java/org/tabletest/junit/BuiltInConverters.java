@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Direct conversions of cell text to primitives, their wrappers, and common JDK types.
+ * <p>
+ * These are consulted after type converters and before JUnit's implicit conversion, which
+ * they replace for the registered types. They apply the same rules as JUnit — numbers are
+ * decoded with underscores removed, booleans ignore case, characters must be a single
+ * character, and enum constants are found by exact name — but look up the conversion
+ * directly by target type instead of searching JUnit's converter chain. Enum constants
+ * are looked up by name in a map built once per enum class.
+ * <p>
+ * Text that cannot be converted is left to JUnit's implicit conversion, so failures are
+ * reported the same way as for any other type.
+ */
+final class BuiltInConverters {
+
+    private static final Map<Class<?>, Function<String, ?>> CONVERTERS;
+
+    static {
+        Map<Class<?>, Function<String, ?>> map = new HashMap<>();
+        register(map, boolean.class, Boolean.class, BuiltInConverters::toBoolean);
+        register(map, char.class, Character.class, BuiltInConverters::toCharacter);
+        register(map, byte.class, Byte.class, number(Byte::decode));
+        register(map, short.class, Short.class, number(Short::decode));
+        register(map, int.class, Integer.class, number(Integer::decode));
+        register(map, long.class, Long.class, number(Long::decode));
+        register(map, float.class, Float.class, number(Float::valueOf));
+        register(map, double.class, Double.class, number(Double::valueOf));
+        map.put(BigInteger.class, number(BigInteger::new));
+        map.put(BigDecimal.class, number(BigDecimal::new));
+        map.put(String.class, Function.identity());
+        map.put(UUID.class, UUID::fromString);
+        map.put(Duration.class, Duration::parse);
+        map.put(Instant.class, Instant::parse);
+        map.put(LocalDate.class, LocalDate::parse);
+        map.put(LocalDateTime.class, LocalDateTime::parse);
+        map.put(LocalTime.class, LocalTime::parse);
+        map.put(MonthDay.class, MonthDay::parse);
+        map.put(OffsetDateTime.class, OffsetDateTime::parse);
+        map.put(OffsetTime.class, OffsetTime::parse);
+        map.put(Period.class, Period::parse);
+        map.put(Year.class, Year::parse);
+        map.put(YearMonth.class, YearMonth::parse);
+        map.put(ZonedDateTime.class, ZonedDateTime::parse);
+        map.put(ZoneId.class, ZoneId::of);
+        map.put(ZoneOffset.class, ZoneOffset::of);
+        CONVERTERS = Collections.unmodifiableMap(map);
+    }
+
+    private static final ClassValue<Map<String, Object>> ENUM_CONSTANTS = new ClassValue<Map<String, Object>>() {
+        @Override
+        protected Map<String, Object> computeValue(Class<?> enumType) {
+            Map<String, Object> constants = new HashMap<>();
+            for (Object constant : enumType.getEnumConstants()) {
+                constants.put(((Enum<?>) constant).name(), constant);
+            }
+            return Collections.unmodifiableMap(constants);
+        }
+    };
+
+    private BuiltInConverters() {
+    }
+
+    /**
+     * Converts text to the target type if the type has a built-in conversion.
+     *
+     * @param text       text to convert
+     * @param targetType type to convert to
+     * @return the converted value, or empty if the type has no built-in conversion or the text
+     * cannot be converted by it
+     */
+    static Optional<Object> convert(String text, Class<?> targetType) {
+        if (targetType == null) {
+            return Optional.empty();
+        }
+        if (targetType.isEnum()) {
+            return Optional.ofNullable(ENUM_CONSTANTS.get(targetType).get(text));
+        }
+        Function<String, ?> converter = CONVERTERS.get(targetType);
+        if (converter == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(converter.apply(text));
+        } catch (RuntimeException notConvertible) {
+            return Optional.empty();
+        }
+    }
+
+    private static <T> void register(
+        Map<Class<?>, Function<String, ?>> map,
+        Class<T> primitiveType,
+        Class<T> wrapperType,
+        Function<String, T> converter
+    ) {
+        map.put(primitiveType, converter);
+        map.put(wrapperType, converter);
+    }
+
+    private static <T> Function<String, T> number(Function<String, T> parser) {
+        return text -> parser.apply(text.indexOf('_') < 0 ? text : text.replace("_", ""));
+    }
+
+    private static Boolean toBoolean(String text) {
+        if ("true".equalsIgnoreCase(text)) return Boolean.TRUE;
+        if ("false".equalsIgnoreCase(text)) return Boolean.FALSE;
+        throw new IllegalArgumentException("Not a boolean: " + text);
+    }
+
+    private static Character toCharacter(String text) {
+        if (text.length() != 1) throw new IllegalArgumentException("Not a single character: " + text);
+        return text.charAt(0);
+    }
+}
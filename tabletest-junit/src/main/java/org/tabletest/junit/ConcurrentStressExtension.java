@@ -0,0 +1,227 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.tabletest.junit.TableTestException.invalidStressOption;
+
+/**
+ * Runs each invocation of a {@link TableTest} method concurrently from several threads, as set by
+ * {@link TableTest#concurrency()} and {@link TableTest#repetitions()}.
+ * <p>
+ * The invocation first runs once as usual. All threads then share its converted arguments and test
+ * instance, wait for each other to start, and run the test method their number of repetitions. The
+ * throughput and latency percentiles of the runs are published as a report entry, and the invocation
+ * fails if any run failed.
+ * <p>
+ * Does nothing for tables with one thread and one repetition.
+ */
+public class ConcurrentStressExtension implements InvocationInterceptor {
+
+    /**
+     * Key of the report entry published for every stressed invocation.
+     */
+    public static final String REPORT_ENTRY_KEY = "tabletest.stress";
+
+    private static final int MAX_REPORTED_FAILURES = 10;
+
+    @Override
+    public void interceptTestTemplateMethod(
+        Invocation<Void> invocation,
+        ReflectiveInvocationContext<Method> invocationContext,
+        ExtensionContext extensionContext
+    ) throws Throwable {
+        Optional<TableTest> tableTest = AnnotationSupport.findAnnotation(invocationContext.getExecutable(), TableTest.class);
+        if (!tableTest.isPresent() || !isStressed(tableTest.get())) {
+            invocation.proceed();
+            return;
+        }
+        invocation.proceed();
+
+        StressRun run = StressRun.of(invocationContext, tableTest.get().concurrency(), tableTest.get().repetitions());
+        extensionContext.publishReportEntry(REPORT_ENTRY_KEY, run.summary());
+        run.assertNoFailures();
+    }
+
+    private static boolean isStressed(TableTest tableTest) {
+        if (tableTest.concurrency() < 1) {
+            throw new TableTestException(invalidStressOption("concurrency", tableTest.concurrency()));
+        }
+        if (tableTest.repetitions() < 1) {
+            throw new TableTestException(invalidStressOption("repetitions", tableTest.repetitions()));
+        }
+        return tableTest.concurrency() > 1 || tableTest.repetitions() > 1;
+    }
+
+    /**
+     * The outcome of running an invocation concurrently.
+     */
+    static final class StressRun {
+        private final int threads;
+        private final int repetitions;
+        private final long elapsedNanos;
+        private final long[] ascendingLatencies;
+        private final int failureCount;
+        private final List<Throwable> failures;
+
+        private StressRun(
+            int threads,
+            int repetitions,
+            long elapsedNanos,
+            long[] ascendingLatencies,
+            int failureCount,
+            List<Throwable> failures
+        ) {
+            this.threads = threads;
+            this.repetitions = repetitions;
+            this.elapsedNanos = elapsedNanos;
+            this.ascendingLatencies = ascendingLatencies;
+            this.failureCount = failureCount;
+            this.failures = failures;
+        }
+
+        /**
+         * Runs the test method of an invocation from the given number of threads, each the given
+         * number of times, and waits for all runs to complete.
+         */
+        static StressRun of(ReflectiveInvocationContext<Method> invocationContext, int threads, int repetitions)
+            throws InterruptedException {
+            Method method = invocationContext.getExecutable();
+            Object target = invocationContext.getTarget().orElse(null);
+            Object[] arguments = invocationContext.getArguments().toArray();
+            method.setAccessible(true);
+
+            AtomicInteger failureCount = new AtomicInteger();
+            List<Throwable> failures = new ArrayList<>();
+            long[][] latencies = new long[threads][];
+            CountDownLatch ready = new CountDownLatch(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger threadNumber = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(threads, task -> {
+                Thread thread = new Thread(task, "tabletest-stress-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                List<Future<long[]>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    results.add(executor.submit(() -> {
+                        long[] threadLatencies = new long[repetitions];
+                        ready.countDown();
+                        start.await();
+                        for (int repetition = 0; repetition < repetitions; repetition++) {
+                            long runStart = System.nanoTime();
+                            try {
+                                DirectInvocation.invoke(method, target, arguments);
+                            } catch (Throwable failure) {
+                                if (failureCount.incrementAndGet() <= MAX_REPORTED_FAILURES) {
+                                    synchronized (failures) {
+                                        failures.add(failure);
+                                    }
+                                }
+                            }
+                            threadLatencies[repetition] = System.nanoTime() - runStart;
+                        }
+                        return threadLatencies;
+                    }));
+                }
+                ready.await();
+                long startNanos = System.nanoTime();
+                start.countDown();
+                for (int i = 0; i < threads; i++) {
+                    latencies[i] = results.get(i).get();
+                }
+                long elapsedNanos = System.nanoTime() - startNanos;
+                return new StressRun(threads, repetitions, elapsedNanos, sorted(latencies), failureCount.get(), failures);
+            } catch (ExecutionException unexpected) {
+                throw new IllegalStateException("Stress run ended unexpectedly", unexpected.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        private static long[] sorted(long[][] latencies) {
+            long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).toArray();
+            Arrays.sort(all);
+            return all;
+        }
+
+        /**
+         * @return one line with the number of runs and failures, the throughput, and latency percentiles
+         */
+        String summary() {
+            long runs = ascendingLatencies.length;
+            return String.format(
+                Locale.ROOT,
+                "%d threads x %d repetitions: %d runs, %d failed, %.0f ops/s, p50: %s, p95: %s, p99: %s, max: %s",
+                threads,
+                repetitions,
+                runs,
+                failureCount,
+                elapsedNanos == 0 ? 0.0 : runs * 1e9 / elapsedNanos,
+                latency(50),
+                latency(95),
+                latency(99),
+                latency(100)
+            );
+        }
+
+        private String latency(int percent) {
+            return DurationText.format(Duration.ofNanos(RowTimings.percentile(ascendingLatencies, percent)));
+        }
+
+        /**
+         * @throws AssertionFailedError caused by the first failure, with later failures suppressed, if any run failed
+         */
+        void assertNoFailures() {
+            if (failureCount == 0) {
+                return;
+            }
+            AssertionFailedError error = new AssertionFailedError(
+                String.format(
+                    "%d of %d concurrent runs failed (%d threads x %d repetitions); first failure: %s",
+                    failureCount,
+                    ascendingLatencies.length,
+                    threads,
+                    repetitions,
+                    failures.get(0)
+                ),
+                failures.get(0)
+            );
+            failures.subList(1, failures.size()).forEach(error::addSuppressed);
+            throw error;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.tabletest.junit.TableTestException.typeConverterCycle;
+
+/**
+ * The type converters of a test class and the conversions they depend on.
+ * <p>
+ * Each node is a target type with the converter selected for it from the test class's
+ * search path, and each edge leads from a converter to the types its parameter must be
+ * converted to first. A target type is resolved together with everything it depends on
+ * before its first value is converted, so a converter cycle is rejected up front rather
+ * than when a row happens to run into it, and values are converted along the resolved
+ * paths without tracking which conversions are in progress.
+ */
+final class ConverterGraph {
+
+    private static final ClassValue<ConverterGraph> GRAPHS = new ClassValue<ConverterGraph>() {
+        @Override
+        protected ConverterGraph computeValue(Class<?> testClass) {
+            return new ConverterGraph(testClass);
+        }
+    };
+
+    private final Class<?> testClass;
+    private final Map<Class<?>, Optional<Conversion>> conversions = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Optional<Method>> batchConversions = new ConcurrentHashMap<>();
+
+    private ConverterGraph(Class<?> testClass) {
+        this.testClass = testClass;
+    }
+
+    /**
+     * @param testClass The test class to search for type converters
+     * @return the converter graph of the test class, built once per test class
+     */
+    static ConverterGraph of(Class<?> testClass) {
+        return GRAPHS.get(testClass);
+    }
+
+    /**
+     * Finds the conversion to the target type, resolving the target and the types its
+     * converter depends on the first time it is asked for.
+     *
+     * @param targetType The target type of the conversion
+     * @return the conversion by type converter, or empty if no type converter targets the type
+     * @throws TableTestException if the type converters depended on form a cycle
+     */
+    Optional<Conversion> conversionTo(ParameterType targetType) {
+        Class<?> target = targetType.toClass();
+        if (target == null) {
+            return Optional.empty();
+        }
+        Optional<Conversion> resolved = conversions.get(target);
+        return resolved != null ? resolved : resolve(targetType, new ArrayDeque<>());
+    }
+
+    /**
+     * Finds the batch type converter for the target type. A batch type converter takes the cell
+     * values as they are parsed, so it has no dependencies in the graph.
+     *
+     * @param targetType The target type of the conversion
+     * @return the batch type converter, or empty if no batch type converter targets the type
+     */
+    Optional<Method> batchConversionTo(ParameterType targetType) {
+        Class<?> target = targetType.toClass();
+        if (target == null) {
+            return Optional.empty();
+        }
+        return batchConversions.computeIfAbsent(
+            target,
+            it -> TypeConversion.findBatchTypeConverter(targetType, TypeConversion.typeConverterSearchPath(testClass))
+        );
+    }
+
+    /**
+     * Resolves every type in the type stack that a converter may be needed for.
+     *
+     * @param parameterType The type of a test method parameter
+     * @throws TableTestException if the type converters depended on form a cycle
+     */
+    void resolveAll(ParameterType parameterType) {
+        dependencies(parameterType).forEach(this::conversionTo);
+    }
+
+    /**
+     * Depth-first resolution of the target type. A target is remembered only once all of
+     * its dependencies have resolved, so an unfinished target found on the current path
+     * closes a cycle.
+     */
+    private Optional<Conversion> resolve(ParameterType targetType, Deque<Class<?>> path) {
+        Class<?> target = targetType.toClass();
+        Optional<Conversion> resolved = conversions.get(target);
+        if (resolved != null) {
+            return resolved;
+        }
+        if (path.contains(target)) {
+            throw new TableTestException(typeConverterCycle(cycleOf(path, target)));
+        }
+        Optional<Conversion> conversion = TypeConversion.findTypeConverter(
+                targetType,
+                TypeConversion.typeConverterSearchPath(testClass)
+            )
+            .map(Conversion::new);
+        if (conversion.isPresent()) {
+            path.push(target);
+            for (ParameterType dependency : dependencies(conversion.get().inputType())) {
+                resolve(dependency, path);
+            }
+            path.pop();
+        }
+        Optional<Conversion> previous = conversions.putIfAbsent(target, conversion);
+        return previous != null ? previous : conversion;
+    }
+
+    /**
+     * Returns the types in the type stack that a parsed value must be converted to.
+     * <p>
+     * Types that can hold a parsed value as it is, like String, List, or Object,
+     * never call for a converter and are left out.
+     */
+    private static List<ParameterType> dependencies(ParameterType type) {
+        List<? extends Class<?>> typeStack = type.typeStack();
+        List<ParameterType> dependencies = new ArrayList<>();
+        for (int i = 0; i < typeStack.size(); i++) {
+            if (!holdsParsedValue(typeStack.get(i))) {
+                dependencies.add(new ParameterType(typeStack.subList(i, typeStack.size())));
+            }
+        }
+        return dependencies;
+    }
+
+    private static boolean holdsParsedValue(Class<?> type) {
+        return type.isAssignableFrom(String.class)
+            || type.isAssignableFrom(List.class)
+            || type.isAssignableFrom(Set.class)
+            || type.isAssignableFrom(Map.class);
+    }
+
+    /**
+     * @return the types of the cycle in conversion order, starting and ending with the repeated type
+     */
+    private static List<Class<?>> cycleOf(Deque<Class<?>> path, Class<?> repeated) {
+        List<Class<?>> cycle = new ArrayList<>();
+        Iterator<Class<?>> outermostFirst = path.descendingIterator();
+        boolean inCycle = false;
+        while (outermostFirst.hasNext()) {
+            Class<?> type = outermostFirst.next();
+            inCycle |= type.equals(repeated);
+            if (inCycle) {
+                cycle.add(type);
+            }
+        }
+        cycle.add(repeated);
+        return cycle;
+    }
+
+    /**
+     * A type converter together with the type its parameter requires, read once from
+     * the converter's signature.
+     */
+    static final class Conversion {
+        private final Method converter;
+        private final ParameterType inputType;
+
+        private Conversion(Method converter) {
+            this.converter = converter;
+            this.inputType = ParameterType.of(converter.getParameters()[0]);
+        }
+
+        Method converter() {
+            return converter;
+        }
+
+        ParameterType inputType() {
+            return inputType;
+        }
+    }
+}
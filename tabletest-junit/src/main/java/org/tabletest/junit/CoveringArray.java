@@ -0,0 +1,199 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Generates covering arrays over value-set positions.
+ * <p>
+ * A covering array of strength t is a list of value combinations in which, for any t positions,
+ * every combination of their values occurs in at least one combination. Combinations are given
+ * as value indices, one per position.
+ * <p>
+ * Generation is greedy and deterministic: each new combination starts from the first uncovered
+ * t-tuple, and the remaining positions are filled in order with the value covering the most
+ * uncovered t-tuples, preferring the lowest value index on ties. The same sizes and strength
+ * therefore always produce the same combinations in the same order.
+ */
+public class CoveringArray {
+
+    private CoveringArray() {
+    }
+
+    /**
+     * Generates a covering array for positions with the given number of values each.
+     * <p>
+     * When the strength is not less than the number of positions, every combination is
+     * required, and the full Cartesian product is returned with the last position varying fastest.
+     *
+     * @param sizes    number of values at each position; each must be at least one
+     * @param strength number of positions whose value combinations must all be covered
+     * @return list of value-index combinations, one index per position
+     */
+    public static List<int[]> generate(int[] sizes, int strength) {
+        if (strength >= sizes.length) {
+            return cartesianProduct(sizes);
+        }
+        return new Generator(sizes, strength).generate();
+    }
+
+    private static List<int[]> cartesianProduct(int[] sizes) {
+        List<int[]> combinations = new ArrayList<>();
+        int[] current = new int[sizes.length];
+        while (true) {
+            combinations.add(current.clone());
+            int position = sizes.length - 1;
+            while (position >= 0 && ++current[position] == sizes[position]) {
+                current[position--] = 0;
+            }
+            if (position < 0) return combinations;
+        }
+    }
+
+    /**
+     * Holds the coverage bookkeeping for one generation run.
+     * <p>
+     * The t-tuples are grouped by the positions they span. Each group has a flag per value
+     * combination of its positions, indexed in mixed radix with the first position most significant.
+     */
+    private static class Generator {
+        private static final int UNASSIGNED = -1;
+
+        private final int[] sizes;
+        private final int[][] groups;
+        private final boolean[][] covered;
+        private final int[][] groupsByPosition;
+        private int uncovered;
+
+        Generator(int[] sizes, int strength) {
+            this.sizes = sizes;
+            this.groups = positionGroups(sizes.length, strength);
+            this.covered = new boolean[groups.length][];
+            for (int g = 0; g < groups.length; g++) {
+                int combinations = 1;
+                for (int position : groups[g]) combinations *= sizes[position];
+                covered[g] = new boolean[combinations];
+                uncovered += combinations;
+            }
+            this.groupsByPosition = groupsByPosition(sizes.length, groups);
+        }
+
+        List<int[]> generate() {
+            List<int[]> combinations = new ArrayList<>();
+            while (uncovered > 0) {
+                int[] combination = new int[sizes.length];
+                Arrays.fill(combination, UNASSIGNED);
+                assignFirstUncoveredTuple(combination);
+                for (int position = 0; position < sizes.length; position++) {
+                    if (combination[position] == UNASSIGNED) {
+                        combination[position] = bestValueAt(position, combination);
+                    }
+                }
+                markCovered(combination);
+                combinations.add(combination);
+            }
+            return combinations;
+        }
+
+        private void assignFirstUncoveredTuple(int[] combination) {
+            for (int g = 0; g < groups.length; g++) {
+                for (int index = 0; index < covered[g].length; index++) {
+                    if (!covered[g][index]) {
+                        int remainder = index;
+                        for (int i = groups[g].length - 1; i >= 0; i--) {
+                            int position = groups[g][i];
+                            combination[position] = remainder % sizes[position];
+                            remainder /= sizes[position];
+                        }
+                        return;
+                    }
+                }
+            }
+        }
+
+        private int bestValueAt(int position, int[] combination) {
+            int bestValue = 0;
+            int bestGain = -1;
+            for (int value = 0; value < sizes[position]; value++) {
+                combination[position] = value;
+                int gain = 0;
+                for (int g : groupsByPosition[position]) {
+                    int index = indexOf(g, combination);
+                    if (index >= 0 && !covered[g][index]) gain++;
+                }
+                if (gain > bestGain) {
+                    bestGain = gain;
+                    bestValue = value;
+                }
+            }
+            combination[position] = UNASSIGNED;
+            return bestValue;
+        }
+
+        private void markCovered(int[] combination) {
+            for (int g = 0; g < groups.length; g++) {
+                int index = indexOf(g, combination);
+                if (!covered[g][index]) {
+                    covered[g][index] = true;
+                    uncovered--;
+                }
+            }
+        }
+
+        /**
+         * @return the index of the combination's values in the group, or -1 if a position is unassigned
+         */
+        private int indexOf(int group, int[] combination) {
+            int index = 0;
+            for (int position : groups[group]) {
+                if (combination[position] == UNASSIGNED) return -1;
+                index = index * sizes[position] + combination[position];
+            }
+            return index;
+        }
+
+        /**
+         * @return every choice of {@code strength} positions out of {@code count}, in lexicographic order
+         */
+        private static int[][] positionGroups(int count, int strength) {
+            List<int[]> groups = new ArrayList<>();
+            int[] group = new int[strength];
+            for (int i = 0; i < strength; i++) group[i] = i;
+            while (true) {
+                groups.add(group.clone());
+                int i = strength - 1;
+                while (i >= 0 && group[i] == count - strength + i) i--;
+                if (i < 0) return groups.toArray(new int[0][]);
+                group[i]++;
+                for (int j = i + 1; j < strength; j++) group[j] = group[j - 1] + 1;
+            }
+        }
+
+        private static int[][] groupsByPosition(int count, int[][] groups) {
+            List<List<Integer>> byPosition = new ArrayList<>();
+            for (int position = 0; position < count; position++) byPosition.add(new ArrayList<>());
+            for (int g = 0; g < groups.length; g++) {
+                for (int position : groups[g]) byPosition.get(position).add(g);
+            }
+            return byPosition.stream()
+                .map(it -> it.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Runs a test method directly with the arguments of an invocation, outside JUnit's own invocation,
+ * for runs that are repeated around it.
+ * <p>
+ * The runs share the invocation's test instance and resolved arguments, and are not wrapped in
+ * lifecycle methods or in other extensions intercepting the invocation.
+ */
+final class DirectInvocation {
+
+    private DirectInvocation() {
+    }
+
+    /**
+     * Runs the test method of the invocation the given number of times.
+     *
+     * @param invocationContext the invocation of the test method
+     * @param times             the number of runs
+     * @throws Throwable the failure of a run, which stops further runs
+     */
+    static void run(ReflectiveInvocationContext<Method> invocationContext, long times) throws Throwable {
+        Method method = invocationContext.getExecutable();
+        Object target = invocationContext.getTarget().orElse(null);
+        Object[] arguments = invocationContext.getArguments().toArray();
+        method.setAccessible(true);
+        for (long i = 0; i < times; i++) {
+            invoke(method, target, arguments);
+        }
+    }
+
+    /**
+     * Runs an accessible test method once.
+     *
+     * @param method    the test method
+     * @param target    the test instance, or null for a static method
+     * @param arguments the arguments of the invocation
+     * @throws Throwable the failure of the run
+     */
+    static void invoke(Method method, Object target, Object[] arguments) throws Throwable {
+        try {
+            method.invoke(target, arguments);
+        } catch (InvocationTargetException failure) {
+            throw failure.getCause();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.tabletest.junit.TableTestException.durationOutOfRange;
+import static org.tabletest.junit.TableTestException.invalidDuration;
+
+/**
+ * Reads durations written as a number and a unit, like {@code 50ms} or {@code 1.5s}, or in ISO-8601
+ * form, like {@code PT0.05S}, and writes them back in the shortest fitting unit.
+ */
+final class DurationText {
+
+    private static final Pattern NUMBER_AND_UNIT = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*(ns|us|µs|ms|s|m|min|h)");
+
+    private DurationText() {
+    }
+
+    /**
+     * @param text duration as a number and unit, or in ISO-8601 form
+     * @return the duration, whole nanoseconds of which fit in a {@code long}
+     * @throws TableTestException if the text is not a duration, or the duration is too long
+     */
+    static Duration parse(String text) {
+        String trimmed = text.trim();
+        Matcher matcher = NUMBER_AND_UNIT.matcher(trimmed);
+        try {
+            if (matcher.matches()) {
+                BigDecimal nanos = new BigDecimal(matcher.group(1)).multiply(BigDecimal.valueOf(nanosPer(matcher.group(2))));
+                return Duration.ofNanos(nanos.setScale(0, RoundingMode.DOWN).longValueExact());
+            }
+            Duration duration = Duration.parse(trimmed.toUpperCase(Locale.ROOT));
+            duration.toNanos();
+            return duration;
+        } catch (DateTimeParseException cause) {
+            throw new TableTestException(invalidDuration(text), cause);
+        } catch (ArithmeticException cause) {
+            throw new TableTestException(durationOutOfRange(text), cause);
+        }
+    }
+
+    private static long nanosPer(String unit) {
+        switch (unit) {
+            case "ns":
+                return 1L;
+            case "us":
+            case "µs":
+                return 1_000L;
+            case "ms":
+                return 1_000_000L;
+            case "s":
+                return 1_000_000_000L;
+            case "m":
+            case "min":
+                return 60_000_000_000L;
+            default:
+                return 3_600_000_000_000L;
+        }
+    }
+
+    /**
+     * @param duration a duration
+     * @return the duration in milliseconds with up to three decimals, or in seconds from a minute up
+     */
+    static String format(Duration duration) {
+        long nanos = duration.toNanos();
+        return nanos < 60_000_000_000L
+            ? String.format(Locale.ROOT, "%.3f ms", nanos / 1_000_000.0)
+            : String.format(Locale.ROOT, "%.3f s", nanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.tabletest.junit.TableTestException.invalidConfigurationParameter;
+
+/**
+ * Counts the failed invocations of a {@link TableTest} method to stop running its table after a number of failures.
+ * <p>
+ * Set per table by {@link TableTest#failFast()}, or for all tables by the configuration parameter
+ * {@value #THRESHOLD_PROPERTY}. Once as many invocations as the threshold have failed, no more value set
+ * combinations of the current row are provided, and the remaining rows are provided without converting their
+ * cells or expanding their value sets, to be skipped.
+ */
+public class FailFast {
+
+    /**
+     * Configuration parameter setting the number of failed invocations after which the rest of a table is skipped,
+     * for tables that do not set {@link TableTest#failFast()}.
+     */
+    public static final String THRESHOLD_PROPERTY = "tabletest.fail.fast";
+
+    private static final FailFast NONE = new FailFast(0);
+
+    private final int threshold;
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private FailFast(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * @return fail-fast mode that never stops running a table
+     */
+    public static FailFast none() {
+        return NONE;
+    }
+
+    /**
+     * @param threshold number of failed invocations after which the rest of the table is skipped; must be positive
+     * @return fail-fast mode with the given threshold
+     */
+    public static FailFast after(int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Fail-fast threshold must be positive: " + threshold);
+        }
+        return new FailFast(threshold);
+    }
+
+    /**
+     * Resolves the fail-fast mode from the annotation value, falling back to the configuration parameter.
+     *
+     * @param threshold              threshold from the annotation, or zero
+     * @param configurationParameter lookup of configuration parameters by key
+     * @return the resolved fail-fast mode, or {@link #none()} if no positive threshold is set
+     * @throws TableTestException if the configuration parameter is not a valid number
+     */
+    static FailFast resolve(int threshold, Function<String, Optional<String>> configurationParameter) {
+        int resolvedThreshold = threshold > 0
+            ? threshold
+            : configurationParameter.apply(THRESHOLD_PROPERTY)
+                .map(FailFast::parse)
+                .orElse(0);
+        return resolvedThreshold > 0 ? after(resolvedThreshold) : none();
+    }
+
+    private static int parse(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException cause) {
+            throw new TableTestException(invalidConfigurationParameter(THRESHOLD_PROPERTY, value), cause);
+        }
+    }
+
+    public boolean isEnabled() {
+        return threshold > 0;
+    }
+
+    public int threshold() {
+        return threshold;
+    }
+
+    /**
+     * Records that an invocation failed.
+     */
+    void failed() {
+        if (isEnabled()) {
+            failures.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return true if as many invocations as the threshold have failed
+     */
+    boolean isTripped() {
+        return isEnabled() && failures.get() >= threshold;
+    }
+
+    /**
+     * Ends a row's invocations once the threshold is reached, so the value set combinations of the row
+     * that are not run yet are not provided.
+     *
+     * @param invocations the arguments of the invocations of one row
+     * @return the arguments provided until the threshold is reached
+     */
+    <T> Stream<T> untilTripped(Stream<T> invocations) {
+        if (!isEnabled()) return invocations;
+        Spliterator<T> source = invocations.spliterator();
+        return StreamSupport.stream(
+            new Spliterators.AbstractSpliterator<T>(source.estimateSize(), Spliterator.ORDERED) {
+                @Override
+                public boolean tryAdvance(Consumer<? super T> action) {
+                    return !isTripped() && source.tryAdvance(action);
+                }
+            },
+            false
+        ).onClose(invocations::close);
+    }
+
+    @Override
+    public String toString() {
+        return isEnabled() ? "FailFast[threshold=" + threshold + "]" : "FailFast[none]";
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+
+import static org.tabletest.junit.InvocationRows.invocationIndexOf;
+
+/**
+ * Reports failed invocations of a {@link TableTest} method to its {@link FailFast} mode, and skips the
+ * invocations not yet run once the number of failures reaches the threshold.
+ * <p>
+ * Does nothing unless fail-fast mode is enabled for the table.
+ */
+public class FailFastExtension implements ExecutionCondition, TestWatcher {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(FailFast.class);
+
+    private static final ConditionEvaluationResult RUN =
+        ConditionEvaluationResult.enabled("Failure threshold not reached");
+
+    /**
+     * Makes the fail-fast mode of a test method available to the invocations of the method.
+     *
+     * @param context  the extension context of the test method
+     * @param failFast the fail-fast mode of the test method
+     */
+    static void register(ExtensionContext context, FailFast failFast) {
+        if (failFast.isEnabled()) {
+            context.getStore(NAMESPACE).put(FailFast.class, failFast);
+        }
+    }
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        FailFast failFast = failFastOf(context);
+        if (failFast == null || invocationIndexOf(context) == 0 || !failFast.isTripped()) {
+            return RUN;
+        }
+        return ConditionEvaluationResult.disabled(
+            "Skipped after " + failFast.threshold() + " failed invocations (fail fast)"
+        );
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        FailFast failFast = failFastOf(context);
+        if (failFast != null) {
+            failFast.failed();
+        }
+    }
+
+    private static FailFast failFastOf(ExtensionContext context) {
+        return context.getStore(NAMESPACE).get(FailFast.class, FailFast.class);
+    }
+}
@@ -15,12 +15,13 @@
  */
 package org.tabletest.junit;
 
+import org.tabletest.parser.TableSource;
+
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 
-import static java.util.stream.Collectors.joining;
 import static org.tabletest.junit.TableTestException.externalTableNotFound;
 import static org.tabletest.junit.TableTestException.failedToReadExternalTable;
 
@@ -39,9 +40,28 @@ public class InputResolver {
      * @throws TableTestException if the resource cannot be found or read
      */
     public static String loadResource(String resource, String encoding, Class<?> testClass) {
+        return String.join("\n", readLines(resource, encoding, testClass));
+    }
+
+    /**
+     * Loads table data from an external resource file as a source of its lines.
+     * <p>
+     * The lines are read once and handed to the parser as they are, without being joined.
+     *
+     * @param resource  Path to the resource containing table data
+     * @param encoding  Character encoding to use when reading the file
+     * @param testClass Class to use for resource resolution
+     * @return Source of the lines of the resource
+     * @throws TableTestException if the resource cannot be found or read
+     */
+    static TableSource resourceSource(String resource, String encoding, Class<?> testClass) {
+        return TableSource.of(readLines(resource, encoding, testClass));
+    }
+
+    private static String[] readLines(String resource, String encoding, Class<?> testClass) {
         try (InputStream resourceAsStream = resolveResourceStream(resource, testClass)) {
             return new BufferedReader(new InputStreamReader(resourceAsStream, encoding))
-                .lines().collect(joining("\n"));
+                .lines().toArray(String[]::new);
         } catch (IOException cause) {
             throw new TableTestException(failedToReadExternalTable(resource, encoding), cause);
         }
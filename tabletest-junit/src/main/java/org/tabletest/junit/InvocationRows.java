@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Knows which table row each invocation of a {@link TableTest} method comes from.
+ * <p>
+ * The invocations are numbered in the order they are provided, which is the order JUnit numbers them
+ * in. Every invocation is registered, including those standing in for skipped rows, so the index JUnit
+ * gives an invocation finds its row. The result cache, timings, and costs look rows up here instead of
+ * counting invocations themselves.
+ * <p>
+ * The invocations of a row are provided together, so only the first invocation of each row is kept.
+ */
+final class InvocationRows {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(InvocationRows.class);
+    private static final String INVOCATION_SEGMENT = "[test-template-invocation:#";
+
+    private final AtomicInteger invocationCount = new AtomicInteger();
+    private final ConcurrentSkipListMap<Integer, Integer> rowsByFirstInvocation = new ConcurrentSkipListMap<>();
+    private volatile int lastRowIndex = -1;
+
+    /**
+     * Registers the next invocation provided.
+     *
+     * @param rowIndex zero-based position in the table of the row the invocation comes from
+     * @return one-based index of the invocation
+     */
+    int add(int rowIndex) {
+        int invocationIndex = invocationCount.incrementAndGet();
+        if (rowIndex != lastRowIndex) {
+            rowsByFirstInvocation.put(invocationIndex, rowIndex);
+            lastRowIndex = rowIndex;
+        }
+        return invocationIndex;
+    }
+
+    /**
+     * @param invocationIndex one-based index of an invocation
+     * @return zero-based position in the table of the invocation's row, or -1 if no such invocation was provided
+     */
+    int rowOf(int invocationIndex) {
+        if (invocationIndex <= 0 || invocationIndex > invocationCount.get()) {
+            return -1;
+        }
+        Map.Entry<Integer, Integer> first = rowsByFirstInvocation.floorEntry(invocationIndex);
+        return first == null ? -1 : first.getValue();
+    }
+
+    /**
+     * Makes the rows of the invocations of a test method available to the invocations of the method.
+     *
+     * @param context     the extension context of the test method
+     * @param invocations the rows of the invocations of the test method
+     */
+    static void register(ExtensionContext context, InvocationRows invocations) {
+        context.getStore(NAMESPACE).put(InvocationRows.class, invocations);
+    }
+
+    /**
+     * @param context the extension context of an invocation
+     * @return zero-based position in the table of the invocation's row, or -1 if the context is not an
+     * invocation of a {@link TableTest} method
+     */
+    static int rowIndexOf(ExtensionContext context) {
+        InvocationRows invocations = context.getStore(NAMESPACE).get(InvocationRows.class, InvocationRows.class);
+        return invocations == null ? -1 : invocations.rowOf(invocationIndexOf(context));
+    }
+
+    /**
+     * @return one-based index of the test template invocation, or 0 if the context is not an invocation
+     */
+    static int invocationIndexOf(ExtensionContext context) {
+        String uniqueId = context.getUniqueId();
+        int start = uniqueId.lastIndexOf(INVOCATION_SEGMENT);
+        if (start < 0) {
+            return 0;
+        }
+        int end = uniqueId.indexOf(']', start);
+        try {
+            return Integer.parseInt(uniqueId.substring(start + INVOCATION_SEGMENT.length(), end));
+        } catch (RuntimeException notAnIndex) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a column to the time budget of each row's invocation.
+ * <p>
+ * The cell holds a duration like {@code 50ms}, {@code 2s}, or {@code 1.5m}, using one of the units
+ * {@code ns}, {@code us}, {@code ms}, {@code s}, {@code m}, or {@code h}, or an ISO-8601 duration like
+ * {@code PT0.5S}. An invocation taking longer than its budget fails, reporting the time taken and the
+ * budget. An empty cell leaves the row without a budget. The parameter must be of type
+ * {@link java.time.Duration} or {@code String}.
+ * <p>
+ * Only the test method itself is timed. To keep one-time costs like class loading and JIT compilation
+ * out of the measurement, set {@link #warmups()} to run the method that many times before the timed run.
+ * <p>
+ * Warm-up runs call the test method directly, on the same test instance and with the same arguments as
+ * the timed run. They are not wrapped in {@code @BeforeEach} and {@code @AfterEach} methods, or in other
+ * extensions intercepting the invocation, like {@code @Timeout}. State the method leaves in the test
+ * instance or in its arguments is seen by the next run, so give warm-ups only to methods that can run
+ * repeatedly without a fresh setup.
+ * <p>
+ * Example:
+ * <pre>
+ * &#64;TableTest("""
+ *     Scenario     | Query            | Budget
+ *     Single match | name = 'Fred'    | 50ms
+ *     Full scan    | age &gt; 20         | 2s
+ *     """)
+ * void searches_within_budget(String query, &#64;MaxDuration(warmups = 3) Duration budget) { }
+ * </pre>
+ *
+ * @see TableTest
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MaxDuration {
+
+    /**
+     * @return the number of untimed runs of each invocation before the timed run
+     */
+    int warmups() default 0;
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.opentest4j.AssertionFailedError;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.time.Duration;
+
+/**
+ * Fails invocations of a {@link TableTest} method that take longer than the time budget
+ * given by their {@link MaxDuration} parameter.
+ * <p>
+ * Does nothing for test methods without a {@link MaxDuration} parameter, and for rows whose
+ * budget cell is empty.
+ */
+public class MaxDurationExtension implements InvocationInterceptor {
+
+    @Override
+    public void interceptTestTemplateMethod(
+        Invocation<Void> invocation,
+        ReflectiveInvocationContext<Method> invocationContext,
+        ExtensionContext extensionContext
+    ) throws Throwable {
+        Method method = invocationContext.getExecutable();
+        int budgetIndex = budgetIndexOf(method);
+        Object budgetArgument = budgetIndex < 0 ? null : invocationContext.getArguments().get(budgetIndex);
+        if (budgetArgument == null) {
+            invocation.proceed();
+            return;
+        }
+        MaxDuration maxDuration = method.getParameters()[budgetIndex].getAnnotation(MaxDuration.class);
+        Duration budget = budgetArgument instanceof Duration
+            ? (Duration) budgetArgument
+            : DurationText.parse(budgetArgument.toString());
+
+        DirectInvocation.run(invocationContext, maxDuration.warmups());
+        long start = System.nanoTime();
+        invocation.proceed();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        if (elapsed.compareTo(budget) > 0) {
+            throw new AssertionFailedError(String.format(
+                "Invocation took %s, exceeding its budget of %s given by @MaxDuration parameter %s%s",
+                DurationText.format(elapsed),
+                DurationText.format(budget),
+                method.getParameters()[budgetIndex].getName(),
+                maxDuration.warmups() > 0 ? " (timed after " + maxDuration.warmups() + " warm-up runs)" : ""
+            ));
+        }
+    }
+
+    /**
+     * @return the position of the parameter annotated with {@link MaxDuration}, or -1 if none
+     */
+    private static int budgetIndexOf(Method method) {
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].isAnnotationPresent(MaxDuration.class)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -19,13 +19,13 @@ import org.junit.jupiter.params.converter.ConvertWith;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Parameter;
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Collections.unmodifiableSet;
@@ -34,6 +34,7 @@ import static java.util.stream.Collectors.toList;
 import static org.tabletest.junit.ExplicitConverterDetector.hasExplicitConverter;
 import static org.tabletest.junit.TableTestException.primitiveTypeDoesNotAllowNull;
 import static org.tabletest.junit.TableTestException.unsupportedCollectionType;
+import static org.tabletest.junit.TableTestException.unsupportedMaxDurationType;
 
 /**
  * A utility class that handles conversion of parsed table values to the appropriate parameter types
@@ -82,7 +83,56 @@ public class ParameterTypeConverter {
             return null;
         }
 
-        return convert(value, parameterType, testClass, emptySet());
+        if (parameter.isAnnotationPresent(MaxDuration.class)) {
+            return convertMaxDuration(value, parameter);
+        }
+
+        return convert(value, parameterType, testClass);
+    }
+
+    /**
+     * Converts the cell of a {@link MaxDuration} parameter, read as a duration like {@code 50ms}
+     * rather than by the usual conversion of {@link Duration}.
+     * <p>
+     * A value set is converted element by element, to be expanded into one invocation per budget.
+     *
+     * @param value     The parsed value of the cell
+     * @param parameter The {@link MaxDuration}-annotated parameter
+     * @return The duration, or the cell text for a String parameter, or a set of these for a value set
+     * @throws TableTestException if the parameter type is not supported or the cell is not a duration
+     */
+    private static Object convertMaxDuration(Object value, Parameter parameter) {
+        if (value instanceof Set<?>) {
+            return ((Set<?>) value).stream()
+                .map(element -> element == null ? null : convertMaxDuration(element, parameter))
+                .collect(toCollection(LinkedHashSet::new));
+        }
+        if (parameter.getType() == String.class) {
+            return value.toString();
+        }
+        if (parameter.getType() != Duration.class) {
+            throw new TableTestException(unsupportedMaxDurationType(parameter));
+        }
+        return DurationText.parse(value.toString());
+    }
+
+    /**
+     * Resolves the type conversions of the parameters before any value is converted.
+     * <p>
+     * Resolving a parameter type builds the part of the test class's {@link ConverterGraph}
+     * it depends on, so a type converter cycle fails the table up front rather than failing
+     * each row that runs into it.
+     *
+     * @param parameters The test method parameters that receive table values
+     * @throws TableTestException if the type converters for a parameter form a cycle
+     */
+    static void resolveConversions(List<Parameter> parameters) {
+        for (Parameter parameter : parameters) {
+            if (!hasExplicitConverter(parameter)) {
+                ConverterGraph.of(parameter.getDeclaringExecutable().getDeclaringClass())
+                    .resolveAll(ParameterType.of(parameter));
+            }
+        }
     }
 
     /**
@@ -94,33 +144,30 @@ public class ParameterTypeConverter {
      * @return The converted value
      */
     public static Object convert(Object value, Parameter parameter, Class<?> testClass) {
-        return convert(value, ParameterType.of(parameter), testClass, emptySet());
+        return convert(value, ParameterType.of(parameter), testClass);
     }
 
     /**
      * Recursively converts values based on their parsed type and the expected parameter type.
      *
-     * @param value             The parsed value to convert
-     * @param targetType        Information about the target parameter type
-     * @param testClass         The test class to search for factory methods
-     * @param convertingTargets Target types whose converter input is currently being resolved,
-     *                          used to detect converter cycles
+     * @param value      The parsed value to convert
+     * @param targetType Information about the target parameter type
+     * @param testClass  The test class to search for factory methods
      * @return The converted value
      */
     private static Object convert(
         Object value,
         ParameterType targetType,
-        Class<?> testClass,
-        Set<Class<?>> convertingTargets
+        Class<?> testClass
     ) {
         if (targetType.isArray() && value instanceof List<?>) {
-            return convertArray((List<?>) value, targetType, testClass, convertingTargets);
+            return convertArray((List<?>) value, targetType, testClass);
         }
 
         if (targetType.isMatching(value.getClass())) {
-            if (value instanceof List<?>) return convertList((List<?>) value, targetType, testClass, convertingTargets);
-            if (value instanceof Set<?>) return convertSet((Set<?>) value, targetType, testClass, convertingTargets);
-            if (value instanceof Map<?, ?>) return convertMap((Map<?, ?>) value, targetType, testClass, convertingTargets);
+            if (value instanceof List<?>) return convertList((List<?>) value, targetType, testClass);
+            if (value instanceof Set<?>) return convertSet((Set<?>) value, targetType, testClass);
+            if (value instanceof Map<?, ?>) return convertMap((Map<?, ?>) value, targetType, testClass);
             return value;
         }
 
@@ -128,15 +175,16 @@ public class ParameterTypeConverter {
             value,
             targetType,
             testClass,
-            convertingTargets,
-            (Parameter parameter, Set<Class<?>> nowConverting) ->
-                convert(value, ParameterType.of(parameter), testClass, nowConverting)
+            inputType -> convert(value, inputType, testClass)
         );
     }
 
     /**
      * Converts a list to an array of the appropriate component type, recursively converting
      * each element.
+     * <p>
+     * Arrays of a primitive type without a type converter are filled by parsing the element text
+     * directly into the array, without boxing each element.
      *
      * @param list          The parsed list containing values to convert
      * @param parameterType Information about the target array type
@@ -146,8 +194,7 @@ public class ParameterTypeConverter {
     private static Object convertArray(
         List<?> list,
         ParameterType parameterType,
-        Class<?> testClass,
-        Set<Class<?>> convertingTargets
+        Class<?> testClass
     ) {
         ParameterType elementType = parameterType.elementType();
         Class<?> arrayType = parameterType.toClass();
@@ -156,9 +203,23 @@ public class ParameterTypeConverter {
         }
 
         Class<?> componentType = arrayType.getComponentType();
+        if (!componentType.isPrimitive()) {
+            Object[] result = (Object[]) Array.newInstance(componentType, list.size());
+            for (int i = 0; i < result.length; i++) {
+                result[i] = convert(list.get(i), elementType, testClass);
+            }
+            return result;
+        }
+        if (list.isEmpty() || !TypeConversion.hasTypeConverter(elementType, testClass)) {
+            return PrimitiveArrays.of(
+                list,
+                componentType,
+                element -> convert(element, elementType, testClass)
+            );
+        }
         Object result = Array.newInstance(componentType, list.size());
         for (int i = 0; i < list.size(); i++) {
-            Array.set(result, i, convert(list.get(i), elementType, testClass, convertingTargets));
+            Array.set(result, i, convert(list.get(i), elementType, testClass));
         }
         return result;
     }
@@ -175,14 +236,13 @@ public class ParameterTypeConverter {
     private static List<?> convertList(
         List<?> list,
         ParameterType parameterType,
-        Class<?> testClass,
-        Set<Class<?>> convertingTargets
+        Class<?> testClass
     ) {
         requireAssignableFrom(List.class, parameterType);
         ParameterType elementType = parameterType.elementType();
         return unmodifiableList(
             list.stream()
-                .map(it -> convert(it, elementType, testClass, convertingTargets))
+                .map(it -> convert(it, elementType, testClass))
                 .collect(toList())
         );
     }
@@ -199,8 +259,7 @@ public class ParameterTypeConverter {
     private static Set<?> convertSet(
         Set<?> set,
         ParameterType parameterType,
-        Class<?> testClass,
-        Set<Class<?>> convertingTargets
+        Class<?> testClass
     ) {
         // if this is a value set, the parameter type will be the element type
         if (parameterType.isSet()) {
@@ -209,7 +268,7 @@ public class ParameterTypeConverter {
         ParameterType elementType = parameterType.isSet() ? parameterType.elementType() : parameterType;
 
         LinkedHashSet<Object> convertedSet = set.stream()
-            .map(it -> convert(it, elementType, testClass, convertingTargets))
+            .map(it -> convert(it, elementType, testClass))
             .collect(toCollection(LinkedHashSet::new));
 
         return unmodifiableSet(convertedSet);
@@ -244,14 +303,13 @@ public class ParameterTypeConverter {
     private static Map<?, ?> convertMap(
         Map<?, ?> map,
         ParameterType parameterType,
-        Class<?> testClass,
-        Set<Class<?>> convertingTargets
+        Class<?> testClass
     ) {
         requireAssignableFrom(Map.class, parameterType);
         ParameterType elementType = parameterType.elementType();
         LinkedHashMap<Object, Object> result = new LinkedHashMap<>();
         for (Map.Entry<?, ?> entry : map.entrySet()) {
-            result.put(entry.getKey(), convert(entry.getValue(), elementType, testClass, convertingTargets));
+            result.put(entry.getKey(), convert(entry.getValue(), elementType, testClass));
         }
         return unmodifiableMap(result);
     }
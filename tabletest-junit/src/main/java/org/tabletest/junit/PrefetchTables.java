@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Loads and parses the tables of all {@link TableTest} methods of the annotated test class
+ * in the background when the class starts.
+ * <p>
+ * Tables given by {@link TableTest#value()} or {@link TableTest#resource()} are read and parsed
+ * concurrently, so resource I/O and parsing overlap with running the earlier test methods of the
+ * class. Each method is then provided its arguments from the table prepared for it. Values are
+ * still converted when the method's arguments are provided.
+ * <p>
+ * A table that fails to load or parse fails only its own test method, with the same error as
+ * without prefetching. Applies to {@code @Nested} test classes of an annotated class as well.
+ * <p>
+ * Example:
+ * <pre>
+ * &#64;PrefetchTables
+ * class ManyTableTests { }
+ * </pre>
+ *
+ * @see TableTest
+ */
+@Target({ElementType.ANNOTATION_TYPE, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(TablePrefetchExtension.class)
+public @interface PrefetchTables {
+
+    /**
+     * Maximum number of tables loaded at the same time. Zero, the default, uses the number of
+     * available processors.
+     *
+     * @return the number of threads loading tables
+     */
+    int parallelism() default 0;
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import java.lang.reflect.Array;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Builds primitive arrays from parsed list elements without boxing.
+ * <p>
+ * Element text is parsed straight into the array slot using the same rules as scalar conversion
+ * of the primitive type. An element this cannot parse directly — such as a number in hexadecimal
+ * or octal notation, or a value that is not text — is converted by the given element converter
+ * instead and stored reflectively, so results and failures are the same as for scalar values.
+ */
+final class PrimitiveArrays {
+
+    private PrimitiveArrays() {
+    }
+
+    /**
+     * @param list             parsed elements
+     * @param componentType    primitive component type of the array
+     * @param elementConverter converter for elements that cannot be parsed directly
+     * @return new array of the component type holding the converted elements
+     */
+    static Object of(List<?> list, Class<?> componentType, Function<Object, Object> elementConverter) {
+        int size = list.size();
+        if (componentType == int.class) {
+            int[] array = new int[size];
+            for (int i = 0; i < size; i++) {
+                String text = decimalText(list.get(i));
+                if (text != null && isIntegerLength(text, 9)) array[i] = Integer.parseInt(text);
+                else Array.set(array, i, elementConverter.apply(list.get(i)));
+            }
+            return array;
+        }
+        if (componentType == long.class) {
+            long[] array = new long[size];
+            for (int i = 0; i < size; i++) {
+                String text = decimalText(list.get(i));
+                if (text != null && isIntegerLength(text, 18)) array[i] = Long.parseLong(text);
+                else Array.set(array, i, elementConverter.apply(list.get(i)));
+            }
+            return array;
+        }
+        if (componentType == double.class) {
+            double[] array = new double[size];
+            for (int i = 0; i < size; i++) {
+                String text = floatingPointText(list.get(i));
+                if (text != null) array[i] = Double.parseDouble(text);
+                else Array.set(array, i, elementConverter.apply(list.get(i)));
+            }
+            return array;
+        }
+        if (componentType == float.class) {
+            float[] array = new float[size];
+            for (int i = 0; i < size; i++) {
+                String text = floatingPointText(list.get(i));
+                if (text != null) array[i] = Float.parseFloat(text);
+                else Array.set(array, i, elementConverter.apply(list.get(i)));
+            }
+            return array;
+        }
+        if (componentType == short.class) {
+            short[] array = new short[size];
+            for (int i = 0; i < size; i++) {
+                String text = decimalText(list.get(i));
+                if (text != null && isIntegerLength(text, 4)) array[i] = Short.parseShort(text);
+                else Array.set(array, i, elementConverter.apply(list.get(i)));
+            }
+            return array;
+        }
+        if (componentType == byte.class) {
+            byte[] array = new byte[size];
+            for (int i = 0; i < size; i++) {
+                String text = decimalText(list.get(i));
+                if (text != null && isIntegerLength(text, 2)) array[i] = Byte.parseByte(text);
+                else Array.set(array, i, elementConverter.apply(list.get(i)));
+            }
+            return array;
+        }
+        if (componentType == boolean.class) {
+            boolean[] array = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                Object element = list.get(i);
+                if ("true".equals(element)) array[i] = true;
+                else if (!"false".equals(element)) Array.set(array, i, elementConverter.apply(element));
+            }
+            return array;
+        }
+        if (componentType == char.class) {
+            char[] array = new char[size];
+            for (int i = 0; i < size; i++) {
+                Object element = list.get(i);
+                if (element instanceof String && ((String) element).length() == 1) array[i] = ((String) element).charAt(0);
+                else Array.set(array, i, elementConverter.apply(element));
+            }
+            return array;
+        }
+        throw new IllegalArgumentException("Not a primitive type: " + componentType);
+    }
+
+    /**
+     * Returns the element as text if it is a plain decimal integer: an optional sign followed by
+     * digits, without a leading zero that would make it octal. Underscores between digits are removed.
+     *
+     * @return the text to parse, or null if the element is not a plain decimal integer
+     */
+    private static String decimalText(Object element) {
+        if (!(element instanceof String)) return null;
+        String text = withoutUnderscores((String) element);
+        int start = text.startsWith("-") || text.startsWith("+") ? 1 : 0;
+        if (text.length() == start) return null;
+        if (text.charAt(start) == '0' && text.length() > start + 1) return null;
+        for (int i = start; i < text.length(); i++) {
+            if (!isDigit(text.charAt(i))) return null;
+        }
+        return text;
+    }
+
+    /**
+     * @return true if the digits cannot overflow a type holding any number of the given digit count
+     */
+    private static boolean isIntegerLength(String decimalText, int safeDigits) {
+        int sign = isDigit(decimalText.charAt(0)) ? 0 : 1;
+        return decimalText.length() - sign <= safeDigits;
+    }
+
+    /**
+     * Returns the element as text if it is a plain decimal floating point number: an optional sign,
+     * digits with at most one decimal point, and an optional exponent. Underscores are removed.
+     *
+     * @return the text to parse, or null if the element is not a plain decimal number
+     */
+    private static String floatingPointText(Object element) {
+        if (!(element instanceof String)) return null;
+        String text = withoutUnderscores((String) element);
+        int i = text.startsWith("-") || text.startsWith("+") ? 1 : 0;
+        int digits = 0;
+        boolean point = false;
+        for (; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isDigit(c)) digits++;
+            else if (c == '.' && !point) point = true;
+            else break;
+        }
+        if (digits == 0) return null;
+        if (i < text.length() && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            i++;
+            if (i < text.length() && (text.charAt(i) == '-' || text.charAt(i) == '+')) i++;
+            int exponentDigits = 0;
+            for (; i < text.length() && isDigit(text.charAt(i)); i++) exponentDigits++;
+            if (exponentDigits == 0) return null;
+        }
+        return i == text.length() ? text : null;
+    }
+
+    private static String withoutUnderscores(String text) {
+        return text.indexOf('_') < 0 ? text : text.replace("_", "");
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
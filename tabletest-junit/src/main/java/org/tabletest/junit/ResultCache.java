@@ -0,0 +1,336 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import org.junit.jupiter.params.provider.Arguments;
+import org.tabletest.parser.Table;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Remembers which rows of a table passed, so rows that have not changed since are not run again.
+ * <p>
+ * Opt-in with the configuration parameter {@value #ENABLED_PROPERTY}{@code =true}. Each row is keyed
+ * by a hash of its cells, the header row, and how value sets are expanded, together with a
+ * fingerprint of the bytecode of the test class, its enclosing and super classes, and the classes
+ * searched for type converters. A row whose key was recorded as passing is provided as a single
+ * invocation that is skipped as unchanged, without converting its cells or running the test.
+ * <p>
+ * After the test method has run, the keys of rows whose invocations all passed are written to a file
+ * per test method in the directory set by {@value #DIRECTORY_PROPERTY}, by default
+ * {@value #DEFAULT_DIRECTORY}. Any failing invocation discards every recorded row of the test method,
+ * and a change to a row or to the fingerprinted classes changes the keys, so such rows run again.
+ * <p>
+ * Only code in the fingerprinted classes is taken into account. The cache suits tests whose outcome
+ * depends on nothing but their row and that code; clean the directory when code they call changes.
+ */
+public class ResultCache implements AutoCloseable {
+
+    /**
+     * Configuration parameter enabling the cache when set to {@code true}.
+     */
+    public static final String ENABLED_PROPERTY = "tabletest.results.cache";
+
+    /**
+     * Configuration parameter setting the directory of the cache.
+     */
+    public static final String DIRECTORY_PROPERTY = "tabletest.results.cache.directory";
+
+    /**
+     * Directory of the cache when {@link #DIRECTORY_PROPERTY} is not set.
+     */
+    public static final String DEFAULT_DIRECTORY = "target/tabletest-results";
+
+    private static final ResultCache NONE = new ResultCache(null, "", Collections.emptySet());
+
+    private final Path file;
+    private final String fingerprint;
+    private final Set<String> recordedKeys;
+    private final Set<String> unchangedKeys = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> unchangedRows = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, String> keysByRow = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> invocationsByKey = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> passesByKey = new ConcurrentHashMap<>();
+    private volatile boolean failed;
+
+    private ResultCache(Path file, String fingerprint, Set<String> recordedKeys) {
+        this.file = file;
+        this.fingerprint = fingerprint;
+        this.recordedKeys = recordedKeys;
+    }
+
+    /**
+     * @return cache that records nothing and runs every row
+     */
+    public static ResultCache none() {
+        return NONE;
+    }
+
+    /**
+     * Resolves the cache for a test method from configuration parameters, loading the rows
+     * recorded as passing by an earlier run.
+     *
+     * @param testMethod             the test method
+     * @param configurationParameter lookup of configuration parameters by key
+     * @return the cache for the test method, or {@link #none()} if the cache is not enabled
+     */
+    static ResultCache resolve(Method testMethod, Function<String, Optional<String>> configurationParameter) {
+        boolean enabled = configurationParameter.apply(ENABLED_PROPERTY)
+            .map(it -> Boolean.parseBoolean(it.trim()))
+            .orElse(false);
+        if (!enabled) {
+            return none();
+        }
+        Path directory = Paths.get(configurationParameter.apply(DIRECTORY_PROPERTY).orElse(DEFAULT_DIRECTORY).trim());
+        Path file = directory
+            .resolve(testMethod.getDeclaringClass().getName())
+            .resolve(fileNameOf(testMethod) + ".txt");
+        return new ResultCache(file, fingerprint(testMethod), load(file));
+    }
+
+    public boolean isEnabled() {
+        return file != null;
+    }
+
+    /**
+     * Computes the key of a table row.
+     *
+     * @param table     the parsed table
+     * @param rowIndex  zero-based position of the row in the table
+     * @param expansion the strategy for combining values of several value sets
+     * @param sampling  the selection of value set combinations to run
+     * @return the key of the row, or null if the cache is not enabled
+     */
+    String rowKey(Table table, int rowIndex, ValueSetExpansion expansion, ValueSetSampling sampling) {
+        if (!isEnabled()) {
+            return null;
+        }
+        return hash(fingerprint
+            + '\n' + expansion
+            + '\n' + sampling + (sampling.isEnabled() ? "@" + rowIndex : "")
+            + '\n' + table.headers()
+            + '\n' + table.row(rowIndex).values());
+    }
+
+    /**
+     * @param rowKey key of a row
+     * @return true if the row passed in an earlier run and has not changed since
+     */
+    boolean hasPassed(String rowKey) {
+        return rowKey != null && recordedKeys.contains(rowKey);
+    }
+
+    /**
+     * Registers a row that is skipped as unchanged.
+     *
+     * @param rowIndex  zero-based position of the row in the table
+     * @param rowKey    key of the row
+     * @param arguments arguments of the invocation standing in for the row
+     * @return the arguments
+     */
+    Arguments unchanged(int rowIndex, String rowKey, Arguments arguments) {
+        unchangedKeys.add(rowKey);
+        unchangedRows.add(rowIndex);
+        return arguments;
+    }
+
+    /**
+     * Registers an invocation of a row that is run, to learn the outcome of the row.
+     *
+     * @param rowIndex  zero-based position of the row in the table
+     * @param rowKey    key of the row, or null if the cache is not enabled
+     * @param arguments arguments of the invocation
+     * @return the arguments
+     */
+    Arguments track(int rowIndex, String rowKey, Arguments arguments) {
+        if (rowKey != null) {
+            keysByRow.put(rowIndex, rowKey);
+            invocationsByKey.computeIfAbsent(rowKey, it -> new AtomicInteger()).incrementAndGet();
+        }
+        return arguments;
+    }
+
+    /**
+     * @param rowIndex zero-based position of a row in the table
+     * @return true if the row is skipped as unchanged
+     */
+    boolean isUnchanged(int rowIndex) {
+        return unchangedRows.contains(rowIndex);
+    }
+
+    /**
+     * Records that an invocation of a row passed.
+     *
+     * @param rowIndex zero-based position of the invocation's row in the table
+     */
+    void passed(int rowIndex) {
+        String rowKey = keysByRow.get(rowIndex);
+        if (rowKey != null) {
+            passesByKey.computeIfAbsent(rowKey, it -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    /**
+     * Records that an invocation failed, discarding every recorded row of the test method.
+     */
+    void failed() {
+        failed = true;
+    }
+
+    /**
+     * Writes the keys of the rows that passed or were skipped as unchanged, replacing those of
+     * earlier runs, or deletes the recorded rows if an invocation failed.
+     */
+    @Override
+    public void close() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            if (failed) {
+                Files.deleteIfExists(file);
+                return;
+            }
+            Set<String> passingKeys = new LinkedHashSet<>(unchangedKeys);
+            invocationsByKey.forEach((rowKey, invocations) -> {
+                AtomicInteger passes = passesByKey.get(rowKey);
+                if (passes != null && passes.get() == invocations.get()) {
+                    passingKeys.add(rowKey);
+                }
+            });
+            Files.createDirectories(file.getParent());
+            Path written = Files.write(
+                Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp"),
+                passingKeys,
+                StandardCharsets.UTF_8
+            );
+            Files.move(written, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException cause) {
+            warn("Could not record passing rows in " + file, cause);
+        }
+    }
+
+    private static Set<String> load(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Collections.emptySet();
+        }
+        try {
+            return Collections.unmodifiableSet(new HashSet<>(Files.readAllLines(file, StandardCharsets.UTF_8)));
+        } catch (IOException cause) {
+            warn("Could not read passing rows from " + file, cause);
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * Hashes the bytecode of the classes that decide how the rows of the test method are converted
+     * and run: the class declaring the test method, the test class search path for type converters,
+     * and their super classes.
+     */
+    private static String fingerprint(Method testMethod) {
+        StringBuilder builder = new StringBuilder(testMethod.toGenericString());
+        Set<Class<?>> visited = new HashSet<>();
+        Stream.concat(
+                Stream.of(testMethod.getDeclaringClass()),
+                TypeConversion.typeConverterSearchPath(testMethod.getDeclaringClass())
+            )
+            .forEach(it -> {
+                for (Class<?> type = it; type != null && visited.add(type); type = type.getSuperclass()) {
+                    builder.append('\n').append(type.getName()).append(':').append(hash(bytecodeOf(type)));
+                }
+            });
+        return hash(builder.toString());
+    }
+
+    private static byte[] bytecodeOf(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        if (classLoader == null) {
+            return new byte[0];
+        }
+        try (InputStream input = classLoader.getResourceAsStream(type.getName().replace('.', '/') + ".class")) {
+            if (input == null) {
+                return new byte[0];
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int read; (read = input.read(buffer)) > 0; ) {
+                bytes.write(buffer, 0, read);
+            }
+            return bytes.toByteArray();
+        } catch (IOException cause) {
+            return new byte[0];
+        }
+    }
+
+    /**
+     * Names the files TableTest writes per test method, telling overloaded methods apart by a hash of
+     * the method signature.
+     *
+     * @param testMethod the test method
+     * @return the method name followed by the first 12 hex digits of the SHA-256 hash of its signature
+     */
+    static String fileNameOf(Method testMethod) {
+        return testMethod.getName() + "-" + hash(testMethod.toGenericString()).substring(0, 12);
+    }
+
+    /**
+     * @return hex SHA-256 hash of the text
+     */
+    static String hash(String text) {
+        return hash(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(bytes)) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException cause) {
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static void warn(String message, IOException cause) {
+        System.err.printf("[TableTest] Warning: %s: %s%n", message, cause);
+    }
+
+    @Override
+    public String toString() {
+        return isEnabled() ? "ResultCache[" + file + "]" : "ResultCache[none]";
+    }
+}
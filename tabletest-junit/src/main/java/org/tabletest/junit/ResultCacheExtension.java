@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+
+import java.util.Optional;
+
+import static org.tabletest.junit.InvocationRows.rowIndexOf;
+
+/**
+ * Skips the invocations standing in for unchanged rows and reports the outcome of the other
+ * invocations of a {@link TableTest} method to its {@link ResultCache}.
+ * <p>
+ * Does nothing unless the cache is enabled.
+ */
+public class ResultCacheExtension implements ExecutionCondition, TestWatcher {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(ResultCache.class);
+
+    private static final ConditionEvaluationResult RUN =
+        ConditionEvaluationResult.enabled("Row is not recorded as passing");
+
+    /**
+     * Makes the cache of a test method available to the invocations of the method.
+     * The cache records its rows when the method's extension context is closed.
+     *
+     * @param context the extension context of the test method
+     * @param cache   the cache of the test method
+     */
+    static void register(ExtensionContext context, ResultCache cache) {
+        if (cache.isEnabled()) {
+            context.getStore(NAMESPACE).put(ResultCache.class, cache);
+        }
+    }
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        int rowIndex = rowIndexOf(context);
+        return cacheOf(context)
+            .filter(cache -> rowIndex >= 0 && cache.isUnchanged(rowIndex))
+            .map(cache -> ConditionEvaluationResult.disabled("Row unchanged since it last passed"))
+            .orElse(RUN);
+    }
+
+    @Override
+    public void testSuccessful(ExtensionContext context) {
+        cacheOf(context).ifPresent(cache -> cache.passed(rowIndexOf(context)));
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        cacheOf(context).ifPresent(ResultCache::failed);
+    }
+
+    private static Optional<ResultCache> cacheOf(ExtensionContext context) {
+        return Optional.ofNullable(context.getStore(NAMESPACE).get(ResultCache.class, ResultCache.class));
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import org.tabletest.parser.Table;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Remembers how long the rows of a table took to run, to provide the slowest rows first in later runs.
+ * <p>
+ * Opt-in with the configuration parameter {@value #ENABLED_PROPERTY}{@code =true}. Each row is keyed by
+ * a hash of its cells, the header row, and how value sets are expanded, and its cost is the wall time
+ * of its slowest invocation. Rows are provided in longest-processing-time-first order: rows without a
+ * recorded cost first, in table order, then the other rows from the most to the least costly. With
+ * JUnit's parallel execution, this keeps a slow row from starting last and holding up the end of a run.
+ * <p>
+ * After the test method has run, the costs of the rows in its table are written to a file per test
+ * method in the directory set by {@value #DIRECTORY_PROPERTY}, by default {@value #DEFAULT_DIRECTORY}.
+ * Rows that did not run keep the cost recorded earlier.
+ */
+public class RowCosts implements AutoCloseable {
+
+    /**
+     * Configuration parameter enabling ordering by cost when set to {@code true}.
+     */
+    public static final String ENABLED_PROPERTY = "tabletest.order.by.cost";
+
+    /**
+     * Configuration parameter setting the directory of the recorded costs.
+     */
+    public static final String DIRECTORY_PROPERTY = "tabletest.order.by.cost.directory";
+
+    /**
+     * Directory of the recorded costs when {@link #DIRECTORY_PROPERTY} is not set.
+     */
+    public static final String DEFAULT_DIRECTORY = "target/tabletest-costs";
+
+    private static final RowCosts NONE = new RowCosts(null, Collections.emptyMap());
+
+    private final Path file;
+    private final Map<String, Long> recordedCosts;
+    private final Set<String> tableKeys = Collections.synchronizedSet(new LinkedHashSet<>());
+    private final Map<Integer, String> keysByRow = new ConcurrentHashMap<>();
+    private final Map<String, Long> measuredCosts = new ConcurrentHashMap<>();
+
+    private RowCosts(Path file, Map<String, Long> recordedCosts) {
+        this.file = file;
+        this.recordedCosts = recordedCosts;
+    }
+
+    /**
+     * @return costs that record nothing and keep rows in table order
+     */
+    public static RowCosts none() {
+        return NONE;
+    }
+
+    /**
+     * Resolves the costs for a test method from configuration parameters, loading the costs
+     * recorded by an earlier run.
+     *
+     * @param testMethod             the test method
+     * @param configurationParameter lookup of configuration parameters by key
+     * @return the costs for the test method, or {@link #none()} if ordering by cost is not enabled
+     */
+    static RowCosts resolve(Method testMethod, Function<String, Optional<String>> configurationParameter) {
+        boolean enabled = configurationParameter.apply(ENABLED_PROPERTY)
+            .map(it -> Boolean.parseBoolean(it.trim()))
+            .orElse(false);
+        if (!enabled) {
+            return none();
+        }
+        Path directory = Paths.get(configurationParameter.apply(DIRECTORY_PROPERTY).orElse(DEFAULT_DIRECTORY).trim());
+        Path file = directory
+            .resolve(testMethod.getDeclaringClass().getName())
+            .resolve(ResultCache.fileNameOf(testMethod) + ".txt");
+        return new RowCosts(file, load(file));
+    }
+
+    public boolean isEnabled() {
+        return file != null;
+    }
+
+    /**
+     * Orders the rows of a table by their recorded cost, rows without a recorded cost first.
+     *
+     * @param table     the parsed table
+     * @param expansion the strategy for combining values of several value sets
+     * @return the zero-based positions of the rows in the order to provide them
+     */
+    Stream<Integer> order(Table table, ValueSetExpansion expansion) {
+        Stream<Integer> rowIndexes = IntStream.range(0, table.rowCount()).boxed();
+        if (!isEnabled()) {
+            return rowIndexes;
+        }
+        List<String> keys = new ArrayList<>();
+        for (int index = 0; index < table.rowCount(); index++) {
+            keys.add(rowKey(table, index, expansion));
+        }
+        tableKeys.addAll(keys);
+        Comparator<Integer> longestFirst = Comparator.comparingLong(index -> {
+            Long cost = recordedCosts.get(keys.get(index));
+            return cost == null ? Long.MIN_VALUE : -cost;
+        });
+        return rowIndexes.sorted(longestFirst);
+    }
+
+    /**
+     * Computes the key of a table row.
+     *
+     * @param table     the parsed table
+     * @param rowIndex  zero-based position of the row in the table
+     * @param expansion the strategy for combining values of several value sets
+     * @return the key of the row, or null if ordering by cost is not enabled
+     */
+    String rowKey(Table table, int rowIndex, ValueSetExpansion expansion) {
+        if (!isEnabled()) {
+            return null;
+        }
+        return ResultCache.hash(expansion + "\n" + table.headers() + '\n' + table.row(rowIndex).values());
+    }
+
+    /**
+     * Registers a row that is run, to learn its cost. Rows skipped as unchanged are not registered
+     * and keep their recorded cost.
+     *
+     * @param rowIndex zero-based position of the row in the table
+     * @param rowKey   key of the row, or null if ordering by cost is not enabled
+     */
+    void track(int rowIndex, String rowKey) {
+        if (rowKey != null) {
+            keysByRow.put(rowIndex, rowKey);
+        }
+    }
+
+    /**
+     * Records the wall time of an invocation as the cost of its row, unless the row has a slower invocation.
+     *
+     * @param rowIndex zero-based position of the invocation's row in the table
+     * @param nanos    wall time of the invocation in nanoseconds
+     */
+    void record(int rowIndex, long nanos) {
+        String rowKey = keysByRow.get(rowIndex);
+        if (rowKey != null) {
+            measuredCosts.merge(rowKey, nanos, Math::max);
+        }
+    }
+
+    /**
+     * Writes the costs of the rows of the table, replacing those of earlier runs.
+     */
+    @Override
+    public void close() {
+        if (!isEnabled() || tableKeys.isEmpty()) {
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        synchronized (tableKeys) {
+            for (String rowKey : tableKeys) {
+                Long cost = measuredCosts.containsKey(rowKey) ? measuredCosts.get(rowKey) : recordedCosts.get(rowKey);
+                if (cost != null) {
+                    lines.add(rowKey + " " + cost);
+                }
+            }
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Path written = Files.write(
+                Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp"),
+                lines,
+                StandardCharsets.UTF_8
+            );
+            Files.move(written, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException cause) {
+            System.err.printf("[TableTest] Warning: Could not record row costs in %s: %s%n", file, cause);
+        }
+    }
+
+    private static Map<String, Long> load(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Collections.emptyMap();
+        }
+        Map<String, Long> costs = new HashMap<>();
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                int separator = line.indexOf(' ');
+                if (separator > 0) {
+                    costs.put(line.substring(0, separator), Long.parseLong(line.substring(separator + 1).trim()));
+                }
+            }
+        } catch (IOException | NumberFormatException cause) {
+            System.err.printf("[TableTest] Warning: Could not read row costs from %s: %s%n", file, cause);
+            return Collections.emptyMap();
+        }
+        return costs;
+    }
+
+    @Override
+    public String toString() {
+        return isEnabled() ? "RowCosts[" + file + "]" : "RowCosts[none]";
+    }
+}
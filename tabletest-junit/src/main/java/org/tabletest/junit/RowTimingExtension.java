@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import static org.tabletest.junit.InvocationRows.invocationIndexOf;
+import static org.tabletest.junit.InvocationRows.rowIndexOf;
+
+/**
+ * Measures the wall time of each invocation of a {@link TableTest} method and reports it to the
+ * method's {@link RowTimings} and {@link RowCosts}.
+ * <p>
+ * Does nothing unless the timing report or ordering by cost is enabled. The timings and the costs are
+ * kept in namespaces of their own, and the start time of the running invocation in that of this extension.
+ */
+public class RowTimingExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(RowTimingExtension.class);
+    private static final ExtensionContext.Namespace TIMINGS = ExtensionContext.Namespace.create(RowTimings.class);
+    private static final ExtensionContext.Namespace COSTS = ExtensionContext.Namespace.create(RowCosts.class);
+    private static final String START = "start";
+
+    /**
+     * Makes the timings of a test method available to the invocations of the method.
+     * The timings are reported when the method's extension context is closed.
+     *
+     * @param context the extension context of the test method
+     * @param timings the timings of the test method
+     */
+    static void registerTimings(ExtensionContext context, RowTimings timings) {
+        if (timings.isEnabled()) {
+            context.getStore(TIMINGS).put(RowTimings.class, timings);
+        }
+    }
+
+    /**
+     * Makes the costs of a test method available to the invocations of the method.
+     * The costs are recorded when the method's extension context is closed.
+     *
+     * @param context the extension context of the test method
+     * @param costs   the costs of the test method
+     */
+    static void registerCosts(ExtensionContext context, RowCosts costs) {
+        if (costs.isEnabled()) {
+            context.getStore(COSTS).put(RowCosts.class, costs);
+        }
+    }
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (timingsOf(context) != null || costsOf(context) != null) {
+            context.getStore(NAMESPACE).put(START, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        long end = System.nanoTime();
+        Long start = context.getStore(NAMESPACE).remove(START, Long.class);
+        if (start == null) {
+            return;
+        }
+        RowTimings timings = timingsOf(context);
+        if (timings != null) {
+            timings.record(invocationIndexOf(context), end - start, context.getExecutionException().isPresent());
+        }
+        RowCosts costs = costsOf(context);
+        if (costs != null) {
+            costs.record(rowIndexOf(context), end - start);
+        }
+    }
+
+    private static RowTimings timingsOf(ExtensionContext context) {
+        return context.getStore(TIMINGS).get(RowTimings.class, RowTimings.class);
+    }
+
+    private static RowCosts costsOf(ExtensionContext context) {
+        return context.getStore(COSTS).get(RowCosts.class, RowCosts.class);
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import org.junit.jupiter.params.provider.Arguments;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.tabletest.junit.TableTestException.invalidConfigurationParameter;
+
+/**
+ * Records how long each invocation of a {@link TableTest} method takes and reports where the time goes.
+ * <p>
+ * Opt-in with the configuration parameter {@value #ENABLED_PROPERTY}{@code =true}. Every invocation is
+ * tagged with the table row it comes from and its scenario name, which includes the values of any value
+ * sets. After the test method has run, a summary with the median, 95th percentile, and maximum wall time
+ * of the invocations, followed by the slowest invocations, is written to a file per test method in the
+ * directory set by {@value #DIRECTORY_PROPERTY}, by default {@value #DEFAULT_DIRECTORY}. The number of
+ * slowest invocations listed is set by {@value #TOP_PROPERTY}, by default {@value #DEFAULT_TOP}.
+ * <p>
+ * Wall time is measured around the test method itself, excluding argument conversion done before
+ * the invocation and JUnit's lifecycle callbacks.
+ */
+public class RowTimings implements AutoCloseable {
+
+    /**
+     * Configuration parameter enabling the timing report when set to {@code true}.
+     */
+    public static final String ENABLED_PROPERTY = "tabletest.timing.report";
+
+    /**
+     * Configuration parameter setting the directory of the timing reports.
+     */
+    public static final String DIRECTORY_PROPERTY = "tabletest.timing.report.directory";
+
+    /**
+     * Configuration parameter setting the number of slowest invocations listed in a timing report.
+     */
+    public static final String TOP_PROPERTY = "tabletest.timing.report.top";
+
+    /**
+     * Directory of the timing reports when {@link #DIRECTORY_PROPERTY} is not set.
+     */
+    public static final String DEFAULT_DIRECTORY = "target/tabletest-timing";
+
+    /**
+     * Number of slowest invocations listed when {@link #TOP_PROPERTY} is not set.
+     */
+    public static final int DEFAULT_TOP = 10;
+
+    private static final RowTimings NONE = new RowTimings(null, null, 0);
+
+    private final Path file;
+    private final String testName;
+    private final int top;
+    private final Map<Integer, Invocation> invocations = new ConcurrentHashMap<>();
+
+    private RowTimings(Path file, String testName, int top) {
+        this.file = file;
+        this.testName = testName;
+        this.top = top;
+    }
+
+    /**
+     * @return timings that record nothing
+     */
+    public static RowTimings none() {
+        return NONE;
+    }
+
+    /**
+     * Resolves the timings for a test method from configuration parameters.
+     *
+     * @param testMethod             the test method
+     * @param configurationParameter lookup of configuration parameters by key
+     * @return the timings for the test method, or {@link #none()} if the report is not enabled
+     * @throws TableTestException if the number of slowest invocations is not a valid number
+     */
+    static RowTimings resolve(Method testMethod, Function<String, Optional<String>> configurationParameter) {
+        boolean enabled = configurationParameter.apply(ENABLED_PROPERTY)
+            .map(it -> Boolean.parseBoolean(it.trim()))
+            .orElse(false);
+        if (!enabled) {
+            return none();
+        }
+        int top = configurationParameter.apply(TOP_PROPERTY)
+            .map(it -> parseTop(it.trim()))
+            .orElse(DEFAULT_TOP);
+        Path directory = Paths.get(configurationParameter.apply(DIRECTORY_PROPERTY).orElse(DEFAULT_DIRECTORY).trim());
+        Path file = directory
+            .resolve(testMethod.getDeclaringClass().getName())
+            .resolve(ResultCache.fileNameOf(testMethod) + ".txt");
+        return new RowTimings(file, testMethod.toGenericString(), top);
+    }
+
+    private static int parseTop(String value) {
+        try {
+            return Math.max(0, Integer.parseInt(value));
+        } catch (NumberFormatException cause) {
+            throw new TableTestException(invalidConfigurationParameter(TOP_PROPERTY, value), cause);
+        }
+    }
+
+    public boolean isEnabled() {
+        return file != null;
+    }
+
+    /**
+     * Registers an invocation of a row, to tag its timing with the row and scenario. Only the row
+     * number and a description of the invocation are kept, not its converted values.
+     *
+     * @param invocationIndex one-based index of the invocation, as numbered by {@link InvocationRows}
+     * @param rowIndex        zero-based position of the row in the table
+     * @param arguments       arguments of the invocation
+     * @return the arguments
+     */
+    Arguments track(int invocationIndex, int rowIndex, Arguments arguments) {
+        if (isEnabled()) {
+            invocations.put(invocationIndex, new Invocation(rowIndex + 1, describe(arguments)));
+        }
+        return arguments;
+    }
+
+    /**
+     * Records the wall time of an invocation.
+     *
+     * @param invocationIndex one-based index of the invocation
+     * @param nanos           wall time of the invocation in nanoseconds
+     * @param failed          whether the invocation failed
+     */
+    void record(int invocationIndex, long nanos, boolean failed) {
+        Invocation invocation = invocations.get(invocationIndex);
+        if (invocation != null) {
+            invocation.nanos = nanos;
+            invocation.failed = failed;
+        }
+    }
+
+    /**
+     * Writes the timing report of the invocations that ran.
+     */
+    @Override
+    public void close() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, report(), StandardCharsets.UTF_8);
+        } catch (IOException cause) {
+            System.err.printf("[TableTest] Warning: Could not write row timings to %s: %s%n", file, cause);
+        }
+    }
+
+    /**
+     * @return the lines of the timing report
+     */
+    List<String> report() {
+        List<Invocation> timed = invocations.values().stream()
+            .filter(it -> it.nanos >= 0)
+            .sorted(Comparator.comparingLong((Invocation it) -> it.nanos).reversed())
+            .collect(Collectors.toList());
+        long[] ascending = timed.stream().mapToLong(it -> it.nanos).sorted().toArray();
+
+        List<String> lines = new ArrayList<>();
+        lines.add("Row timings of " + testName);
+        lines.add(String.format(
+            Locale.ROOT,
+            "Invocations: %d, total: %s",
+            ascending.length,
+            format(Arrays.stream(ascending).sum())
+        ));
+        if (ascending.length == 0) {
+            return lines;
+        }
+        lines.add(String.format(
+            Locale.ROOT,
+            "p50: %s, p95: %s, max: %s",
+            format(percentile(ascending, 50)),
+            format(percentile(ascending, 95)),
+            format(ascending[ascending.length - 1])
+        ));
+        lines.add("");
+        lines.add("Slowest invocations:");
+        int rank = 0;
+        for (Invocation invocation : timed.subList(0, Math.min(top, timed.size()))) {
+            lines.add(String.format(
+                Locale.ROOT,
+                "%3d. %12s  row %-5d %s%s",
+                ++rank,
+                format(invocation.nanos),
+                invocation.row,
+                invocation.description,
+                invocation.failed ? "  (failed)" : ""
+            ));
+        }
+        return lines;
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values.
+     */
+    static long percentile(long[] ascending, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * ascending.length);
+        return ascending[Math.max(0, rank - 1)];
+    }
+
+    private static String format(long nanos) {
+        return String.format(Locale.ROOT, "%.3f ms", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Describes an invocation by its scenario name, or by its values if the row has no scenario name.
+     */
+    private static String describe(Arguments arguments) {
+        if (arguments instanceof Arguments.ArgumentSet) {
+            return ((Arguments.ArgumentSet) arguments).getName();
+        }
+        return Arrays.stream(arguments.get())
+            .map(String::valueOf)
+            .collect(Collectors.joining(", "));
+    }
+
+    private static final class Invocation {
+        private final int row;
+        private final String description;
+        private volatile long nanos = -1;
+        private volatile boolean failed;
+
+        private Invocation(int row, String description) {
+            this.row = row;
+            this.description = description;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return isEnabled() ? "RowTimings[" + file + "]" : "RowTimings[none]";
+    }
+}
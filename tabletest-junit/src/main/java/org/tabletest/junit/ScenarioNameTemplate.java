@@ -0,0 +1,208 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import org.tabletest.parser.Row;
+
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.joining;
+import static org.tabletest.junit.TableTestException.multipleScenarioAnnotations;
+
+/**
+ * Naming of the test invocations of one test method, worked out once per table.
+ * <p>
+ * Holds where the scenario name comes from, which parameters can receive values from an expanded
+ * value set, and the labels describing those values. Display names for the value set combinations
+ * of a row are then built with a reusable {@link StringBuilder}, without rescanning parameter
+ * annotations or copying the row.
+ */
+class ScenarioNameTemplate {
+
+    private static final int NO_SCENARIO_PARAMETER = -1;
+
+    private final boolean undeclaredColumn;
+    private final int scenarioIndex;
+    private final boolean[] expandable;
+
+    private ScenarioNameTemplate(boolean undeclaredColumn, int scenarioIndex, boolean[] expandable) {
+        this.undeclaredColumn = undeclaredColumn;
+        this.scenarioIndex = scenarioIndex;
+        this.expandable = expandable;
+    }
+
+    /**
+     * Creates the naming template for a table of the given width.
+     *
+     * @param columnCount number of columns in the table
+     * @param parameters  test method parameters
+     * @return the naming template
+     * @throws TableTestException if more than one parameter is annotated with `@Scenario`
+     */
+    static ScenarioNameTemplate of(int columnCount, Parameter[] parameters) {
+        boolean undeclaredColumn = columnCount == parameters.length + 1;
+        boolean[] expandable = new boolean[parameters.length];
+        for (int index = 0; index < parameters.length; index++) {
+            expandable[index] = !parameters[index].getType().isAssignableFrom(Set.class);
+        }
+        return new ScenarioNameTemplate(
+            undeclaredColumn,
+            undeclaredColumn ? NO_SCENARIO_PARAMETER : findDeclaredScenarioIndex(parameters),
+            expandable
+        );
+    }
+
+    /**
+     * @return true if the first column is the name of the scenario, having no corresponding parameter
+     */
+    boolean hasUndeclaredColumn() {
+        return undeclaredColumn;
+    }
+
+    /**
+     * @param index position of a parameter
+     * @return true if the parameter is annotated with `@Scenario`
+     */
+    boolean isScenarioParameter(int index) {
+        return index == scenarioIndex;
+    }
+
+    /**
+     * Returns true if the row contains a scenario name, either implicitly as undeclared first column
+     * or explicitly with `@Scenario` parameter annotation.
+     *
+     * @param row row of data from the table
+     * @return true if the row contains a scenario name
+     */
+    boolean hasScenarioName(Row row) {
+        return undeclaredColumn || scenarioIndex != NO_SCENARIO_PARAMETER && isNotBlank(row.value(scenarioIndex));
+    }
+
+    /**
+     * Describes a row as written: by its scenario name if it has one, otherwise by its cells.
+     *
+     * @param row row of data from the table
+     * @return the description of the row
+     */
+    String describe(Row row) {
+        if (undeclaredColumn) {
+            return isNotBlank(row.value(0)) ? row.value(0).toString() : "null";
+        }
+        if (hasScenarioName(row)) {
+            return row.value(scenarioIndex).toString();
+        }
+        return row.values().stream().map(String::valueOf).collect(joining(", "));
+    }
+
+    /**
+     * Prepares the naming of the invocations generated from a row.
+     *
+     * @param row row of data from the table
+     * @return the display names of the row's invocations
+     */
+    RowNames forRow(Row row) {
+        Row dataRow = row.skipFirstIf(undeclaredColumn);
+        int[] valueSetPositions = IntStream.range(0, dataRow.valueCount())
+            .filter(index -> expandable[index] && dataRow.value(index) instanceof Set<?>)
+            .toArray();
+        String[] labels = Arrays.stream(valueSetPositions)
+            .mapToObj(index -> dataRow.header(index) + " = ")
+            .toArray(String[]::new);
+        return new RowNames(undeclaredColumn ? row.value(0) : null, valueSetPositions, labels);
+    }
+
+    /**
+     * Builds the display names for the invocations generated from one row.
+     * <p>
+     * Not thread-safe; the invocations of a row are named one at a time.
+     */
+    class RowNames {
+        private final Object undeclaredScenarioName;
+        private final int[] valueSetPositions;
+        private final String[] labels;
+        private final StringBuilder builder = new StringBuilder();
+
+        private RowNames(Object undeclaredScenarioName, int[] valueSetPositions, String[] labels) {
+            this.undeclaredScenarioName = undeclaredScenarioName;
+            this.valueSetPositions = valueSetPositions;
+            this.labels = labels;
+        }
+
+        /**
+         * Creates the display name for an invocation based on the scenario name.
+         * If the invocation is generated from a row with value sets, the particular value set values
+         * for this invocation are included in the display name.
+         *
+         * @param values the converted values of the invocation
+         * @return the generated display name
+         */
+        String displayName(List<?> values) {
+            builder.setLength(0);
+            Object scenarioName = undeclaredColumn ? undeclaredScenarioName : values.get(scenarioIndex);
+            builder.append(isNotBlank(scenarioName) ? scenarioName.toString() : "null");
+
+            int nameLength = builder.length();
+            for (int i = 0; i < valueSetPositions.length; i++) {
+                Object value = values.get(valueSetPositions[i]);
+                if (value != null && !(value instanceof Set<?>)) {
+                    builder.append(builder.length() == nameLength ? " (" : ", ").append(labels[i]).append(value);
+                }
+            }
+            if (builder.length() > nameLength) {
+                builder.append(')');
+            }
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Finds the index of the parameter with `@Scenario` annotation, if any.
+     *
+     * @param parameters test method parameters
+     * @return index if present, otherwise {@link #NO_SCENARIO_PARAMETER}
+     * @throws TableTestException if more than one parameter is annotated
+     */
+    private static int findDeclaredScenarioIndex(Parameter[] parameters) {
+        int[] scenarioIndices = IntStream.range(0, parameters.length)
+            .filter(index -> isScenarioAnnotated(parameters[index]))
+            .toArray();
+
+        if (scenarioIndices.length > 1) {
+            throw new TableTestException(multipleScenarioAnnotations(parameters[0].getDeclaringExecutable()));
+        }
+
+        return scenarioIndices.length == 1 ? scenarioIndices[0] : NO_SCENARIO_PARAMETER;
+    }
+
+    private static boolean isScenarioAnnotated(Parameter parameter) {
+        return parameter.isAnnotationPresent(Scenario.class)
+            || parameter.isAnnotationPresent(io.github.nchaugen.tabletest.junit.Scenario.class);
+    }
+
+    /**
+     * Tests if the given value is not null and not blank.
+     *
+     * @param value to test
+     * @return true if not null and not blank, false otherwise
+     */
+    private static boolean isNotBlank(Object value) {
+        return value != null && !value.toString().trim().isEmpty();
+    }
+}
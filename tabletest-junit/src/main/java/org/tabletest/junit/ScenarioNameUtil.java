@@ -18,16 +18,13 @@ package org.tabletest.junit;
 import org.tabletest.parser.Row;
 
 import java.lang.reflect.Parameter;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.stream.IntStream;
-
-import static java.util.stream.Collectors.joining;
-import static org.tabletest.junit.TableTestException.multipleScenarioAnnotations;
-import static org.tabletest.junit.ValueSetUtil.isFromValueSet;
 
+/**
+ * Scenario naming for a single row.
+ * <p>
+ * When naming many rows of the same table, create a {@link ScenarioNameTemplate} once instead.
+ */
 public class ScenarioNameUtil {
 
     /**
@@ -51,63 +48,7 @@ public class ScenarioNameUtil {
      * @return the generated display name
      */
     public static String toDisplayName(List<?> values, Row row, Parameter[] parameters) {
-        String scenarioName = getScenarioName(values, row, parameters);
-        String currentValueSetValues = currentValueSetValues(values, row);
-        return currentValueSetValues.isEmpty()
-            ? scenarioName
-            : String.format("%s (%s)", scenarioName, currentValueSetValues);
-    }
-
-    /**
-     * Gets the name of any implicitly or explicitly defined scenario column, or `"null"` if not defined.
-     *
-     * @param values     converted values
-     * @param row        table row
-     * @param parameters test method parameters
-     * @return the string representation of any scenario column
-     */
-    private static String getScenarioName(List<?> values, Row row, Parameter[] parameters) {
-        return findScenarioValue(values, row, parameters)
-            .map(Object::toString)
-            .filter(ScenarioNameUtil::isNotBlank)
-            .orElse("null");
-    }
-
-    /**
-     * Finds the value of any implicitly or explicitly defined scenario column.
-     *
-     * @param values     converted values
-     * @param row        table row
-     * @param parameters test method parameters
-     * @return the value of the scenario column, if any
-     */
-    private static Optional<?> findScenarioValue(List<?> values, Row row, Parameter[] parameters) {
-        return hasUndeclaredColumn(row, parameters)
-            ? Optional.ofNullable(row.value(0))
-            : findDeclaredScenarioIndex(parameters).map(values::get);
-    }
-
-    /**
-     * Creates a comma-separated string describing current parameter values from any value sets in the table row.
-     * Values described as `<column header> = <current value>`. Parameter values not from a value set are ignored.
-     *
-     * @param values   parameter values for this test invocation
-     * @param tableRow the table row this test invocation is created from
-     * @return string describing current values from any value set
-     */
-    private static String currentValueSetValues(List<?> values, Row tableRow) {
-        Row parameterRow = tableRow.skipFirstUnless(values.size() == tableRow.valueCount());
-
-        return IntStream.range(0, values.size())
-            .mapToObj(index -> toValueFromValueSetDescription(values, index, parameterRow))
-            .filter(Objects::nonNull)
-            .collect(joining(", "));
-    }
-
-    private static String toValueFromValueSetDescription(List<?> values, int index, Row parameterRow) {
-        return isFromValueSet(values.get(index), parameterRow.value(index))
-            ? String.format("%s = %s", parameterRow.header(index), values.get(index))
-            : null;
+        return ScenarioNameTemplate.of(row.valueCount(), parameters).forRow(row).displayName(values);
     }
 
     /**
@@ -119,46 +60,7 @@ public class ScenarioNameUtil {
      * @return true if the row contains a scenario name
      */
     public static boolean hasScenarioName(Row row, Parameter[] parameters) {
-        return hasUndeclaredColumn(row, parameters) || hasDeclaredScenarioColumn(row, parameters);
-    }
-
-    private static Boolean hasDeclaredScenarioColumn(Row row, Parameter[] parameters) {
-        return findDeclaredScenarioIndex(parameters)
-            .map(index -> isNotBlank(row.value(index)))
-            .orElse(false);
-    }
-
-    /**
-     * Finds the index of the parameter with `@Scenario` annotation, if any.
-     *
-     * @param parameters test method parameters
-     * @return index if present
-     */
-    private static Optional<Integer> findDeclaredScenarioIndex(Parameter[] parameters) {
-        int[] scenarioIndices = IntStream.range(0, parameters.length)
-            .filter(index -> isScenarioAnnotated(parameters[index]))
-            .toArray();
-
-        if (scenarioIndices.length > 1) {
-            throw new TableTestException(multipleScenarioAnnotations(parameters[0].getDeclaringExecutable()));
-        }
-
-        return Arrays.stream(scenarioIndices).boxed().findFirst();
-    }
-
-    private static boolean isScenarioAnnotated(Parameter parameter) {
-        return parameter.isAnnotationPresent(Scenario.class)
-            || parameter.isAnnotationPresent(io.github.nchaugen.tabletest.junit.Scenario.class);
-    }
-
-    /**
-     * Tests if the given value is not null and not blank.
-     *
-     * @param value to test
-     * @return true if not null and not blank, false otherwise
-     */
-    private static boolean isNotBlank(Object value) {
-        return value != null && !value.toString().trim().isEmpty();
+        return ScenarioNameTemplate.of(row.valueCount(), parameters).hasScenarioName(row);
     }
 
 }
@@ -18,10 +18,13 @@ package org.tabletest.junit;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.provider.AnnotationBasedArgumentsProvider;
 import org.junit.jupiter.params.provider.Arguments;
+import org.tabletest.parser.Table;
+import org.tabletest.parser.TableSource;
 
 import java.util.stream.Stream;
 
 import static org.tabletest.junit.TableTestArgumentsProvider.provideArgumentsForInput;
+import static org.tabletest.junit.TableTestArgumentsProvider.validateAndParse;
 
 /**
  * Provides arguments for parameterized tests from tabular data defined in {@link TableTest} annotations.
@@ -42,10 +45,21 @@ public class TableArgumentsProvider extends AnnotationBasedArgumentsProvider<Tab
      * A row becomes multiple instances of method arguments when cells contain sets of
      * values and the corresponding test method parameter is not of type Set. In this
      * situation, method arguments are generated for all set values. If multiple columns
-     * contain sets, method arguments are generated for all combinations.
+     * contain sets, method arguments are generated for the combinations selected by the
+     * {@link TableTest#expansion()} strategy, by default all combinations, optionally
+     * limited to a random sample as set by {@link TableTest#sampleSize()}.
      * <p>
      * NOTE! Be careful with excessive use of expanding sets in the same table, as the
      * number of value combinations can quickly explode and cause long run times.
+     * <p>
+     * For test classes annotated with {@link PrefetchTables}, the table loaded and parsed in the
+     * background when the class started is used.
+     * <p>
+     * With the {@link ResultCache} enabled, rows recorded as passing in an earlier run and unchanged
+     * since are provided as a single invocation that is skipped. With {@link RowTimings} enabled, the
+     * wall time of each invocation is recorded and reported per table. With {@link RowCosts} enabled,
+     * the rows are provided slowest first, as timed in earlier runs. With {@link TableTest#failFast()} or
+     * {@value FailFast#THRESHOLD_PROPERTY} set, the rest of the table is skipped after that many failures.
      *
      * @param context   The current extension context
      * @param tableTest The TableTest annotation containing the table data
@@ -54,10 +68,78 @@ public class TableArgumentsProvider extends AnnotationBasedArgumentsProvider<Tab
      */
     @Override
     protected Stream<? extends Arguments> provideArguments(ExtensionContext context, TableTest tableTest) {
-        String input = tableTest.resource().trim().isEmpty()
-            ? String.join("\n", tableTest.value())
-            : InputResolver.loadResource(tableTest.resource(), tableTest.encoding(), context.getRequiredTestClass());
-        return provideArgumentsForInput(context, input);
+        Table table = TablePrefetchExtension.prefetchedTable(context)
+            .orElseGet(() -> validateAndParse(sourceOf(tableTest, context.getRequiredTestClass())));
+        ValueSetSampling sampling = ValueSetSampling.resolve(
+            tableTest.sampleSize(),
+            tableTest.seed(),
+            context::getConfigurationParameter
+        );
+        if (sampling.isEnabled()) {
+            reportSampling(context, sampling);
+        }
+        ResultCache results = ResultCache.resolve(context.getRequiredTestMethod(), context::getConfigurationParameter);
+        ResultCacheExtension.register(context, results);
+        RowTimings timings = RowTimings.resolve(context.getRequiredTestMethod(), context::getConfigurationParameter);
+        RowTimingExtension.registerTimings(context, timings);
+        RowCosts costs = RowCosts.resolve(context.getRequiredTestMethod(), context::getConfigurationParameter);
+        RowTimingExtension.registerCosts(context, costs);
+        FailFast failFast = FailFast.resolve(tableTest.failFast(), context::getConfigurationParameter);
+        FailFastExtension.register(context, failFast);
+        TableOptions options = TableOptions.defaults();
+        InvocationRows.register(context, options.invocations());
+        return provideArgumentsForInput(
+            context.getRequiredTestMethod(),
+            table,
+            options
+                .withExpansion(tableTest.expansion())
+                .withSampling(sampling)
+                .withResults(results)
+                .withTimings(timings)
+                .withCosts(costs)
+                .withFailFast(failFast)
+        );
+    }
+
+    /**
+     * @param tableTest The TableTest annotation of a test method
+     * @param testClass The test class, used to resolve a table resource
+     * @return the lines of the table given by the annotation's value or resource
+     */
+    static TableSource sourceOf(TableTest tableTest, Class<?> testClass) {
+        return sourceOf(tableTest.value(), tableTest.resource(), tableTest.encoding(), testClass);
+    }
+
+    /**
+     * @param value     The table lines given inline
+     * @param resource  The path of a table resource, or blank if the table is given inline
+     * @param encoding  The character encoding of the resource
+     * @param testClass The test class, used to resolve a table resource
+     * @return the lines of the table given inline or by the resource
+     */
+    static TableSource sourceOf(String[] value, String resource, String encoding, Class<?> testClass) {
+        return resource.trim().isEmpty()
+            ? TableSource.of(value)
+            : InputResolver.resourceSource(resource, encoding, testClass);
+    }
+
+    /**
+     * Reports the seed of a sampled table, so a failing run can be reproduced by setting the seed.
+     * Seeds chosen at random are also printed, as they change between runs.
+     */
+    private static void reportSampling(ExtensionContext context, ValueSetSampling sampling) {
+        context.publishReportEntry(ValueSetSampling.SEED_PROPERTY, String.valueOf(sampling.seed()));
+        if (!sampling.hasRandomSeed()) return;
+        System.err.printf(
+            "[TableTest] Running at most %d value set combinations per row of %s.%s() with seed %d. " +
+                "Set configuration parameter %s=%d to reproduce.%n",
+            sampling.sampleSize(),
+            context.getRequiredTestClass().getName(),
+            context.getRequiredTestMethod().getName(),
+            sampling.seed(),
+            ValueSetSampling.SEED_PROPERTY,
+            sampling.seed()
+        );
     }
 
 }
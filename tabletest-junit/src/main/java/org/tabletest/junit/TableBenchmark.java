@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs each row of a table as a micro-benchmark of the test method.
+ * <p>
+ * The table is written and its values converted exactly as for {@link TableTest}, once per row and
+ * outside the measured loop. Each invocation first runs the test method once as a regular test, so
+ * a row that fails is not measured. It then runs the method {@link #warmupIterations()} times
+ * {@link #operationsPerIteration()} times untimed, followed by {@link #measurementIterations()}
+ * timed iterations of {@link #operationsPerIteration()} runs each.
+ * <p>
+ * After the test method has run, the throughput in operations per second and, where the JVM can
+ * measure it, the bytes allocated per operation of every invocation are written as JSON and CSV to
+ * the directory set by the configuration parameter {@value TableBenchmarkResults#DIRECTORY_PROPERTY},
+ * by default {@value TableBenchmarkResults#DEFAULT_DIRECTORY}.
+ * <p>
+ * Example:
+ * <pre>
+ * &#64;TableBenchmark(value = """
+ *     Scenario    | Input
+ *     Short text  | abc
+ *     Long text   | "a much longer text to parse"
+ *     """, measurementIterations = 10)
+ * void parse(String input) {
+ *     Parser.parse(input);
+ * }
+ * </pre>
+ * The measurements are indicative only. They run on the test's thread within the test JVM, without
+ * the isolation of a dedicated benchmark harness, and results the method computes are not consumed.
+ *
+ * @see TableTest
+ */
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@ParameterizedTest
+@ArgumentsSource(TableBenchmarkArgumentsProvider.class)
+@ExtendWith(TableBenchmarkExtension.class)
+public @interface TableBenchmark {
+    /**
+     * The table data in string format.
+     */
+    String[] value() default {};
+
+    /**
+     * The path of the resource containing the table data.
+     */
+    String resource() default "";
+
+    /**
+     * The encoding to use when reading the table data file; must be a valid charset.
+     * <p>
+     * Defaults to {@code "UTF-8"}.
+     */
+    String encoding() default "UTF-8";
+
+    /**
+     * The number of untimed iterations run before measuring.
+     * <p>
+     * Defaults to {@code 5}.
+     */
+    int warmupIterations() default 5;
+
+    /**
+     * The number of timed iterations.
+     * <p>
+     * Defaults to {@code 5}.
+     */
+    int measurementIterations() default 5;
+
+    /**
+     * The number of runs of the test method in each iteration.
+     * <p>
+     * Defaults to {@code 1000}.
+     */
+    int operationsPerIteration() default 1000;
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.AnnotationBasedArgumentsProvider;
+import org.junit.jupiter.params.provider.Arguments;
+import org.tabletest.parser.TableSource;
+
+import java.util.stream.Stream;
+
+import static org.tabletest.junit.TableArgumentsProvider.sourceOf;
+import static org.tabletest.junit.TableTestArgumentsProvider.provideArgumentsForInput;
+import static org.tabletest.junit.TableTestArgumentsProvider.validateAndParse;
+
+/**
+ * Provides the arguments of a {@link TableBenchmark} method, one per row and value set combination,
+ * parsed and converted like the arguments of a {@link TableTest} method.
+ */
+public class TableBenchmarkArgumentsProvider extends AnnotationBasedArgumentsProvider<TableBenchmark> {
+
+    @Override
+    protected Stream<? extends Arguments> provideArguments(ExtensionContext context, TableBenchmark benchmark) {
+        TableSource input = sourceOf(
+            benchmark.value(),
+            benchmark.resource(),
+            benchmark.encoding(),
+            context.getRequiredTestClass()
+        );
+        return provideArgumentsForInput(context.getRequiredTestMethod(), validateAndParse(input), TableOptions.defaults());
+    }
+}
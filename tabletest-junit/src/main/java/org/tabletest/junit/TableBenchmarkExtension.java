@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+
+/**
+ * Runs each invocation of a {@link TableBenchmark} method as a micro-benchmark and collects the
+ * measurements in the {@link TableBenchmarkResults} of the method.
+ */
+public class TableBenchmarkExtension implements InvocationInterceptor {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(TableBenchmark.class);
+
+    @Override
+    public void interceptTestTemplateMethod(
+        Invocation<Void> invocation,
+        ReflectiveInvocationContext<Method> invocationContext,
+        ExtensionContext extensionContext
+    ) throws Throwable {
+        invocation.proceed();
+
+        TableBenchmark benchmark = AnnotationSupport.findAnnotation(invocationContext.getExecutable(), TableBenchmark.class)
+            .orElseThrow(() -> new IllegalStateException("Not a @TableBenchmark method"));
+        long operationsPerIteration = Math.max(1, benchmark.operationsPerIteration());
+        DirectInvocation.run(invocationContext, Math.max(0, benchmark.warmupIterations()) * operationsPerIteration);
+
+        AllocationCounter allocation = AllocationCounter.forCurrentThread();
+        long operations = 0;
+        long nanos = 0;
+        long allocatedBytes = 0;
+        for (int iteration = 0; iteration < benchmark.measurementIterations(); iteration++) {
+            long allocatedBefore = allocation.allocatedBytes();
+            long start = System.nanoTime();
+            DirectInvocation.run(invocationContext, operationsPerIteration);
+            nanos += System.nanoTime() - start;
+            allocatedBytes += allocation.allocatedBytes() - allocatedBefore;
+            operations += operationsPerIteration;
+        }
+        resultsOf(extensionContext).record(
+            extensionContext.getDisplayName(),
+            operations,
+            nanos,
+            allocation.isSupported() ? allocatedBytes : -1
+        );
+    }
+
+    private static TableBenchmarkResults resultsOf(ExtensionContext invocationContext) {
+        ExtensionContext methodContext = invocationContext.getParent().orElse(invocationContext);
+        return methodContext.getStore(NAMESPACE).computeIfAbsent(
+            TableBenchmarkResults.class,
+            it -> TableBenchmarkResults.of(methodContext.getRequiredTestMethod(), methodContext::getConfigurationParameter),
+            TableBenchmarkResults.class
+        );
+    }
+
+    /**
+     * Reads the bytes allocated by the current thread, where the JVM supports it.
+     */
+    private static final class AllocationCounter {
+        private final com.sun.management.ThreadMXBean threads;
+        private final long threadId = Thread.currentThread().getId();
+
+        private AllocationCounter(com.sun.management.ThreadMXBean threads) {
+            this.threads = threads;
+        }
+
+        static AllocationCounter forCurrentThread() {
+            java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            if (threads instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean counting = (com.sun.management.ThreadMXBean) threads;
+                if (counting.isThreadAllocatedMemorySupported() && counting.isThreadAllocatedMemoryEnabled()) {
+                    return new AllocationCounter(counting);
+                }
+            }
+            return new AllocationCounter(null);
+        }
+
+        boolean isSupported() {
+            return threads != null;
+        }
+
+        long allocatedBytes() {
+            return threads == null ? 0 : threads.getThreadAllocatedBytes(threadId);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Collects the measurements of the invocations of a {@link TableBenchmark} method and writes them
+ * as JSON and CSV when the method has run.
+ * <p>
+ * The files are named after the test method and a hash of its signature, so overloaded methods do not
+ * share files, and written to a folder per test class in the directory set by {@value #DIRECTORY_PROPERTY},
+ * by default {@value #DEFAULT_DIRECTORY}.
+ */
+public class TableBenchmarkResults implements AutoCloseable {
+
+    /**
+     * Configuration parameter setting the directory of the benchmark results.
+     */
+    public static final String DIRECTORY_PROPERTY = "tabletest.benchmark.directory";
+
+    /**
+     * Directory of the benchmark results when {@link #DIRECTORY_PROPERTY} is not set.
+     */
+    public static final String DEFAULT_DIRECTORY = "target/tabletest-benchmarks";
+
+    private final Path directory;
+    private final String fileName;
+    private final List<Measurement> measurements = Collections.synchronizedList(new ArrayList<>());
+
+    private TableBenchmarkResults(Path directory, String fileName) {
+        this.directory = directory;
+        this.fileName = fileName;
+    }
+
+    /**
+     * @param testMethod             the benchmarked test method
+     * @param configurationParameter lookup of configuration parameters by key
+     * @return the results of the test method
+     */
+    static TableBenchmarkResults of(Method testMethod, Function<String, Optional<String>> configurationParameter) {
+        Path directory = Paths.get(configurationParameter.apply(DIRECTORY_PROPERTY).orElse(DEFAULT_DIRECTORY).trim())
+            .resolve(testMethod.getDeclaringClass().getName());
+        return new TableBenchmarkResults(directory, ResultCache.fileNameOf(testMethod));
+    }
+
+    /**
+     * Records the measurement of an invocation.
+     *
+     * @param row           display name of the invocation
+     * @param operations    number of timed runs of the test method
+     * @param nanos         total wall time of the timed runs
+     * @param allocatedBytes total bytes allocated by the timed runs, or -1 if not measured
+     */
+    void record(String row, long operations, long nanos, long allocatedBytes) {
+        measurements.add(new Measurement(row, operations, nanos, allocatedBytes));
+    }
+
+    /**
+     * @return the measurements recorded so far, in the order recorded
+     */
+    List<Measurement> measurements() {
+        synchronized (measurements) {
+            return new ArrayList<>(measurements);
+        }
+    }
+
+    /**
+     * Writes the measurements as {@code <method>-<hash>.json} and {@code <method>-<hash>.csv}.
+     */
+    @Override
+    public void close() {
+        List<Measurement> recorded = measurements();
+        if (recorded.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            Files.write(directory.resolve(fileName + ".json"), Collections.singletonList(toJson(recorded)), StandardCharsets.UTF_8);
+            Files.write(directory.resolve(fileName + ".csv"), toCsv(recorded), StandardCharsets.UTF_8);
+        } catch (IOException cause) {
+            System.err.printf("[TableTest] Warning: Could not write benchmark results to %s: %s%n", directory, cause);
+        }
+    }
+
+    static String toJson(List<Measurement> measurements) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < measurements.size(); i++) {
+            Measurement measurement = measurements.get(i);
+            json.append(i == 0 ? "\n" : ",\n")
+                .append("  {\"row\": \"").append(jsonEscaped(measurement.row())).append('"')
+                .append(", \"operations\": ").append(measurement.operations())
+                .append(", \"nanos\": ").append(measurement.nanos())
+                .append(", \"opsPerSecond\": ").append(decimal(measurement.opsPerSecond()))
+                .append(", \"bytesPerOp\": ")
+                .append(measurement.isAllocationMeasured() ? decimal(measurement.bytesPerOp()) : "null")
+                .append('}');
+        }
+        return json.append(measurements.isEmpty() ? "]" : "\n]").toString();
+    }
+
+    static List<String> toCsv(List<Measurement> measurements) {
+        List<String> lines = new ArrayList<>();
+        lines.add("row,operations,nanos,ops_per_second,bytes_per_op");
+        for (Measurement measurement : measurements) {
+            lines.add(csvQuoted(measurement.row())
+                + ',' + measurement.operations()
+                + ',' + measurement.nanos()
+                + ',' + decimal(measurement.opsPerSecond())
+                + ',' + (measurement.isAllocationMeasured() ? decimal(measurement.bytesPerOp()) : ""));
+        }
+        return lines;
+    }
+
+    private static String decimal(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static String jsonEscaped(String text) {
+        StringBuilder escaped = new StringBuilder();
+        for (char c : text.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String csvQuoted(String text) {
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * The measurement of one invocation.
+     */
+    static final class Measurement {
+        private final String row;
+        private final long operations;
+        private final long nanos;
+        private final long allocatedBytes;
+
+        Measurement(String row, long operations, long nanos, long allocatedBytes) {
+            this.row = row;
+            this.operations = operations;
+            this.nanos = nanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        String row() {
+            return row;
+        }
+
+        long operations() {
+            return operations;
+        }
+
+        long nanos() {
+            return nanos;
+        }
+
+        double opsPerSecond() {
+            return nanos == 0 ? 0 : operations * 1e9 / nanos;
+        }
+
+        boolean isAllocationMeasured() {
+            return allocatedBytes >= 0;
+        }
+
+        double bytesPerOp() {
+            return operations == 0 ? 0 : (double) allocatedBytes / operations;
+        }
+    }
+}
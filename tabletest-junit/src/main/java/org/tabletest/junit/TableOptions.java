@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+/**
+ * How the arguments of a table are provided: how the value sets of a row are expanded and sampled,
+ * and the result cache, timings, costs, and fail-fast mode of the test method.
+ * <p>
+ * Start from {@link #defaults()}, which expands every combination of value sets and records nothing,
+ * and replace the options that differ. Each call to {@link #defaults()} numbers the invocations it
+ * provides in {@link InvocationRows} of its own, which the options replacing others share.
+ */
+final class TableOptions {
+
+    private final ValueSetExpansion expansion;
+    private final ValueSetSampling sampling;
+    private final ResultCache results;
+    private final RowTimings timings;
+    private final RowCosts costs;
+    private final FailFast failFast;
+    private final InvocationRows invocations;
+
+    private TableOptions(
+        ValueSetExpansion expansion,
+        ValueSetSampling sampling,
+        ResultCache results,
+        RowTimings timings,
+        RowCosts costs,
+        FailFast failFast,
+        InvocationRows invocations
+    ) {
+        this.expansion = expansion;
+        this.sampling = sampling;
+        this.results = results;
+        this.timings = timings;
+        this.costs = costs;
+        this.failFast = failFast;
+        this.invocations = invocations;
+    }
+
+    /**
+     * @return options expanding every combination of value sets, with nothing cached, timed, or ordered by cost,
+     * and no fail-fast threshold
+     */
+    static TableOptions defaults() {
+        return new TableOptions(
+            ValueSetExpansion.CARTESIAN,
+            ValueSetSampling.none(),
+            ResultCache.none(),
+            RowTimings.none(),
+            RowCosts.none(),
+            FailFast.none(),
+            new InvocationRows()
+        );
+    }
+
+    /**
+     * @param expansion the strategy for combining values of several value sets in a row
+     */
+    TableOptions withExpansion(ValueSetExpansion expansion) {
+        return new TableOptions(expansion, sampling, results, timings, costs, failFast, invocations);
+    }
+
+    /**
+     * @param sampling the selection of value set combinations to run for each row
+     */
+    TableOptions withSampling(ValueSetSampling sampling) {
+        return new TableOptions(expansion, sampling, results, timings, costs, failFast, invocations);
+    }
+
+    /**
+     * @param results the rows recorded as passing in earlier runs
+     */
+    TableOptions withResults(ResultCache results) {
+        return new TableOptions(expansion, sampling, results, timings, costs, failFast, invocations);
+    }
+
+    /**
+     * @param timings the timings of the invocations, tagged with their rows
+     */
+    TableOptions withTimings(RowTimings timings) {
+        return new TableOptions(expansion, sampling, results, timings, costs, failFast, invocations);
+    }
+
+    /**
+     * @param costs the costs of the rows recorded in earlier runs
+     */
+    TableOptions withCosts(RowCosts costs) {
+        return new TableOptions(expansion, sampling, results, timings, costs, failFast, invocations);
+    }
+
+    /**
+     * @param failFast the number of failed invocations after which the remaining rows are skipped
+     */
+    TableOptions withFailFast(FailFast failFast) {
+        return new TableOptions(expansion, sampling, results, timings, costs, failFast, invocations);
+    }
+
+    ValueSetExpansion expansion() {
+        return expansion;
+    }
+
+    ValueSetSampling sampling() {
+        return sampling;
+    }
+
+    ResultCache results() {
+        return results;
+    }
+
+    RowTimings timings() {
+        return timings;
+    }
+
+    RowCosts costs() {
+        return costs;
+    }
+
+    FailFast failFast() {
+        return failFast;
+    }
+
+    /**
+     * @return the rows of the invocations provided with these options
+     */
+    InvocationRows invocations() {
+        return invocations;
+    }
+
+    @Override
+    public String toString() {
+        return "TableOptions[expansion=" + expansion + ", sampling=" + sampling + ", results=" + results
+            + ", timings=" + timings + ", costs=" + costs + ", failFast=" + failFast + "]";
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.tabletest.parser.Table;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Starts loading and parsing the tables of all {@link TableTest} methods of a test class
+ * annotated with {@link PrefetchTables} when the class starts.
+ * <p>
+ * The tables being prepared are kept in the test class's extension context, where the
+ * {@link TableArgumentsProvider} of each method picks up its table.
+ */
+public class TablePrefetchExtension implements BeforeAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(PrefetchTables.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        Class<?> testClass = context.getRequiredTestClass();
+        List<Method> methods = AnnotationSupport.findAnnotatedMethods(
+            testClass,
+            TableTest.class,
+            HierarchyTraversalMode.TOP_DOWN
+        );
+        if (methods.isEmpty()) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(methods.size(), parallelismOf(testClass)),
+            new PrefetchThreadFactory(testClass)
+        );
+        Map<Method, CompletableFuture<Table>> tables = new HashMap<>();
+        for (Method method : methods) {
+            TableTest tableTest = AnnotationSupport.findAnnotation(method, TableTest.class).get();
+            tables.put(method, CompletableFuture.supplyAsync(
+                () -> TableTestArgumentsProvider.validateAndParse(TableArgumentsProvider.sourceOf(tableTest, testClass)),
+                executor
+            ));
+        }
+        executor.shutdown();
+        context.getStore(NAMESPACE).put(testClass, tables);
+    }
+
+    /**
+     * Returns the table prefetched for the test method of the context, waiting for it to be
+     * prepared if needed.
+     *
+     * @param context the extension context of the test method
+     * @return the table of the test method, or empty if its test class does not prefetch tables
+     * @throws TableTestException if the table could not be loaded
+     * @throws org.tabletest.parser.TableTestParseException if the table could not be parsed
+     * @throws Error an error raised while preparing the table, as it was raised
+     */
+    static Optional<Table> prefetchedTable(ExtensionContext context) {
+        @SuppressWarnings("unchecked")
+        Map<Method, CompletableFuture<Table>> tables =
+            context.getStore(NAMESPACE).get(context.getRequiredTestClass(), Map.class);
+        if (tables == null) {
+            return Optional.empty();
+        }
+        CompletableFuture<Table> table = tables.get(context.getRequiredTestMethod());
+        if (table == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(table.join());
+        } catch (CompletionException failure) {
+            if (failure.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) failure.getCause();
+            }
+            if (failure.getCause() instanceof Error) {
+                throw (Error) failure.getCause();
+            }
+            throw failure;
+        }
+    }
+
+    private static int parallelismOf(Class<?> testClass) {
+        int parallelism = AnnotationSupport.findAnnotation(testClass, PrefetchTables.class)
+            .map(PrefetchTables::parallelism)
+            .orElse(0);
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Creates daemon threads, so tables still loading never keep the JVM alive.
+     */
+    private static final class PrefetchThreadFactory implements ThreadFactory {
+        private final String namePrefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private PrefetchThreadFactory(Class<?> testClass) {
+            this.namePrefix = "tabletest-prefetch-" + testClass.getSimpleName() + "-";
+        }
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, namePrefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.tabletest.junit;
 
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
@@ -66,6 +67,11 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @ParameterizedTest
 @ArgumentsSource(TableArgumentsProvider.class)
+@ExtendWith(ResultCacheExtension.class)
+@ExtendWith(FailFastExtension.class)
+@ExtendWith(RowTimingExtension.class)
+@ExtendWith(ConcurrentStressExtension.class)
+@ExtendWith(MaxDurationExtension.class)
 public @interface TableTest {
     /**
      * The table data in string format.
@@ -89,4 +95,57 @@ public @interface TableTest {
      */
     String encoding() default "UTF-8";
 
+    /**
+     * How value sets in several columns of the same row are combined into test invocations.
+     * <p>
+     * Defaults to {@link ValueSetExpansion#CARTESIAN}, testing every combination of values.
+     * Use {@link ValueSetExpansion#PAIRWISE} to test every pair of values at least once with
+     * far fewer invocations when a row has many value sets.
+     */
+    ValueSetExpansion expansion() default ValueSetExpansion.CARTESIAN;
+
+    /**
+     * The maximum number of value set combinations to run per row, sampled uniformly at random
+     * from the combinations selected by {@link #expansion()}.
+     * <p>
+     * Defaults to {@code 0}, running every combination unless the configuration parameter
+     * {@code tabletest.sample.size} sets a sample size for all tables.
+     */
+    int sampleSize() default 0;
+
+    /**
+     * The seed for sampling value set combinations, see {@link #sampleSize()}.
+     * <p>
+     * Defaults to {@code 0}, using the configuration parameter {@code tabletest.sample.seed} if set,
+     * otherwise a new random seed for each run. The seed used is reported, so a sampled run can be
+     * reproduced exactly.
+     */
+    long seed() default 0;
+
+    /**
+     * The number of threads running each invocation concurrently after it has passed once.
+     * <p>
+     * Defaults to {@code 1}. With more threads, or more than one {@link #repetitions()}, every invocation
+     * becomes a stress test of the component under test: the row's values are converted once and shared by
+     * all threads, which start together and each run the test method {@link #repetitions()} times. The
+     * invocation fails if any run fails, and reports its throughput and latency percentiles.
+     */
+    int concurrency() default 1;
+
+    /**
+     * The number of times each of the {@link #concurrency()} threads runs the invocation.
+     * <p>
+     * Defaults to {@code 1}.
+     */
+    int repetitions() default 1;
+
+    /**
+     * The number of failed invocations after which the rest of the table is skipped.
+     * <p>
+     * Defaults to {@code 0}, running every invocation unless the configuration parameter
+     * {@code tabletest.fail.fast} sets a threshold for all tables. Rows after the threshold is reached
+     * are reported as skipped, one per row, without converting their cells or expanding their value sets.
+     */
+    int failFast() default 0;
+
 }
@@ -20,18 +20,19 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.tabletest.parser.Row;
 import org.tabletest.parser.Table;
 import org.tabletest.parser.TableParser;
+import org.tabletest.parser.TableSource;
+import org.tabletest.parser.TableTestParseException;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 import static org.tabletest.junit.ParameterTypeConverter.convertValue;
-import static org.tabletest.junit.ScenarioNameUtil.hasScenarioName;
-import static org.tabletest.junit.ScenarioNameUtil.hasUndeclaredColumn;
-import static org.tabletest.junit.ScenarioNameUtil.toDisplayName;
+import static org.tabletest.junit.ParameterTypeConverter.resolveConversions;
 import static org.tabletest.junit.TableTestException.notEnoughTestParameters;
 import static org.tabletest.junit.TableTestException.rowWidthMismatch;
 import static org.tabletest.junit.ValueSetUtil.generateValueCombinations;
@@ -80,11 +81,107 @@ public class TableTestArgumentsProvider {
      * @throws TableTestException if unable to provide an argument
      */
     public static Stream<? extends Arguments> provideArgumentsForInput(Method testMethod, String input) {
-        Table table = TableParser.parse(input);
+        return provideArgumentsForInput(testMethod, input, TableOptions.defaults());
+    }
+
+    /**
+     * Provides a stream of arguments for the given test method from tabular data, with the given options.
+     * <p>
+     * See {@link #provideArgumentsForInput(Method, Table, TableOptions)}.
+     *
+     * @param testMethod The test method the arguments are provided for
+     * @param input      The string containing the table data
+     * @param options    How value sets are expanded, and which rows are skipped, timed, and ordered
+     * @return A stream of Arguments objects, one for each data row in the table
+     * @throws TableTestException if unable to provide an argument
+     */
+    static Stream<? extends Arguments> provideArgumentsForInput(Method testMethod, String input, TableOptions options) {
+        return provideArgumentsForInput(testMethod, validateAndParse(TableSource.of(input)), options);
+    }
+
+    /**
+     * Provides a stream of arguments for the given test method from a parsed table, with the given options.
+     * <p>
+     * The values of several value sets in a row are combined with the options' expansion strategy,
+     * and only the combinations selected by its sampling are provided.
+     * <p>
+     * A row recorded as passing by the result cache is provided as a single invocation with its cells
+     * unconverted, to be skipped rather than run. Every invocation provided is registered with the options'
+     * {@link InvocationRows}, so the cache, timings, and costs can find the row of an invocation that runs.
+     * Rows that are run are registered with the cache, so it learns which rows pass, and with the timings
+     * and costs, to tag their wall time with their row.
+     * <p>
+     * Rows are provided in the order given by their recorded costs, or in table order without them.
+     * The invocations of a row are always provided together, in the order of its value set combinations.
+     * Once the fail-fast threshold is reached, each remaining row is provided as a single invocation with
+     * its cells unconverted, to be skipped rather than run.
+     *
+     * @param testMethod The test method the arguments are provided for
+     * @param table      The table, checked by {@link #validateAndParse(TableSource)}
+     * @param options    How value sets are expanded, and which rows are skipped, timed, and ordered
+     * @return A stream of Arguments objects, one for each data row in the table
+     * @throws TableTestException if unable to provide an argument
+     */
+    static Stream<? extends Arguments> provideArgumentsForInput(Method testMethod, Table table, TableOptions options) {
+        ValueSetExpansion expansion = options.expansion();
+        ValueSetSampling sampling = options.sampling();
+        ResultCache results = options.results();
+        RowTimings timings = options.timings();
+        RowCosts costs = options.costs();
+        FailFast failFast = options.failFast();
+        InvocationRows invocations = options.invocations();
         Parameter[] parameters = resolveParameters(testMethod, table.columnCount());
-        validateRowWidths(table);
+        resolveConversions(Arrays.asList(parameters).subList(0, Math.min(parameters.length, table.columnCount())));
+        ScenarioNameTemplate naming = ScenarioNameTemplate.of(table.columnCount(), parameters);
+        BatchConversion batch = BatchConversion.of(
+            table,
+            parameters,
+            naming,
+            index -> !results.hasPassed(results.rowKey(table, index, expansion, sampling)),
+            failFast.isEnabled()
+        );
 
-        return table.map(row -> toArguments(row, parameters));
+        return costs.order(table, expansion)
+            .flatMap(index -> {
+                if (failFast.isTripped()) {
+                    invocations.add(index);
+                    return Stream.of(toSkippedArguments(table.row(index), naming));
+                }
+                String rowKey = results.rowKey(table, index, expansion, sampling);
+                if (results.hasPassed(rowKey)) {
+                    invocations.add(index);
+                    return Stream.of(results.unchanged(index, rowKey, toSkippedArguments(table.row(index), naming)));
+                }
+                costs.track(index, costs.rowKey(table, index, expansion));
+                return failFast.untilTripped(
+                    toArguments(table.row(index), parameters, naming, expansion, sampling, batch, index)
+                        .map(arguments -> timings.track(invocations.add(index), index, results.track(index, rowKey, arguments)))
+                );
+            });
+    }
+
+    /**
+     * Parses the table after checking its structure.
+     * <p>
+     * {@link TableParser#validate(TableSource)} checks the row widths in a single scan, without building
+     * any values, so a malformed table fails before its rows are parsed. A table failing the check is
+     * parsed in full to report the problem in terms of its rows.
+     * <p>
+     * A well-formed table is parsed lazily: its list, set and map cells are parsed when a row's
+     * cells are converted, so rows that are skipped are never parsed beyond their shape.
+     *
+     * @param input The table
+     * @return The parsed table, with every data row as wide as the header row
+     * @throws TableTestException if a data row's width differs from the header's
+     */
+    static Table validateAndParse(TableSource input) {
+        try {
+            TableParser.validate(input);
+        } catch (TableTestParseException structuralProblem) {
+            validateRowWidths(TableParser.parse(input));
+            throw structuralProblem;
+        }
+        return TableParser.parseLazily(input);
     }
 
     /**
@@ -131,7 +228,10 @@ public class TableTestArgumentsProvider {
      * Converts a table row into a stream of Arguments instances by mapping each cell value to the
      * corresponding parameter type and expanding value sets to one Arguments instance per value.
      * <p>
-     * Uses {@link ParameterTypeConverter} to convert cell values to the expected parameter type.
+     * Uses {@link ParameterTypeConverter} to convert cell values to the expected parameter type,
+     * except for cells already converted for the whole column by a batch type converter.
+     * JUnit pulls the arguments of one invocation at a time, so a row is converted just before
+     * its invocations run, and converted values of earlier rows are not held by later ones.
      * <p>
      * If the row has one additional cell compared to the number of parameters, the first cell is
      * assumed to be the name of the argument set. Alternatively, a single parameter with annotation
@@ -139,21 +239,52 @@ public class TableTestArgumentsProvider {
      *
      * @param row        The row of data from the table
      * @param parameters The method parameters defining the expected types
+     * @param naming     The naming of the invocations of the test method
+     * @param expansion  The strategy for combining values of several value sets
+     * @param sampling   The selection of value set combinations to run
+     * @param batch      The values of the table converted by batch type converters
+     * @param rowIndex   The zero-based position of the row in the table
      * @return Stream of Arguments containing the converted values
      */
-    private static Stream<? extends Arguments> toArguments(Row row, Parameter[] parameters) {
+    private static Stream<? extends Arguments> toArguments(
+        Row row,
+        Parameter[] parameters,
+        ScenarioNameTemplate naming,
+        ValueSetExpansion expansion,
+        ValueSetSampling sampling,
+        BatchConversion batch,
+        int rowIndex
+    ) {
 
-        Row dataRow = row.skipFirstIf(hasUndeclaredColumn(row, parameters)); // first column is scenario name by convention
+        Row dataRow = row.skipFirstIf(naming.hasUndeclaredColumn()); // first column is scenario name by convention
         List<Object> convertedValues = dataRow
-            .mapIndexed((index, cell) -> convertValue(cell, parameters[index]))
+            .mapIndexed((index, cell) -> batch.isConverted(rowIndex, index)
+                ? batch.value(rowIndex, index)
+                : convertValue(cell, parameters[index]))
             .collect(toList());
         validateValueSetsNotEmpty(convertedValues, parameters, dataRow);
 
-        return generateValueCombinations(convertedValues, parameters, 0)
-            .map(values ->
-                hasScenarioName(row, parameters)
-                    ? Arguments.argumentSet(toDisplayName(values, row, parameters), values.toArray())
-                    : Arguments.of(values.toArray())
-            );
+        Stream<List<?>> combinations = generateValueCombinations(convertedValues, parameters, expansion, sampling, rowIndex);
+        if (!naming.hasScenarioName(row)) {
+            return combinations.map(values -> Arguments.of(values.toArray()));
+        }
+        ScenarioNameTemplate.RowNames names = naming.forRow(row);
+        return combinations.map(values -> Arguments.argumentSet(names.displayName(values), values.toArray()));
+    }
+
+    /**
+     * Creates the arguments of the invocation standing in for a row that is skipped, as unchanged
+     * or after the fail-fast threshold is reached.
+     * <p>
+     * The invocation is named after the row as written, and its arguments are the parsed cells
+     * as they are, so no converter is called for a row that is not run.
+     *
+     * @param row    The row of data from the table
+     * @param naming The naming of the invocations of the test method
+     * @return Arguments of the skipped invocation
+     */
+    private static Arguments toSkippedArguments(Row row, ScenarioNameTemplate naming) {
+        Object[] cells = row.skipFirstIf(naming.hasUndeclaredColumn()).values().toArray();
+        return Arguments.argumentSet(naming.describe(row), cells);
     }
 }
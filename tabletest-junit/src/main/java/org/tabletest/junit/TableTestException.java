@@ -20,6 +20,9 @@ import org.tabletest.parser.Row;
 
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -65,17 +68,47 @@ public class TableTestException extends ParameterResolutionException {
         );
     }
 
-    static String typeConverterCycle(Object value, ParameterType targetType) {
+    static String batchTypeConverterFailed(Method converter, List<String> values, ParameterType targetType) {
         return String.format(
-            "Type converter cycle detected while converting value \"%s\" to type %s: " +
-                "resolving the converter's parameter requires converting to %s again. " +
-                "A type converter must not take the type it returns, directly or via other converters.",
-            value,
+            "Failed to convert %d values to type %s with batch type converter %s.%s(): %s",
+            values.size(),
             targetType.name(),
+            converter.getDeclaringClass().getTypeName(),
+            converter.getName(),
+            values
+        );
+    }
+
+    static String batchTypeConverterSizeMismatch(Method converter, int valueCount, List<?> converted) {
+        return String.format(
+            "Batch type converter %s.%s() returned %s for %d values; it must return one converted value per value, in order",
+            converter.getDeclaringClass().getTypeName(),
+            converter.getName(),
+            converted == null ? "null" : converted.size() + " values",
+            valueCount
+        );
+    }
+
+    static String batchTypeConverterWrongType(Method converter, String value, Object converted, ParameterType targetType) {
+        return String.format(
+            "Batch type converter %s.%s() converted \"%s\" to %s, which is not of type %s",
+            converter.getDeclaringClass().getTypeName(),
+            converter.getName(),
+            value,
+            converted == null ? "null" : converted + " of type " + converted.getClass().getTypeName(),
             targetType.name()
         );
     }
 
+    static String typeConverterCycle(List<Class<?>> cycle) {
+        return String.format(
+            "Type converter cycle detected for type %s: %s. " +
+                "A type converter must not take the type it returns, directly or via other converters.",
+            cycle.get(0).getTypeName(),
+            cycle.stream().map(Class::getTypeName).collect(Collectors.joining(" -> "))
+        );
+    }
+
     static String primitiveTypeDoesNotAllowNull(ParameterType parameterType) {
         return String.format(
             "Blank cell translates to null, but null cannot be assigned to primitive type %s",
@@ -108,6 +141,16 @@ public class TableTestException extends ParameterResolutionException {
         );
     }
 
+    static String tooManyCombinations(int rowNumber, int[] valueSetSizes) {
+        return String.format(
+            "Data row %d has too many combinations of value sets to sample. " +
+                "Value sets of sizes %s give more than %d combinations. Split the value sets over several rows.",
+            rowNumber,
+            Arrays.toString(valueSetSizes),
+            Long.MAX_VALUE
+        );
+    }
+
     static String rowWidthMismatch(int rowNumber, Row row, int columnCount) {
         return String.format(
             "Data row %d has %d cells but the header row has %d columns. " +
@@ -141,6 +184,37 @@ public class TableTestException extends ParameterResolutionException {
         return String.format("Failed to read table from external file %s using encoding %s", resource, encoding);
     }
 
+    static String invalidConfigurationParameter(String key, String value) {
+        return String.format("Configuration parameter %s must be a whole number, but was \"%s\"", key, value);
+    }
+
+    static String invalidDuration(String text) {
+        return String.format(
+            "Value \"%s\" is not a duration. Write a number followed by one of the units ns, us, ms, s, m, or h, " +
+                "like 50ms or 2s, or an ISO-8601 duration like PT0.5S",
+            text
+        );
+    }
+
+    static String durationOutOfRange(String text) {
+        return String.format(
+            "Value \"%s\" is too long a duration. Durations are measured in nanoseconds, up to about 292 years",
+            text
+        );
+    }
+
+    static String invalidStressOption(String attribute, int value) {
+        return String.format("@TableTest(%s = %d) is invalid; it must be at least 1", attribute, value);
+    }
+
+    static String unsupportedMaxDurationType(Parameter parameter) {
+        return String.format(
+            "Parameter %s annotated with @MaxDuration has type %s, but must be of type java.time.Duration or String",
+            parameter.getName(),
+            parameter.getType().getTypeName()
+        );
+    }
+
     static String multipleScenarioAnnotations(Executable declaringExecutable) {
         return String.format(
             "Multiple @Scenario annotations found in test method %s.%s",
@@ -24,15 +24,16 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -40,13 +41,14 @@ import static org.tabletest.junit.TableTestException.*;
 
 /**
  * Responsible for finding and invoking a type converter method to convert a parsed value to the target
- * parameter type, falling back to JUnit conversion if no type converter is found.
+ * parameter type, falling back to built-in conversions and then JUnit conversion if no type converter is found.
  */
 public class TypeConversion {
 
     /**
      * Converts a parsed value to the target parameter type using a type converter if available,
-     * otherwise falls back to JUnit conversion.
+     * otherwise falls back to a built-in conversion for primitives, their wrappers, and common
+     * JDK types, and finally to JUnit conversion.
      * <p>
      * Type converters will be looked for in the following order:
      * <ol>
@@ -56,15 +58,15 @@ public class TypeConversion {
      *     <li>Any classes listed in @TypeConverterSources annotation for test class (in listed order)</li>
      *     <li>Any classes listed in @TypeConverterSources for enclosing classes (in inside-out order)</li>
      * </ol>
+     * The converter found for a target type is remembered per test class in its {@link ConverterGraph},
+     * together with the converters it depends on, so the search path is searched once per test class
+     * and target type and converter cycles are rejected before any value is converted.
      *
      * @param value                  The parsed value to convert
      * @param targetType             The target type of the conversion
      * @param testClass              The test class to search for type converters
-     * @param convertingTargets      Target types whose converter input is currently being resolved,
-     *                               used to detect converter cycles
-     * @param convertedValueSupplier A function that supplies the parsed value converted to match
-     *                               the type converter's parameter type, given the extended set of
-     *                               in-progress target types
+     * @param convertedValueSupplier A function that supplies the parsed value converted to the given
+     *                               parameter type of the type converter
      * @return the converted value
      * @throws TableTestException if the conversion fails or a converter cycle is detected
      */
@@ -72,34 +74,85 @@ public class TypeConversion {
         Object value,
         ParameterType targetType,
         Class<?> testClass,
-        Set<Class<?>> convertingTargets,
-        BiFunction<Parameter, Set<Class<?>>, Object> convertedValueSupplier
+        Function<ParameterType, Object> convertedValueSupplier
     ) {
-        if (convertingTargets.contains(targetType.toClass())) {
-            throw new TableTestException(typeConverterCycle(value, targetType));
-        }
-        return findTypeConverter(targetType, typeConverterSearchPath(testClass))
-            .map(converter -> {
-                warnIfMissingAnnotation(converter);
+        return ConverterGraph.of(testClass).conversionTo(targetType)
+            .map(conversion -> {
+                warnIfMissingAnnotation(conversion.converter());
                 return invokeTypeConverter(
-                    converter,
-                    convertedValueSupplier.apply(
-                        converter.getParameters()[0],
-                        including(convertingTargets, targetType.toClass())
-                    ),
+                    conversion.converter(),
+                    convertedValueSupplier.apply(conversion.inputType()),
                     targetType
                 );
             })
-            .orElseGet(() -> fallbackToJUnitConversion(value, targetType, testClass));
+            .orElseGet(() -> BuiltInConverters.convert(value.toString(), targetType.toClass())
+                .orElseGet(() -> fallbackToJUnitConversion(value, targetType, testClass)));
     }
 
     /**
-     * Returns a new unmodifiable set extending the given set with the given target type.
+     * Converts a parsed value to the target parameter type, as {@link #convert(Object, ParameterType, Class, Function)}.
+     * <p>
+     * Converter cycles are rejected when a test class's converters are resolved, so the target types in
+     * progress are no longer needed. They are passed on to the supplier unchanged.
+     *
+     * @param value                  The parsed value to convert
+     * @param targetType             The target type of the conversion
+     * @param testClass              The test class to search for type converters
+     * @param convertingTargets      Ignored; passed on to the supplier as given
+     * @param convertedValueSupplier A function that supplies the parsed value converted to match
+     *                               the type converter's parameter type
+     * @return the converted value
+     * @throws TableTestException if the conversion fails or a converter cycle is detected
+     * @deprecated Use {@link #convert(Object, ParameterType, Class, Function)}
      */
-    private static Set<Class<?>> including(Set<Class<?>> convertingTargets, Class<?> target) {
-        Set<Class<?>> extended = new HashSet<>(convertingTargets);
-        extended.add(target);
-        return Collections.unmodifiableSet(extended);
+    @Deprecated
+    public static Object convert(
+        Object value,
+        ParameterType targetType,
+        Class<?> testClass,
+        Set<Class<?>> convertingTargets,
+        BiFunction<Parameter, Set<Class<?>>, Object> convertedValueSupplier
+    ) {
+        return convert(
+            value,
+            targetType,
+            testClass,
+            inputType -> convertedValueSupplier.apply(
+                ConverterGraph.of(testClass).conversionTo(targetType)
+                    .orElseThrow(IllegalStateException::new)
+                    .converter()
+                    .getParameters()[0],
+                convertingTargets
+            )
+        );
+    }
+
+    /**
+     * @param targetType The target type of the conversion
+     * @param testClass  The test class to search for type converters
+     * @return true if a type converter for the target type is found for the test class
+     * @throws TableTestException if a converter cycle is detected
+     */
+    static boolean hasTypeConverter(ParameterType targetType, Class<?> testClass) {
+        return ConverterGraph.of(testClass).conversionTo(targetType).isPresent();
+    }
+
+    /**
+     * Converts the cell values of a column in one call to a batch type converter, if one is found
+     * for the target type.
+     * <p>
+     * Batch type converters are looked for in the same order as type converters.
+     *
+     * @param values     The cell values to convert
+     * @param targetType The target type of the conversion
+     * @param testClass  The test class to search for type converters
+     * @return the converted values in the order of the cell values, or empty if no batch type
+     * converter is found for the target type
+     * @throws TableTestException if the conversion fails or returns the wrong number of values
+     */
+    static Optional<List<?>> convertAll(List<String> values, ParameterType targetType, Class<?> testClass) {
+        return ConverterGraph.of(testClass).batchConversionTo(targetType)
+            .map(converter -> invokeBatchTypeConverter(converter, values, targetType));
     }
 
     /**
@@ -112,7 +165,7 @@ public class TypeConversion {
      * @param typeConverterSearchPath The ordered stream of classes to search for an applicable type converter
      * @return An Optional with the type converter if found, otherwise an empty Optional
      */
-    private static Optional<Method> findTypeConverter(
+    static Optional<Method> findTypeConverter(
         ParameterType targetType,
         Stream<Class<?>> typeConverterSearchPath
     ) {
@@ -123,6 +176,25 @@ public class TypeConversion {
             .findFirst();
     }
 
+    /**
+     * Searches the provided search path for a batch type converter for mapping a list of parsed values
+     * to a list of the parameter type.
+     *
+     * @param targetType              The target type of the conversion
+     * @param typeConverterSearchPath The ordered stream of classes to search for an applicable batch type converter
+     * @return An Optional with the batch type converter if found, otherwise an empty Optional
+     */
+    static Optional<Method> findBatchTypeConverter(
+        ParameterType targetType,
+        Stream<Class<?>> typeConverterSearchPath
+    ) {
+        return typeConverterSearchPath
+            .map(it -> findMatchingBatchConverterInClass(it, targetType))
+            .filter(Optional::isPresent)
+            .flatMap(opt -> opt.map(Stream::of).orElse(Stream.empty()))
+            .findFirst();
+    }
+
     /**
      * Creates an ordered stream of classes to search for type converters.
      * <p>
@@ -136,7 +208,7 @@ public class TypeConversion {
      * @param testClass The current test class
      * @return A stream of classes to search for an applicable type converter
      */
-    private static Stream<Class<?>> typeConverterSearchPath(Class<?> testClass) {
+    static Stream<Class<?>> typeConverterSearchPath(Class<?> testClass) {
         return Stream.concat(
                 Stream.concat(
                     testClasses(testClass),
@@ -234,6 +306,7 @@ public class TypeConversion {
     ) {
         List<Method> matchingMethods = Arrays.stream(converterClass.getMethods())
             .filter(TypeConversion::isTypeConverter)
+            .filter(it -> !isBatchTypeConverter(it))
             .filter(it -> targetType.isAssignableFrom(it.getReturnType()))
             .collect(Collectors.toList());
 
@@ -247,6 +320,57 @@ public class TypeConversion {
         return matchingMethods.stream().findFirst();
     }
 
+    /**
+     * Finds the applicable batch type converter in a class, if any.
+     *
+     * @throws TableTestException if the class has several batch type converters for the target type
+     */
+    private static Optional<Method> findMatchingBatchConverterInClass(
+        Class<?> converterClass,
+        ParameterType targetType
+    ) {
+        List<Method> matchingMethods = Arrays.stream(converterClass.getMethods())
+            .filter(TypeConversion::isTypeConverter)
+            .filter(TypeConversion::isBatchTypeConverter)
+            .filter(it -> targetType.isAssignableFrom(batchElementType(it)))
+            .collect(Collectors.toList());
+
+        if (matchingMethods.size() > 1) {
+            throw new TableTestException(multipleTypeConvertersFound(converterClass, targetType));
+        }
+
+        return matchingMethods.stream().findFirst();
+    }
+
+    /**
+     * Decides if a type converter is a batch type converter: annotated with {@code @TypeConverter(batch = true)},
+     * taking a list of parsed values, and returning a list.
+     */
+    private static boolean isBatchTypeConverter(Method method) {
+        TypeConverter annotation = method.getAnnotation(TypeConverter.class);
+        return annotation != null
+            && annotation.batch()
+            && method.getParameterTypes()[0].isAssignableFrom(List.class)
+            && List.class.isAssignableFrom(method.getReturnType());
+    }
+
+    /**
+     * @return the element type of the list returned by a batch type converter, or null if not declared
+     */
+    private static Class<?> batchElementType(Method method) {
+        Type returnType = method.getGenericReturnType();
+        if (returnType instanceof ParameterizedType) {
+            Type elementType = ((ParameterizedType) returnType).getActualTypeArguments()[0];
+            if (elementType instanceof Class<?>) {
+                return (Class<?>) elementType;
+            }
+            if (elementType instanceof ParameterizedType) {
+                return (Class<?>) ((ParameterizedType) elementType).getRawType();
+            }
+        }
+        return null;
+    }
+
     /**
      * Returns the single {@link TypeConverter}-annotated method among the candidates,
      * or empty if none or several are annotated.
@@ -313,6 +437,39 @@ public class TypeConversion {
         }
     }
 
+    /**
+     * Invokes a batch type converter to convert a list of parsed values to the parameter type.
+     *
+     * @param converter  The batch type converter method to invoke
+     * @param values     The values to convert
+     * @param targetType The target type of the conversion
+     * @return The converted values, one for each value
+     * @throws TableTestException if the converter fails, or does not return one value of the target type per value
+     */
+    private static List<?> invokeBatchTypeConverter(
+        Method converter,
+        List<String> values,
+        ParameterType targetType
+    ) {
+        Object converted;
+        try {
+            converted = converter.invoke(null, values);
+        } catch (IllegalAccessException | InvocationTargetException cause) {
+            throw new TableTestException(batchTypeConverterFailed(converter, values, targetType), cause);
+        }
+        if (converted == null || ((List<?>) converted).size() != values.size()) {
+            throw new TableTestException(batchTypeConverterSizeMismatch(converter, values.size(), (List<?>) converted));
+        }
+        List<?> convertedValues = (List<?>) converted;
+        for (int i = 0; i < convertedValues.size(); i++) {
+            Object value = convertedValues.get(i);
+            if (value == null ? targetType.isPrimitive() : !targetType.isAssignableFrom(value.getClass())) {
+                throw new TableTestException(batchTypeConverterWrongType(converter, values.get(i), value, targetType));
+            }
+        }
+        return convertedValues;
+    }
+
     private static Object fallbackToJUnitConversion(Object value, ParameterType targetType, Class<?> testClass) {
         try {
             return ConversionSupport.convert(
@@ -33,10 +33,30 @@ import java.lang.annotation.Target;
  *     return Money.parse(value);
  * }
  * </pre>
+ * <p>
+ * A batch type converter, marked with {@code batch = true}, converts a whole column in one call.
+ * It takes a {@code List} of the column's cell values and returns a {@code List} of converted
+ * values in the same order:
+ * <pre>
+ * &#64;TypeConverter(batch = true)
+ * public static List&lt;Account&gt; findAccounts(List&lt;String&gt; ids) {
+ *     return ACCOUNTS.findAll(ids);
+ * }
+ * </pre>
+ * It is called once per column per table, when the first value of the column is needed, with the
+ * plain cells of the rows that will run; rows skipped as unchanged by the result cache are left out.
+ * When the table may fail fast, it is called once per row instead. The returned list must hold one
+ * value of the target type per cell. Null cells, collections, value sets, and the scenario name
+ * column are converted cell by cell as usual.
  *
  * @see TypeConverterSources
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface TypeConverter {
+
+    /**
+     * @return true if the method converts a list of cell values to a list of values of the target type
+     */
+    boolean batch() default false;
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+/**
+ * Strategy for combining the values of several value sets in the same table row
+ * into test invocations.
+ *
+ * @see TableTest#expansion()
+ */
+public enum ValueSetExpansion {
+
+    /**
+     * Every combination of values is tested (the Cartesian product).
+     * Two value sets of size 10 give 100 invocations.
+     */
+    CARTESIAN(Integer.MAX_VALUE),
+
+    /**
+     * Every pair of values from any two value sets is tested at least once.
+     * Two value sets of size 10 still give 100 invocations, but five value sets of
+     * size 10 give in the order of 100–150 invocations instead of 100,000.
+     */
+    PAIRWISE(2),
+
+    /**
+     * Every triple of values from any three value sets is tested at least once.
+     */
+    THREE_WISE(3);
+
+    private final int strength;
+
+    ValueSetExpansion(int strength) {
+        this.strength = strength;
+    }
+
+    /**
+     * @return the number of value sets whose value combinations are all covered
+     */
+    public int strength() {
+        return strength;
+    }
+}
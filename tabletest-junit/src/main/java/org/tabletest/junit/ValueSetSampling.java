@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.junit;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.tabletest.junit.TableTestException.invalidConfigurationParameter;
+
+/**
+ * Selects a budgeted, seeded random sample of the value set combinations of a row.
+ * <p>
+ * Combinations are chosen by index, uniformly without replacement, so the full set of
+ * combinations is never materialized. The sample for a row depends only on the seed and
+ * the row's position in the table, so a run can be reproduced exactly by reusing the seed.
+ */
+public class ValueSetSampling {
+
+    /**
+     * Configuration parameter setting the maximum number of combinations per row
+     * for tables that do not set {@link TableTest#sampleSize()}.
+     */
+    public static final String SAMPLE_SIZE_PROPERTY = "tabletest.sample.size";
+
+    /**
+     * Configuration parameter setting the sampling seed for tables that do not set
+     * {@link TableTest#seed()}.
+     */
+    public static final String SEED_PROPERTY = "tabletest.sample.seed";
+
+    private static final ValueSetSampling NONE = new ValueSetSampling(0, 0, false);
+
+    private final int sampleSize;
+    private final long seed;
+    private final boolean randomSeed;
+
+    private ValueSetSampling(int sampleSize, long seed, boolean randomSeed) {
+        this.sampleSize = sampleSize;
+        this.seed = seed;
+        this.randomSeed = randomSeed;
+    }
+
+    /**
+     * @return sampling that selects every combination
+     */
+    public static ValueSetSampling none() {
+        return NONE;
+    }
+
+    /**
+     * @param sampleSize maximum number of combinations per row; must be positive
+     * @param seed       seed for the random selection
+     * @return sampling that selects at most {@code sampleSize} combinations per row
+     */
+    public static ValueSetSampling of(int sampleSize, long seed) {
+        if (sampleSize <= 0) {
+            throw new IllegalArgumentException("Sample size must be positive: " + sampleSize);
+        }
+        return new ValueSetSampling(sampleSize, seed, false);
+    }
+
+    /**
+     * Resolves the sampling to use from annotation values, falling back to configuration parameters.
+     * <p>
+     * A sample size or seed of zero is unset. Without a sample size, every combination is selected.
+     * Without a seed, a new random seed is chosen.
+     *
+     * @param sampleSize             sample size from the annotation, or zero
+     * @param seed                   seed from the annotation, or zero
+     * @param configurationParameter lookup of configuration parameters by key
+     * @return the resolved sampling
+     * @throws TableTestException if a configuration parameter is not a valid number
+     */
+    static ValueSetSampling resolve(
+        int sampleSize,
+        long seed,
+        Function<String, Optional<String>> configurationParameter
+    ) {
+        long resolvedSize = sampleSize > 0
+            ? sampleSize
+            : configurationParameter.apply(SAMPLE_SIZE_PROPERTY)
+                .map(it -> parse(SAMPLE_SIZE_PROPERTY, it))
+                .orElse(0L);
+        if (resolvedSize <= 0) {
+            return none();
+        }
+        int size = (int) Math.min(resolvedSize, Integer.MAX_VALUE);
+        Optional<Long> fixedSeed = seed != 0
+            ? Optional.of(seed)
+            : configurationParameter.apply(SEED_PROPERTY).map(it -> parse(SEED_PROPERTY, it));
+        return fixedSeed.isPresent()
+            ? of(size, fixedSeed.get())
+            : new ValueSetSampling(size, randomSeed(), true);
+    }
+
+    private static long parse(String key, String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException cause) {
+            throw new TableTestException(invalidConfigurationParameter(key, value), cause);
+        }
+    }
+
+    private static long randomSeed() {
+        long seed;
+        do {
+            seed = new SplittableRandom().nextLong();
+        } while (seed == 0);
+        return seed;
+    }
+
+    public boolean isEnabled() {
+        return sampleSize > 0;
+    }
+
+    public int sampleSize() {
+        return sampleSize;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * @return true if the seed was chosen at random, as neither the annotation nor the configuration fixed it
+     */
+    boolean hasRandomSeed() {
+        return randomSeed;
+    }
+
+    /**
+     * Selects which of a row's combinations to run.
+     * <p>
+     * When sampling is disabled or the row has no more combinations than the sample size,
+     * every index is selected.
+     *
+     * @param combinationCount number of combinations in the row
+     * @param rowIndex         zero-based position of the row in the table
+     * @return selected combination indices in ascending order
+     */
+    public LongStream selectIndices(long combinationCount, int rowIndex) {
+        if (!isEnabled() || combinationCount <= sampleSize) {
+            return LongStream.range(0, combinationCount);
+        }
+        SplittableRandom random = new SplittableRandom(seed + rowIndex);
+        Set<Long> selected = new TreeSet<>();
+        for (long candidate = combinationCount - sampleSize; candidate < combinationCount; candidate++) {
+            long index = random.nextLong(candidate + 1);
+            selected.add(selected.contains(index) ? candidate : index);
+        }
+        return selected.stream().mapToLong(Long::longValue);
+    }
+
+    @Override
+    public String toString() {
+        return isEnabled()
+            ? "ValueSetSampling[sampleSize=" + sampleSize + ", seed=" + seed + "]"
+            : "ValueSetSampling[none]";
+    }
+}
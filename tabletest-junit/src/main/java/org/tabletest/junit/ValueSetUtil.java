@@ -19,12 +19,15 @@ import org.tabletest.parser.Row;
 
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.toList;
 import static org.tabletest.junit.TableTestException.emptyValueSet;
+import static org.tabletest.junit.TableTestException.tooManyCombinations;
 
 public class ValueSetUtil {
 
@@ -47,6 +50,102 @@ public class ValueSetUtil {
             });
     }
 
+    /**
+     * Generates the combinations of values to test by expanding sets that are not declared
+     * a Set type in the test method parameter, using the given expansion strategy.
+     *
+     * @param arguments  values from the row
+     * @param parameters test method parameters
+     * @param expansion  strategy for combining the values of several value sets
+     * @return Stream of value combinations to test
+     */
+    public static Stream<List<?>> generateValueCombinations(
+        List<?> arguments,
+        Parameter[] parameters,
+        ValueSetExpansion expansion
+    ) {
+        return generateValueCombinations(arguments, parameters, expansion, ValueSetSampling.none(), 0);
+    }
+
+    /**
+     * Generates the combinations of values to test by expanding sets that are not declared
+     * a Set type in the test method parameter, using the given expansion strategy and
+     * running only the sample of combinations selected by the given sampling.
+     * <p>
+     * Sampled combinations are selected by index and decoded on demand, so the full set of
+     * combinations is never materialized for Cartesian expansion.
+     *
+     * @param arguments  values from the row
+     * @param parameters test method parameters
+     * @param expansion  strategy for combining the values of several value sets
+     * @param sampling   selection of which combinations to run
+     * @param rowIndex   zero-based position of the row in the table, used to vary the sample between rows
+     * @return Stream of value combinations to test
+     * @throws TableTestException if the value sets of a sampled row have more combinations than can be counted
+     */
+    public static Stream<List<?>> generateValueCombinations(
+        List<?> arguments,
+        Parameter[] parameters,
+        ValueSetExpansion expansion,
+        ValueSetSampling sampling,
+        int rowIndex
+    ) {
+        if (expansion == ValueSetExpansion.CARTESIAN && !sampling.isEnabled()) {
+            return generateValueCombinations(arguments, parameters, 0);
+        }
+
+        int[] positions = IntStream.range(0, arguments.size())
+            .filter(position -> isToBeExpanded(arguments.get(position), parameters[position].getType()))
+            .toArray();
+        List<List<?>> valueSets = Arrays.stream(positions)
+            .mapToObj(position -> new ArrayList<>((Set<?>) arguments.get(position)))
+            .collect(toList());
+        int[] sizes = valueSets.stream().mapToInt(List::size).toArray();
+
+        if (expansion == ValueSetExpansion.CARTESIAN) {
+            return sampling.selectIndices(combinationCount(sizes, rowIndex), rowIndex)
+                .mapToObj(index -> argumentsWithValuesAtPositions(arguments, valueSets, decode(index, sizes), positions));
+        }
+
+        List<int[]> coveringArray = CoveringArray.generate(sizes, expansion.strength());
+        return sampling.selectIndices(coveringArray.size(), rowIndex)
+            .mapToObj(index -> argumentsWithValuesAtPositions(arguments, valueSets, coveringArray.get((int) index), positions));
+    }
+
+    /**
+     * @return the number of combinations in the Cartesian product of value sets of the given sizes
+     * @throws TableTestException if the number of combinations does not fit in a long
+     */
+    private static long combinationCount(int[] sizes, int rowIndex) {
+        long count = 1;
+        for (int size : sizes) {
+            try {
+                count = Math.multiplyExact(count, size);
+            } catch (ArithmeticException e) {
+                throw new TableTestException(tooManyCombinations(rowIndex + 1, sizes), e);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Decodes the index of a combination in the Cartesian product into one value index per value set.
+     * The last value set varies fastest, matching the order of {@link #generateValueCombinations(List, Parameter[], int)}.
+     *
+     * @param index position of the combination in the Cartesian product
+     * @param sizes number of values in each value set
+     * @return index of the selected value in each value set
+     */
+    private static int[] decode(long index, int[] sizes) {
+        int[] indices = new int[sizes.length];
+        long remainder = index;
+        for (int i = sizes.length - 1; i >= 0; i--) {
+            indices[i] = (int) (remainder % sizes[i]);
+            remainder /= sizes[i];
+        }
+        return indices;
+    }
+
     /**
      * Recursively generates all combinations of values by expanding sets that are not
      * declared a Set type in the test method parameter.
@@ -106,15 +205,24 @@ public class ValueSetUtil {
     }
 
     /**
-     * Returns true if the current parameter value is selected from a value set in the table row.
+     * Returns a new list with the values at the specified positions replaced with the selected values.
      *
-     * @param parameterValue parameter value for this test invocation
-     * @param rowValue       the value specified in the table row
-     * @return true if the value is from a value set, false otherwise
+     * @param arguments list of values
+     * @param valueSets value sets to select from, one per position
+     * @param indices   index of the selected value in each value set
+     * @param positions positions of the values to replace
+     * @return new list with the selected values in the specified positions
      */
-    static boolean isFromValueSet(Object parameterValue, Object rowValue) {
-        return parameterValue != null && rowValue != null &&
-               !Set.class.isAssignableFrom(parameterValue.getClass()) &&
-               Set.class.isAssignableFrom(rowValue.getClass());
+    private static List<?> argumentsWithValuesAtPositions(
+        List<?> arguments,
+        List<List<?>> valueSets,
+        int[] indices,
+        int[] positions
+    ) {
+        List<Object> newValues = new ArrayList<>(arguments);
+        for (int i = 0; i < positions.length; i++) {
+            newValues.set(positions[i], valueSets.get(i).get(indices[i]));
+        }
+        return newValues;
     }
 }
@@ -0,0 +1,109 @@
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.provider.Arguments;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tabletest.junit.AllocationMeter.allocatedBytes;
+import static org.tabletest.junit.TableTestArgumentsProvider.provideArgumentsForInput;
+
+/**
+ * Guards against allocation regressions in providing arguments. Parsing a table and converting
+ * every argument of every invocation must stay within a budget of bytes allocated per table
+ * cell, and the allocation per row must not grow with the number of rows.
+ * <p>
+ * Budgets leave room for differences between JVMs; lower them when conversion gets leaner. The measurements
+ * still depend on the JVM, so these tests are tagged {@code allocation} and run only with {@code -Pallocation}.
+ */
+@Tag("allocation")
+class AllocationBudgetTest {
+
+    private static final int COLUMNS = 4;
+    private static final int ROWS = 250;
+
+    @TableTest("""
+        Scenario                | Cell                     | Parameters  | Bytes per cell?
+        Scalar                  | 12345                    | scalars     | 10_000
+        List                    | '[1, 2, 3]'              | lists       | 33_000
+        Nested list             | '[[1, 2], [3, 4]]'       | nestedLists | 61_000
+        Map of lists            | '[a: [1, 2], b: [3, 4]]' | maps        | 70_000
+        Value set, expanded     | '{1, 2, 3}'              | scalars     | 37_000
+        Value set as Set        | '{1, 2, 3}'              | sets        | 29_000
+        """)
+    void stays_within_budget_per_cell(String cell, String parameters, long budgetPerCell) {
+        Method method = method(parameters);
+        String table = table(cell, ROWS);
+
+        long bytesPerCell = allocatedBytes(() -> provideAndConvert(method, table)) / (COLUMNS * ROWS);
+
+        assertTrue(
+            bytesPerCell <= budgetPerCell,
+            "Providing " + cell + " as " + parameters + " allocates " + bytesPerCell
+                + " bytes per cell, budget is " + budgetPerCell
+        );
+    }
+
+    @Test
+    void allocates_the_same_per_row_however_many_rows() {
+        Method method = method("maps");
+        String cell = "[a: [1, 2], b: [3, 4]]";
+        long bytesPerRowOfFew = allocatedBytes(() -> provideAndConvert(method, table(cell, 250))) / 250;
+        long bytesPerRowOfMany = allocatedBytes(() -> provideAndConvert(method, table(cell, 2000))) / 2000;
+
+        assertTrue(
+            bytesPerRowOfMany <= bytesPerRowOfFew * 1.2,
+            "Bytes per row grow from " + bytesPerRowOfFew + " for 250 rows to " + bytesPerRowOfMany + " for 2000 rows"
+        );
+    }
+
+    private static void provideAndConvert(Method method, String table) {
+        provideArgumentsForInput(method, table).forEach(Arguments::get);
+    }
+
+    private static String table(String cell, int rows) {
+        String header = IntStream.range(0, COLUMNS).mapToObj(i -> "c" + i).collect(Collectors.joining(" | "));
+        String row = IntStream.range(0, COLUMNS).mapToObj(i -> cell).collect(Collectors.joining(" | "));
+        return header + "\n" + IntStream.range(0, rows).mapToObj(i -> row).collect(Collectors.joining("\n"));
+    }
+
+    @SuppressWarnings("unused")
+    private void scalars(int a, int b, int c, int d) {
+    }
+
+    @SuppressWarnings("unused")
+    private void lists(List<Integer> a, List<Integer> b, List<Integer> c, List<Integer> d) {
+    }
+
+    @SuppressWarnings("unused")
+    private void nestedLists(List<List<Integer>> a, List<List<Integer>> b, List<List<Integer>> c, List<List<Integer>> d) {
+    }
+
+    @SuppressWarnings("unused")
+    private void maps(
+        Map<String, List<Integer>> a,
+        Map<String, List<Integer>> b,
+        Map<String, List<Integer>> c,
+        Map<String, List<Integer>> d
+    ) {
+    }
+
+    @SuppressWarnings("unused")
+    private void sets(Set<Integer> a, Set<Integer> b, Set<Integer> c, Set<Integer> d) {
+    }
+
+    private static Method method(String name) {
+        return Arrays.stream(AllocationBudgetTest.class.getDeclaredMethods())
+            .filter(method -> method.getName().equals(name))
+            .findFirst()
+            .orElseThrow();
+    }
+}
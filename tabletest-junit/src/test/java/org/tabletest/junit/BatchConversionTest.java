@@ -0,0 +1,135 @@
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.provider.Arguments;
+import org.tabletest.junit.javadomain.Age;
+import org.tabletest.parser.TableParser;
+
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.tabletest.junit.TableTestArgumentsProvider.provideArgumentsForInput;
+
+/**
+ * Tests that batch type converters convert only the cells of rows that will run,
+ * and leave the scenario column to be converted cell by cell.
+ */
+class BatchConversionTest {
+
+    private static final String TABLE = """
+        Scenario | Age
+        First    | 1
+        Second   | 2
+        Third    | 3
+        """;
+
+    private static final List<String> CALLS = Collections.synchronizedList(new ArrayList<>());
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void clearCalls() {
+        CALLS.clear();
+    }
+
+    @Test
+    void converts_the_column_when_its_first_value_is_needed() {
+        Stream<? extends Arguments> arguments = provide(ResultCache.none(), FailFast.none());
+        assertEquals(List.of(), CALLS);
+
+        assertEquals(List.of(new Age(1), new Age(2), new Age(3)), arguments.map(it -> it.get()[0]).toList());
+        assertEquals(List.of("batch [1, 2, 3]"), CALLS);
+    }
+
+    @Test
+    void converts_row_by_row_when_the_table_may_fail_fast() {
+        FailFast failFast = FailFast.after(1);
+
+        provide(ResultCache.none(), failFast).forEach(arguments -> failFast.failed());
+
+        assertEquals(List.of("batch [1]"), CALLS);
+    }
+
+    @Test
+    void leaves_out_rows_skipped_as_unchanged() {
+        ResultCache firstRun = resultCache();
+        provide(firstRun, FailFast.none()).limit(1).forEach(arguments -> firstRun.passed(0));
+        firstRun.close();
+        CALLS.clear();
+
+        provide(resultCache(), FailFast.none()).forEach(Arguments::get);
+
+        assertEquals(List.of("batch [2, 3]"), CALLS);
+    }
+
+    @Test
+    void converts_the_scenario_parameter_cell_by_cell() {
+        Method method = method("scenarioAndAge");
+
+        List<Object[]> arguments = provideArgumentsForInput(method, TABLE).map(Arguments::get).toList();
+
+        assertEquals(
+            List.of("batch [1, 2, 3]", "single First", "single Second", "single Third"),
+            CALLS.stream().sorted().toList()
+        );
+        assertEquals(new Age(-1), arguments.get(0)[0]);
+    }
+
+    private Stream<? extends Arguments> provide(ResultCache results, FailFast failFast) {
+        return provideArgumentsForInput(
+            method("age"),
+            TableParser.parse(TABLE),
+            TableOptions.defaults().withResults(results).withFailFast(failFast)
+        );
+    }
+
+    private ResultCache resultCache() {
+        Map<String, String> parameters = Map.of(
+            ResultCache.ENABLED_PROPERTY, "true",
+            ResultCache.DIRECTORY_PROPERTY, directory.toString()
+        );
+        return ResultCache.resolve(method("age"), key -> Optional.ofNullable(parameters.get(key)));
+    }
+
+    public static class Converters {
+
+        @SuppressWarnings("unused")
+        private void age(Age age) {
+        }
+
+        @SuppressWarnings("unused")
+        private void scenarioAndAge(@Scenario Age scenario, Age age) {
+        }
+
+        @TypeConverter(batch = true)
+        public static List<Age> ages(List<String> ages) {
+            CALLS.add("batch " + ages);
+            return ages.stream().map(it -> new Age(Integer.parseInt(it))).collect(Collectors.toList());
+        }
+
+        @TypeConverter
+        public static Age age(String age) {
+            CALLS.add("single " + age);
+            return new Age(age.chars().allMatch(Character::isDigit) ? Integer.parseInt(age) : -1);
+        }
+    }
+
+    private static Method method(String name) {
+        return Arrays.stream(Converters.class.getDeclaredMethods())
+            .filter(method -> method.getName().equals(name) && method.getReturnType() == void.class)
+            .findFirst()
+            .orElseThrow();
+    }
+}
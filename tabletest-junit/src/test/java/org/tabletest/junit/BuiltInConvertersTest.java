@@ -0,0 +1,82 @@
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.support.conversion.ConversionException;
+import org.junit.platform.commons.support.conversion.ConversionSupport;
+
+import java.io.File;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BuiltInConvertersTest {
+
+    @TableTest("""
+        Scenario                | Text                                   | Type
+        Decimal int             | 42                                     | int
+        Hexadecimal int         | 0x2A                                   | int
+        Octal int               | 052                                    | java.lang.Integer
+        Int with underscores    | 1_000_000                              | int
+        Negative long           | -9_000_000_000                         | long
+        Byte                    | 127                                    | byte
+        Short                   | -32768                                 | java.lang.Short
+        Float                   | 1.5                                    | float
+        Double in exponent form | 1e-3                                   | java.lang.Double
+        Boolean ignoring case   | TRUE                                   | boolean
+        Boxed boolean           | false                                  | java.lang.Boolean
+        Character               | x                                      | char
+        Big integer             | 123_456_789_012_345_678_901            | java.math.BigInteger
+        Big decimal             | 3.14159265358979323846                 | java.math.BigDecimal
+        UUID                    | 123e4567-e89b-12d3-a456-426614174000   | java.util.UUID
+        Local date              | 2025-06-07                             | java.time.LocalDate
+        Local date time         | 2025-06-07T10:15:30                    | java.time.LocalDateTime
+        Local time              | 10:15                                  | java.time.LocalTime
+        Instant                 | 2025-06-07T10:15:30Z                   | java.time.Instant
+        Duration                | PT1H30M                                | java.time.Duration
+        Period                  | P1Y2M                                  | java.time.Period
+        Year                    | 2025                                   | java.time.Year
+        Year month              | 2025-06                                | java.time.YearMonth
+        Month day               | --06-07                                | java.time.MonthDay
+        Offset date time        | 2025-06-07T10:15:30+02:00              | java.time.OffsetDateTime
+        Offset time             | 10:15:30+02:00                         | java.time.OffsetTime
+        Zoned date time         | 2025-06-07T10:15:30+02:00[Europe/Oslo] | java.time.ZonedDateTime
+        Zone id                 | Europe/Oslo                            | java.time.ZoneId
+        Zone offset             | +02:00                                 | java.time.ZoneOffset
+        Enum constant           | SECONDS                                | java.util.concurrent.TimeUnit
+        """)
+    void converts_like_junit_implicit_conversion(String text, Class<?> type) {
+        assertEquals(
+            Optional.of(ConversionSupport.convert(text, type, getClass().getClassLoader())),
+            BuiltInConverters.convert(text, type)
+        );
+    }
+
+    @TableTest("""
+        Scenario                | Text       | Type
+        Int out of range        | 2147483648 | int
+        Not a number            | ten        | java.lang.Long
+        Boolean other than t/f  | yes        | boolean
+        More than one char      | xy         | char
+        Malformed date          | 2025-13-01 | java.time.LocalDate
+        Enum name of wrong case | seconds    | java.util.concurrent.TimeUnit
+        """)
+    void leaves_text_it_cannot_convert_to_junit(String text, Class<?> type) {
+        assertEquals(Optional.empty(), BuiltInConverters.convert(text, type));
+        assertThrows(ConversionException.class, () -> ConversionSupport.convert(text, type, getClass().getClassLoader()));
+    }
+
+    @Test
+    void leaves_types_without_built_in_conversion_to_junit() {
+        assertEquals(Optional.empty(), BuiltInConverters.convert("/tmp", File.class));
+        assertEquals(Optional.empty(), BuiltInConverters.convert("42", null));
+    }
+
+    @Test
+    void finds_every_constant_of_an_enum() {
+        for (TimeUnit unit : TimeUnit.values()) {
+            assertEquals(Optional.of(unit), BuiltInConverters.convert(unit.name(), TimeUnit.class));
+        }
+    }
+}
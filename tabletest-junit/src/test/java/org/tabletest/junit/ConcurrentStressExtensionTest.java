@@ -0,0 +1,94 @@
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.opentest4j.AssertionFailedError;
+import org.tabletest.junit.ConcurrentStressExtension.StressRun;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentStressExtensionTest {
+
+    private final AtomicInteger runs = new AtomicInteger();
+    private final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+    @Test
+    void runs_invocation_repeatedly_from_every_thread() throws Exception {
+        StressRun run = StressRun.of(invocationContext("counting"), 4, 25);
+
+        assertEquals(100, runs.get());
+        assertEquals(4, threadNames.size());
+        assertDoesNotThrow(run::assertNoFailures);
+        assertTrue(
+            run.summary().matches("4 threads x 25 repetitions: 100 runs, 0 failed, \\d+ ops/s, " +
+                "p50: \\d+\\.\\d{3} ms, p95: \\d+\\.\\d{3} ms, p99: \\d+\\.\\d{3} ms, max: \\d+\\.\\d{3} ms"),
+            run.summary()
+        );
+    }
+
+    @Test
+    void counts_failed_runs_and_fails_with_the_first_failure() throws Exception {
+        StressRun run = StressRun.of(invocationContext("failingEveryOtherRun"), 2, 10);
+
+        assertTrue(run.summary().startsWith("2 threads x 10 repetitions: 20 runs, 10 failed, "), run.summary());
+        AssertionFailedError failure = assertThrows(AssertionFailedError.class, run::assertNoFailures);
+        assertTrue(
+            failure.getMessage().startsWith("10 of 20 concurrent runs failed (2 threads x 10 repetitions); first failure: "),
+            failure.getMessage()
+        );
+        assertEquals("Odd run", failure.getCause().getMessage());
+        assertEquals(9, failure.getSuppressed().length);
+    }
+
+    @SuppressWarnings("unused")
+    void counting(String input) {
+        runs.incrementAndGet();
+        threadNames.add(Thread.currentThread().getName());
+    }
+
+    @SuppressWarnings("unused")
+    void failingEveryOtherRun(String input) {
+        if (runs.incrementAndGet() % 2 == 1) {
+            throw new IllegalStateException("Odd run");
+        }
+    }
+
+    private ReflectiveInvocationContext<Method> invocationContext(String methodName) {
+        Method method = Arrays.stream(getClass().getDeclaredMethods())
+            .filter(it -> it.getName().equals(methodName))
+            .findFirst()
+            .orElseThrow();
+        return new ReflectiveInvocationContext<>() {
+            @Override
+            public Class<?> getTargetClass() {
+                return ConcurrentStressExtensionTest.class;
+            }
+
+            @Override
+            public Method getExecutable() {
+                return method;
+            }
+
+            @Override
+            public List<Object> getArguments() {
+                return List.of("input");
+            }
+
+            @Override
+            public Optional<Object> getTarget() {
+                return Optional.of(ConcurrentStressExtensionTest.this);
+            }
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoveringArrayTest {
+
+    @TableTest("""
+        Scenario                           | Sizes                | Strength | Combinations?
+        Strength covers all positions      | [3, 4]               | 2        | 12
+        Three binary positions, pairwise   | [2, 2, 2]            | 2        | 4
+        Three binary positions, three-wise | [2, 2, 2]            | 3        | 8
+        Four ternary positions, pairwise   | [3, 3, 3, 3]         | 2        | 10
+        Five positions of ten, pairwise    | [10, 10, 10, 10, 10] | 2        | 138
+        Five positions of ten, three-wise  | [10, 10, 10, 10, 10] | 3        | 1436
+        Mixed sizes, pairwise              | [2, 5, 3, 4]         | 2        | 20
+        """)
+    void covers_every_tuple_of_strength_positions(List<Integer> sizes, int strength, int expectedCombinations) {
+        int[] sizeArray = sizes.stream().mapToInt(Integer::intValue).toArray();
+
+        List<int[]> combinations = CoveringArray.generate(sizeArray, strength);
+
+        assertEquals(expectedCombinations, combinations.size());
+        assertAllTuplesCovered(sizeArray, Math.min(strength, sizeArray.length), combinations);
+    }
+
+    @Test
+    void generates_full_cartesian_product_in_odometer_order_when_strength_covers_all_positions() {
+        List<String> combinations = CoveringArray.generate(new int[]{2, 3}, 2).stream()
+            .map(Arrays::toString)
+            .toList();
+
+        assertEquals(
+            List.of("[0, 0]", "[0, 1]", "[0, 2]", "[1, 0]", "[1, 1]", "[1, 2]"),
+            combinations
+        );
+    }
+
+    @Test
+    void generates_the_same_combinations_every_time() {
+        int[] sizes = {4, 3, 5, 2, 3};
+
+        assertEquals(
+            render(CoveringArray.generate(sizes, 2)),
+            render(CoveringArray.generate(sizes, 2))
+        );
+    }
+
+    @Test
+    void generates_one_empty_combination_for_no_positions() {
+        List<int[]> combinations = CoveringArray.generate(new int[0], 2);
+
+        assertEquals(1, combinations.size());
+        assertEquals(0, combinations.get(0).length);
+    }
+
+    private static void assertAllTuplesCovered(int[] sizes, int strength, List<int[]> combinations) {
+        for (int[] positions : positionGroups(sizes.length, strength)) {
+            Set<String> seen = combinations.stream()
+                .map(combination -> Arrays.stream(positions)
+                    .mapToObj(position -> String.valueOf(combination[position]))
+                    .collect(Collectors.joining(",")))
+                .collect(Collectors.toCollection(HashSet::new));
+            int expected = Arrays.stream(positions).map(position -> sizes[position]).reduce(1, (a, b) -> a * b);
+            assertTrue(
+                seen.size() == expected,
+                "Positions " + Arrays.toString(positions) + " cover " + seen.size() + " of " + expected + " tuples"
+            );
+        }
+    }
+
+    private static List<int[]> positionGroups(int count, int strength) {
+        if (strength == 0) return List.of(new int[0]);
+        return IntStream.range(0, count).boxed()
+            .flatMap(first -> positionGroups(count, strength - 1).stream()
+                .filter(rest -> rest.length == 0 || rest[0] > first)
+                .map(rest -> {
+                    int[] group = new int[rest.length + 1];
+                    group[0] = first;
+                    System.arraycopy(rest, 0, group, 1, rest.length);
+                    return group;
+                }))
+            .toList();
+    }
+
+    private static List<String> render(List<int[]> combinations) {
+        return combinations.stream().map(Arrays::toString).toList();
+    }
+}
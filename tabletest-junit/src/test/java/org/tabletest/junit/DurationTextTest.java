@@ -0,0 +1,68 @@
+package org.tabletest.junit;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DurationTextTest {
+
+    @TableTest("""
+        Scenario             | Text     | Nanoseconds?
+        Nanoseconds          | 250ns    | 250
+        Microseconds         | 40us     | 40000
+        Micro sign           | 40µs     | 40000
+        Milliseconds         | 50ms     | 50000000
+        Seconds              | 2s       | 2000000000
+        Decimal seconds      | 1.5s     | 1500000000
+        Minutes              | 1m       | 60000000000
+        Minutes spelled min  | 2min     | 120000000000
+        Hours                | 1h       | 3600000000000
+        Space before unit    | 10 ms    | 10000000
+        ISO-8601             | PT0.5S   | 500000000
+        ISO-8601 lower case  | pt1m     | 60000000000
+        """)
+    void reads_number_and_unit_or_iso_duration(String text, long expectedNanos) {
+        assertEquals(Duration.ofNanos(expectedNanos), DurationText.parse(text));
+    }
+
+    @TableTest("""
+        Scenario        | Text
+        No unit         | 50
+        Unknown unit    | 50 days
+        Negative        | -5ms
+        Not a number    | fast
+        """)
+    void fails_on_text_that_is_not_a_duration(String text) {
+        TableTestException exception = assertThrows(TableTestException.class, () -> DurationText.parse(text));
+        assertEquals(
+            "Value \"" + text + "\" is not a duration. Write a number followed by one of the units ns, us, ms, s, m, or h, " +
+                "like 50ms or 2s, or an ISO-8601 duration like PT0.5S",
+            exception.getMessage()
+        );
+    }
+
+    @TableTest("""
+        Scenario             | Text
+        Too many hours       | 3000000h
+        Too many seconds     | 9223372036855s
+        Too long in ISO-8601 | PT3000000H
+        """)
+    void fails_on_duration_too_long_to_time(String text) {
+        TableTestException exception = assertThrows(TableTestException.class, () -> DurationText.parse(text));
+        assertEquals(
+            "Value \"" + text + "\" is too long a duration. Durations are measured in nanoseconds, up to about 292 years",
+            exception.getMessage()
+        );
+    }
+
+    @TableTest("""
+        Nanoseconds   | Formatted?
+        1500000       | 1.500 ms
+        59999000000   | 59999.000 ms
+        90000000000   | 90.000 s
+        """)
+    void formats_in_milliseconds_below_a_minute(long nanos, String expectedText) {
+        assertEquals(expectedText, DurationText.format(Duration.ofNanos(nanos)));
+    }
+}
@@ -0,0 +1,83 @@
+package org.tabletest.junit;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+/**
+ * Runs a fixture class on the Jupiter engine and records the outcome of each invocation by display name,
+ * along with any test method or class that fails as a whole.
+ */
+final class EngineRun implements TestExecutionListener {
+
+    private final List<String> succeeded = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> failed = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> skipped = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, Throwable> failures = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private EngineRun() {
+    }
+
+    static EngineRun of(Class<?> fixture) {
+        return of(fixture, Map.of());
+    }
+
+    static EngineRun of(Class<?> fixture, Map<String, String> configurationParameters) {
+        LauncherDiscoveryRequest request = request()
+            .selectors(selectClass(fixture))
+            .configurationParameters(configurationParameters)
+            .build();
+        EngineRun run = new EngineRun();
+        LauncherFactory.create().execute(request, run);
+        return run;
+    }
+
+    List<String> succeeded() {
+        return List.copyOf(succeeded);
+    }
+
+    List<String> failed() {
+        return List.copyOf(failed);
+    }
+
+    List<String> skipped() {
+        return List.copyOf(skipped);
+    }
+
+    /**
+     * @return the failure of each failed test or container by display name
+     */
+    Map<String, Throwable> failures() {
+        synchronized (failures) {
+            return new LinkedHashMap<>(failures);
+        }
+    }
+
+    @Override
+    public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+        if (testIdentifier.isTest()) {
+            skipped.add(testIdentifier.getDisplayName());
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+        if (result.getStatus() != TestExecutionResult.Status.SUCCESSFUL) {
+            failed.add(testIdentifier.getDisplayName());
+            result.getThrowable().ifPresent(failure -> failures.put(testIdentifier.getDisplayName(), failure));
+        } else if (testIdentifier.isTest()) {
+            succeeded.add(testIdentifier.getDisplayName());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.provider.Arguments;
+import org.tabletest.parser.TableParser;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tabletest.junit.TableTestArgumentsProvider.provideArgumentsForInput;
+
+class FailFastTest {
+
+    private static final String TABLE = """
+        Scenario | a      | b
+        First    | 1      | 2
+        Second   | {3, 4} | 5
+        Third    | {6, 7} | 8
+        Fourth   | 9      | 10
+        """;
+
+    private static final String FAILING_TABLE = """
+        Scenario | a      | b
+        First    | 1      | 2
+        Second   | {3, 4} | 5
+        Third    | {6, 7} | 8
+        Fourth   | nine   | 10
+        """;
+
+    @Test
+    void is_disabled_unless_threshold_is_set() {
+        assertSame(FailFast.none(), FailFast.resolve(0, key -> Optional.empty()));
+        assertFalse(FailFast.none().isTripped());
+    }
+
+    @Test
+    void prefers_annotation_threshold_over_configuration_parameter() {
+        Map<String, String> parameters = Map.of(FailFast.THRESHOLD_PROPERTY, "5");
+
+        assertEquals(5, FailFast.resolve(0, key -> Optional.ofNullable(parameters.get(key))).threshold());
+        assertEquals(2, FailFast.resolve(2, key -> Optional.ofNullable(parameters.get(key))).threshold());
+    }
+
+    @Test
+    void fails_on_invalid_configuration_parameter() {
+        assertThrows(TableTestException.class, () -> FailFast.resolve(0, key -> Optional.of("often")));
+    }
+
+    @Test
+    void trips_when_failures_reach_threshold() {
+        FailFast failFast = FailFast.after(2);
+
+        failFast.failed();
+        assertFalse(failFast.isTripped());
+        failFast.failed();
+        assertTrue(failFast.isTripped());
+    }
+
+    @Test
+    void provides_remaining_rows_unexpanded_and_unconverted_once_tripped() {
+        FailFast failFast = FailFast.after(1);
+        Map<String, Arguments> provided = new LinkedHashMap<>();
+
+        provide(failFast).forEach(arguments -> {
+            provided.put(nameOf(arguments), arguments);
+            if (nameOf(arguments).equals("Second (a = 3)")) failFast.failed();
+        });
+
+        assertEquals(List.of("First", "Second (a = 3)", "Third", "Fourth"), List.copyOf(provided.keySet()));
+        assertEquals(List.of(Set.of("6", "7"), "8"), List.of(provided.get("Third").get()));
+    }
+
+    @Test
+    void provides_every_invocation_without_failures() {
+        assertEquals(6, provide(FailFast.after(1)).count());
+    }
+
+    @Test
+    void skips_the_rest_of_the_table_once_the_threshold_is_reached() {
+        EngineRun run = EngineRun.of(FailingTable.class);
+
+        assertEquals(List.of("[1] First"), run.succeeded());
+        assertEquals(List.of("[2] Second (a = 3)"), run.failed());
+        assertEquals(List.of("[3] Third", "[4] Fourth"), run.skipped());
+    }
+
+    @Test
+    void applies_the_configuration_parameter_to_tables_without_a_threshold() {
+        EngineRun run = EngineRun.of(ConfiguredFailingTable.class, Map.of(FailFast.THRESHOLD_PROPERTY, "1"));
+
+        assertEquals(List.of("[1] First"), run.succeeded());
+        assertEquals(List.of("[2] Second (a = 3)"), run.failed());
+        assertEquals(List.of("[3] Third", "[4] Fourth"), run.skipped());
+    }
+
+    private static Stream<? extends Arguments> provide(FailFast failFast) {
+        return provideArgumentsForInput(
+            twoIntParameters(),
+            TableParser.parse(TABLE),
+            TableOptions.defaults().withFailFast(failFast)
+        );
+    }
+
+    private static String nameOf(Arguments arguments) {
+        return ((Arguments.ArgumentSet) arguments).getName();
+    }
+
+    static class FailingTable {
+
+        @TableTest(failFast = 1, value = FAILING_TABLE)
+        void fails_after_first_row(int a, int b) {
+            assertTrue(a < 3, "fails from the second row on");
+        }
+    }
+
+    static class ConfiguredFailingTable {
+
+        @TableTest(FAILING_TABLE)
+        void fails_after_first_row(int a, int b) {
+            assertTrue(a < 3, "fails from the second row on");
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private void twoInts(int a, int b) {
+    }
+
+    private static Method twoIntParameters() {
+        return Arrays.stream(FailFastTest.class.getDeclaredMethods())
+            .filter(method -> method.getName().equals("twoInts"))
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,64 @@
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.Test;
+import org.tabletest.parser.TableParser;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.tabletest.junit.TableTestArgumentsProvider.provideArgumentsForInput;
+
+class InvocationRowsTest {
+
+    @Test
+    void finds_the_row_of_each_invocation_in_the_order_provided() {
+        InvocationRows invocations = new InvocationRows();
+        List<Integer> added = List.of(2, 2, 0, 1, 1, 1).stream().map(invocations::add).toList();
+
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), added);
+        assertEquals(List.of(2, 2, 0, 1, 1, 1), IntStream.rangeClosed(1, 6).mapToObj(invocations::rowOf).toList());
+    }
+
+    @Test
+    void knows_no_row_of_invocations_not_provided() {
+        InvocationRows invocations = new InvocationRows();
+        invocations.add(0);
+
+        assertEquals(-1, invocations.rowOf(0));
+        assertEquals(-1, invocations.rowOf(2));
+    }
+
+    @Test
+    void numbers_every_invocation_the_provider_hands_out_including_stand_ins_for_skipped_rows() {
+        FailFast failFast = FailFast.after(1);
+        TableOptions options = TableOptions.defaults().withFailFast(failFast);
+
+        long provided = provideArgumentsForInput(
+            twoIntParameters(),
+            TableParser.parse("""
+                Scenario | a      | b
+                First    | {1, 2} | 3
+                Second   | 4      | 5
+                Third    | 6      | 7
+                """),
+            options
+        ).peek(arguments -> failFast.failed()).count();
+
+        assertEquals(3, provided);
+        assertEquals(List.of(0, 1, 2, -1), IntStream.rangeClosed(1, 4).mapToObj(options.invocations()::rowOf).toList());
+    }
+
+    @SuppressWarnings("unused")
+    private void twoInts(int a, int b) {
+    }
+
+    private static Method twoIntParameters() {
+        return Arrays.stream(InvocationRowsTest.class.getDeclaredMethods())
+            .filter(method -> method.getName().equals("twoInts"))
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,118 @@
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.opentest4j.AssertionFailedError;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MaxDurationExtensionTest {
+
+    private final MaxDurationExtension extension = new MaxDurationExtension();
+    private final List<String> runs = new ArrayList<>();
+
+    @Test
+    void passes_invocation_within_its_budget() {
+        assertDoesNotThrow(() -> intercept("budgeted", Duration.ofSeconds(10)));
+        assertEquals(List.of("timed"), runs);
+    }
+
+    @Test
+    void fails_invocation_exceeding_its_budget() {
+        AssertionFailedError failure = assertThrows(
+            AssertionFailedError.class,
+            () -> intercept("budgeted", Duration.ofNanos(1))
+        );
+        assertTrue(
+            failure.getMessage().matches("Invocation took \\d+\\.\\d{3} ms, exceeding its budget of 0\\.000 ms given by @MaxDuration parameter \\w+"),
+            failure.getMessage()
+        );
+    }
+
+    @Test
+    void runs_warm_ups_before_the_timed_run() throws Throwable {
+        intercept("warmedUp", Duration.ofSeconds(10));
+        assertEquals(List.of("warm-up", "warm-up", "warm-up", "timed"), runs);
+    }
+
+    @Test
+    void reports_warm_ups_when_exceeding_budget() {
+        AssertionFailedError failure = assertThrows(
+            AssertionFailedError.class,
+            () -> intercept("warmedUp", Duration.ofNanos(1))
+        );
+        assertTrue(failure.getMessage().endsWith(" (timed after 3 warm-up runs)"), failure.getMessage());
+    }
+
+    @Test
+    void does_not_time_rows_without_budget() throws Throwable {
+        intercept("budgeted", null);
+        assertEquals(List.of("timed"), runs);
+    }
+
+    @Test
+    void reads_budget_of_string_parameter() {
+        assertThrows(AssertionFailedError.class, () -> intercept("budgetedAsText", "1ns"));
+        assertDoesNotThrow(() -> intercept("budgetedAsText", "10s"));
+    }
+
+    @SuppressWarnings("unused")
+    void budgeted(String input, @MaxDuration Duration budget) {
+    }
+
+    @SuppressWarnings("unused")
+    void warmedUp(String input, @MaxDuration(warmups = 3) Duration budget) {
+        runs.add("warm-up");
+    }
+
+    @SuppressWarnings("unused")
+    void budgetedAsText(String input, @MaxDuration String budget) {
+    }
+
+    private void intercept(String methodName, Object budget) throws Throwable {
+        Method method = Arrays.stream(getClass().getDeclaredMethods())
+            .filter(it -> it.getName().equals(methodName))
+            .findFirst()
+            .orElseThrow();
+        Invocation<Void> invocation = () -> {
+            runs.add("timed");
+            return null;
+        };
+        extension.interceptTestTemplateMethod(invocation, invocationContext(method, budget), null);
+    }
+
+    private ReflectiveInvocationContext<Method> invocationContext(Method method, Object budget) {
+        return new ReflectiveInvocationContext<>() {
+            @Override
+            public Class<?> getTargetClass() {
+                return MaxDurationExtensionTest.class;
+            }
+
+            @Override
+            public Method getExecutable() {
+                return method;
+            }
+
+            @Override
+            public List<Object> getArguments() {
+                return Arrays.asList("input", budget);
+            }
+
+            @Override
+            public Optional<Object> getTarget() {
+                return Optional.of(MaxDurationExtensionTest.this);
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Array;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PrimitiveArraysTest {
+
+    @TableTest("""
+        Scenario                | Elements                    | Type    | Converted by fallback?
+        Plain decimals          | [1, -2, +3, 0, -0]          | int     | 0
+        Underscores             | [1_000, 2_000]              | int     | 0
+        Octal and hexadecimal   | [010, 0x10, '#10']          | int     | 3
+        Too long to be safe     | [2147483647, 1]             | int     | 1
+        Long near its limits    | [999999999999999999, 1]     | long    | 0
+        Long beyond safe length | [-9223372036854775808]      | long    | 1
+        Decimal fractions       | [1.5, -.5, 2., 1e3, 1.5E-3] | double  | 0
+        Special values          | [NaN, Infinity, 1d]         | double  | 3
+        Floats                  | [1.5, -2]                   | float   | 0
+        Shorts                  | [1234, 12345]               | short   | 1
+        Bytes                   | [12, 127]                   | byte    | 1
+        Lowercase booleans      | [true, false]               | boolean | 0
+        Other boolean spellings | [TRUE, False]               | boolean | 2
+        Single characters       | [a, '1']                    | char    | 0
+        """)
+    void parses_plain_text_directly_and_converts_the_rest_like_scalars(
+        List<String> elements,
+        Class<?> type,
+        int expectedFallbackConversions
+    ) {
+        AtomicInteger fallbackConversions = new AtomicInteger();
+        Object array = PrimitiveArrays.of(elements, type, element -> {
+            fallbackConversions.incrementAndGet();
+            return BuiltInConverters.convert((String) element, type).orElseThrow();
+        });
+
+        assertEquals(type, array.getClass().getComponentType());
+        for (int i = 0; i < elements.size(); i++) {
+            assertEquals(
+                BuiltInConverters.convert(elements.get(i), type).orElseThrow(),
+                Array.get(array, i)
+            );
+        }
+        assertEquals(expectedFallbackConversions, fallbackConversions.get());
+    }
+
+    @Test
+    void builds_an_empty_array_without_converting() {
+        assertArrayEquals(new int[0], (int[]) PrimitiveArrays.of(List.of(), int.class, element -> {
+            throw new AssertionError("No element to convert");
+        }));
+    }
+
+    @Test
+    void reports_failures_of_the_fallback_conversion() {
+        IllegalStateException failure = new IllegalStateException("not a number");
+
+        assertEquals(failure, assertThrows(
+            IllegalStateException.class,
+            () -> PrimitiveArrays.of(List.of("1", "x"), int.class, element -> {
+                throw failure;
+            })
+        ));
+    }
+}
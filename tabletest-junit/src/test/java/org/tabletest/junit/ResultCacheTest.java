@@ -0,0 +1,211 @@
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.provider.Arguments;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tabletest.junit.TableTestArgumentsProvider.provideArgumentsForInput;
+
+class ResultCacheTest {
+
+    private static final String TABLE = """
+        Scenario | a | b
+        First    | 1 | {2, 3}
+        Second   | 4 | 5
+        """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void is_disabled_unless_enabled_by_configuration_parameter() {
+        assertSame(ResultCache.none(), ResultCache.resolve(twoIntParameters(), key -> Optional.empty()));
+        assertSame(ResultCache.none(), ResultCache.resolve(twoIntParameters(), configuration("false")));
+        assertTrue(ResultCache.resolve(twoIntParameters(), configuration("true")).isEnabled());
+    }
+
+    @Test
+    void runs_every_row_when_nothing_is_recorded() {
+        ResultCache cache = resolveCache();
+
+        List<? extends Arguments> arguments = provide(TABLE, cache);
+
+        assertEquals(3, arguments.size());
+        IntStream.range(0, 2).forEach(index -> assertFalse(cache.isUnchanged(index)));
+    }
+
+    @Test
+    void skips_rows_recorded_as_passing_as_one_unchanged_invocation_each() {
+        runPassing(TABLE);
+        ResultCache cache = resolveCache();
+
+        List<? extends Arguments> arguments = provide(TABLE, cache);
+
+        assertEquals(2, arguments.size());
+        assertEquals(List.of("First", "Second"), arguments.stream().map(it -> ((Arguments.ArgumentSet) it).getName()).toList());
+        assertTrue(cache.isUnchanged(0));
+        assertTrue(cache.isUnchanged(1));
+        assertEquals(List.of("1", Set.of("2", "3")), List.of(arguments.get(0).get()));
+    }
+
+    @Test
+    void runs_changed_rows_again() {
+        runPassing(TABLE);
+        ResultCache cache = resolveCache();
+
+        List<? extends Arguments> arguments = provide("""
+            Scenario | a | b
+            First    | 1 | {2, 3}
+            Second   | 4 | 6
+            """, cache);
+
+        assertEquals(2, arguments.size());
+        assertTrue(cache.isUnchanged(0));
+        assertFalse(cache.isUnchanged(1));
+    }
+
+    @Test
+    void runs_every_row_again_after_a_failure() {
+        runPassing(TABLE);
+        ResultCache failingRun = resolveCache();
+        provide("""
+            Scenario | a | b
+            First    | 1 | {2, 3}
+            Third    | 7 | 8
+            """, failingRun);
+        failingRun.failed();
+        failingRun.close();
+
+        assertEquals(3, provide(TABLE, resolveCache()).size());
+    }
+
+    @Test
+    void records_a_row_only_when_all_its_invocations_pass() {
+        ResultCache cache = resolveCache();
+        provide(TABLE, cache);
+        cache.passed(0);
+        cache.passed(1);
+        cache.close();
+
+        ResultCache nextRun = resolveCache();
+        assertEquals(3, provide(TABLE, nextRun).size());
+        assertFalse(nextRun.isUnchanged(0));
+        assertTrue(nextRun.isUnchanged(1));
+    }
+
+    @Test
+    void keeps_unchanged_rows_recorded_when_they_are_skipped() {
+        runPassing(TABLE);
+        ResultCache skippingRun = resolveCache();
+        provide(TABLE, skippingRun);
+        skippingRun.close();
+
+        assertEquals(2, provide(TABLE, resolveCache()).size());
+    }
+
+    @Test
+    void records_passing_rows_in_one_file_per_test_method() throws Exception {
+        runPassing(TABLE);
+
+        List<Path> files;
+        try (var paths = Files.walk(directory)) {
+            files = paths.filter(Files::isRegularFile).toList();
+        }
+        assertEquals(1, files.size());
+        assertEquals(getClass().getName(), files.get(0).getParent().getFileName().toString());
+        assertTrue(files.get(0).getFileName().toString().startsWith("twoInts-"));
+        assertEquals(2, Files.readAllLines(files.get(0)).size());
+    }
+
+    @Test
+    void never_converts_the_cells_of_unchanged_rows() {
+        Map<String, String> configuration = Map.of(
+            ResultCache.ENABLED_PROPERTY, "true",
+            ResultCache.DIRECTORY_PROPERTY, directory.toString()
+        );
+        assertEquals(3, EngineRun.of(CountedConversions.class, configuration).succeeded().size());
+        CountedConversions.CONVERSIONS.set(0);
+
+        EngineRun run = EngineRun.of(CountedConversions.class, configuration);
+
+        assertEquals(List.of("[1] First", "[2] Second"), run.skipped());
+        assertEquals(0, CountedConversions.CONVERSIONS.get());
+    }
+
+    private void runPassing(String table) {
+        ResultCache cache = resolveCache();
+        TableOptions options = TableOptions.defaults().withResults(cache);
+        int invocations = provide(table, options).size();
+        IntStream.rangeClosed(1, invocations).map(options.invocations()::rowOf).forEach(cache::passed);
+        cache.close();
+    }
+
+    private ResultCache resolveCache() {
+        return ResultCache.resolve(twoIntParameters(), configuration("true"));
+    }
+
+    private Function<String, Optional<String>> configuration(String enabled) {
+        Map<String, String> parameters = Map.of(
+            ResultCache.ENABLED_PROPERTY, enabled,
+            ResultCache.DIRECTORY_PROPERTY, directory.toString()
+        );
+        return key -> Optional.ofNullable(parameters.get(key));
+    }
+
+    private static List<? extends Arguments> provide(String table, ResultCache cache) {
+        return provide(table, TableOptions.defaults().withResults(cache));
+    }
+
+    private static List<? extends Arguments> provide(String table, TableOptions options) {
+        return provideArgumentsForInput(twoIntParameters(), table, options).toList();
+    }
+
+    public static class CountedConversions {
+
+        static final AtomicInteger CONVERSIONS = new AtomicInteger();
+
+        @TableTest("""
+            Scenario | a | b
+            First    | 1 | {2, 3}
+            Second   | 4 | 5
+            """)
+        void passes(Counted a, Counted b) {
+        }
+
+        @TypeConverter
+        public static Counted parseCounted(String text) {
+            CONVERSIONS.incrementAndGet();
+            return new Counted(text);
+        }
+    }
+
+    public record Counted(String text) {
+    }
+
+    @SuppressWarnings("unused")
+    private void twoInts(int a, int b) {
+    }
+
+    private static Method twoIntParameters() {
+        return Arrays.stream(ResultCacheTest.class.getDeclaredMethods())
+            .filter(method -> method.getName().equals("twoInts"))
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,82 @@
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RowConversionTest {
+
+    private static final List<String> EVENTS = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void clearEvents() {
+        EVENTS.clear();
+    }
+
+    @Test
+    void converts_each_row_just_before_its_invocation_runs() {
+        EngineRun run = EngineRun.of(ConvertedRows.class);
+
+        assertEquals(3, run.succeeded().size());
+        assertEquals(
+            List.of("convert 1", "run 1", "convert 2", "run 2", "convert 3", "run 3"),
+            EVENTS
+        );
+    }
+
+    @Test
+    void never_converts_the_cells_of_a_skipped_row() {
+        EngineRun run = EngineRun.of(SkippedRows.class);
+
+        assertEquals(1, run.failed().size());
+        assertEquals(2, run.skipped().size());
+        assertEquals(List.of("convert 1", "run 1"), EVENTS);
+    }
+
+    public record Token(String text) {
+    }
+
+    public static class ConvertedRows {
+
+        @TableTest("""
+            Scenario | Token
+            First    | 1
+            Second   | 2
+            Third    | 3
+            """)
+        void runs(Token token) {
+            EVENTS.add("run " + token.text());
+        }
+
+        @TypeConverter
+        public static Token parseToken(String text) {
+            EVENTS.add("convert " + text);
+            return new Token(text);
+        }
+    }
+
+    public static class SkippedRows {
+
+        @TableTest(failFast = 1, value = """
+            Scenario | Token
+            First    | 1
+            Second   | 2
+            Third    | 3
+            """)
+        void fails(Token token) {
+            EVENTS.add("run " + token.text());
+            throw new AssertionError("fails");
+        }
+
+        @TypeConverter
+        public static Token parseToken(String text) {
+            EVENTS.add("convert " + text);
+            return new Token(text);
+        }
+    }
+}
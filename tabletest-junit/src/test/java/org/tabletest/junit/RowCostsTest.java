@@ -0,0 +1,128 @@
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.provider.Arguments;
+import org.tabletest.parser.TableParser;
+
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tabletest.junit.TableTestArgumentsProvider.provideArgumentsForInput;
+
+class RowCostsTest {
+
+    private static final String TABLE = """
+        Scenario | a      | b
+        First    | 1      | 2
+        Second   | {3, 4} | 5
+        Third    | 6      | 7
+        Fourth   | 8      | 9
+        """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void is_disabled_unless_enabled_by_configuration_parameter() {
+        assertSame(RowCosts.none(), RowCosts.resolve(twoIntParameters(), key -> Optional.empty()));
+        assertSame(RowCosts.none(), RowCosts.resolve(twoIntParameters(), configuration("false")));
+        assertTrue(RowCosts.resolve(twoIntParameters(), configuration("true")).isEnabled());
+    }
+
+    @Test
+    void provides_rows_in_table_order_without_recorded_costs() {
+        assertEquals(
+            List.of("First", "Second (a = 3)", "Second (a = 4)", "Third", "Fourth"),
+            provide(TABLE, resolveCosts())
+        );
+    }
+
+    @Test
+    void provides_rows_slowest_first_as_timed_in_the_last_run() {
+        RowCosts costs = resolveCosts();
+        provide(TABLE, costs);
+        costs.record(0, 1_000);
+        costs.record(1, 3_000);
+        costs.record(1, 5_000);
+        costs.record(2, 2_000);
+        costs.record(3, 4_000);
+        costs.close();
+
+        assertEquals(
+            List.of("Second (a = 3)", "Second (a = 4)", "Fourth", "Third", "First"),
+            provide(TABLE, resolveCosts())
+        );
+    }
+
+    @Test
+    void provides_rows_without_recorded_cost_first() {
+        RowCosts costs = resolveCosts();
+        provide(TABLE, costs);
+        costs.record(0, 1_000);
+        costs.record(2, 2_000);
+        costs.close();
+
+        assertEquals(
+            List.of("Second (a = 3)", "Second (a = 4)", "Fourth", "Third", "First"),
+            provide(TABLE, resolveCosts())
+        );
+    }
+
+    @Test
+    void keeps_recorded_cost_of_rows_that_did_not_run() {
+        RowCosts firstRun = resolveCosts();
+        provide(TABLE, firstRun);
+        firstRun.record(0, 9_000);
+        firstRun.record(2, 1_000);
+        firstRun.close();
+        RowCosts secondRun = resolveCosts();
+        provide(TABLE, secondRun);
+        secondRun.record(2, 2_000);
+        secondRun.close();
+
+        assertEquals(
+            List.of("Second (a = 3)", "Second (a = 4)", "Fourth", "First", "Third"),
+            provide(TABLE, resolveCosts())
+        );
+    }
+
+    private RowCosts resolveCosts() {
+        return RowCosts.resolve(twoIntParameters(), configuration("true"));
+    }
+
+    private Function<String, Optional<String>> configuration(String enabled) {
+        Map<String, String> parameters = Map.of(
+            RowCosts.ENABLED_PROPERTY, enabled,
+            RowCosts.DIRECTORY_PROPERTY, directory.toString()
+        );
+        return key -> Optional.ofNullable(parameters.get(key));
+    }
+
+    private static List<String> provide(String table, RowCosts costs) {
+        return provideArgumentsForInput(
+            twoIntParameters(),
+            TableParser.parse(table),
+            TableOptions.defaults().withCosts(costs)
+        ).map(it -> ((Arguments.ArgumentSet) it).getName()).toList();
+    }
+
+    @SuppressWarnings("unused")
+    private void twoInts(int a, int b) {
+    }
+
+    private static Method twoIntParameters() {
+        return Arrays.stream(RowCostsTest.class.getDeclaredMethods())
+            .filter(method -> method.getName().equals("twoInts"))
+            .findFirst()
+            .orElseThrow();
+    }
+}
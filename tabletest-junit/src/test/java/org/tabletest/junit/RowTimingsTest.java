@@ -0,0 +1,132 @@
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.tabletest.parser.TableParser;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tabletest.junit.TableTestArgumentsProvider.provideArgumentsForInput;
+
+class RowTimingsTest {
+
+    private static final String TABLE = """
+        Scenario | a      | b
+        First    | 1      | 2
+        Second   | {3, 4} | 5
+        Third    | 6      | 7
+        """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void is_disabled_unless_enabled_by_configuration_parameter() {
+        assertSame(RowTimings.none(), RowTimings.resolve(twoIntParameters(), key -> Optional.empty()));
+        assertSame(RowTimings.none(), RowTimings.resolve(twoIntParameters(), configuration("false", "10")));
+        assertTrue(RowTimings.resolve(twoIntParameters(), configuration("true", "10")).isEnabled());
+    }
+
+    @Test
+    void fails_on_invalid_number_of_slowest_invocations() {
+        assertThrows(
+            TableTestException.class,
+            () -> RowTimings.resolve(twoIntParameters(), configuration("true", "many"))
+        );
+    }
+
+    @Test
+    void reports_percentiles_and_slowest_invocations_tagged_with_row_and_scenario() throws Exception {
+        RowTimings timings = RowTimings.resolve(twoIntParameters(), configuration("true", "2"));
+        assertEquals(4, provide(TABLE, timings));
+        timings.record(1, 1_000_000, false);
+        timings.record(2, 4_000_000, true);
+        timings.record(3, 2_000_000, false);
+        timings.record(4, 3_000_000, false);
+        timings.close();
+
+        List<String> report = Files.readAllLines(reportFile());
+        assertEquals(
+            List.of(
+                "Row timings of " + twoIntParameters().toGenericString(),
+                "Invocations: 4, total: 10.000 ms",
+                "p50: 2.000 ms, p95: 4.000 ms, max: 4.000 ms",
+                "",
+                "Slowest invocations:",
+                "  1.     4.000 ms  row 2     Second (a = 3)  (failed)",
+                "  2.     3.000 ms  row 3     Third"
+            ),
+            report
+        );
+    }
+
+    @Test
+    void leaves_out_invocations_that_did_not_run() throws Exception {
+        RowTimings timings = RowTimings.resolve(twoIntParameters(), configuration("true", "10"));
+        provide(TABLE, timings);
+        timings.record(3, 2_000_000, false);
+        timings.close();
+
+        List<String> report = Files.readAllLines(reportFile());
+        assertEquals("Invocations: 1, total: 2.000 ms", report.get(1));
+        assertEquals("  1.     2.000 ms  row 2     Second (a = 4)", report.get(report.size() - 1));
+    }
+
+    @TableTest("""
+        Values          | Percent | Percentile?
+        [5]             | 50      | 5
+        [1, 2, 3, 4]    | 50      | 2
+        [1, 2, 3, 4]    | 95      | 4
+        [1, 2, 3, 4, 5] | 50      | 3
+        [1, 2, 3, 4, 5] | 1       | 1
+        """)
+    void computes_nearest_rank_percentile(List<Long> values, int percent, long expectedPercentile) {
+        long[] ascending = values.stream().mapToLong(Long::longValue).toArray();
+        assertEquals(expectedPercentile, RowTimings.percentile(ascending, percent));
+    }
+
+    private Path reportFile() throws Exception {
+        try (var paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile).findFirst().orElseThrow();
+        }
+    }
+
+    private Function<String, Optional<String>> configuration(String enabled, String top) {
+        Map<String, String> parameters = Map.of(
+            RowTimings.ENABLED_PROPERTY, enabled,
+            RowTimings.DIRECTORY_PROPERTY, directory.toString(),
+            RowTimings.TOP_PROPERTY, top
+        );
+        return key -> Optional.ofNullable(parameters.get(key));
+    }
+
+    private static long provide(String table, RowTimings timings) {
+        return provideArgumentsForInput(
+            twoIntParameters(),
+            TableParser.parse(table),
+            TableOptions.defaults().withTimings(timings)
+        ).count();
+    }
+
+    @SuppressWarnings("unused")
+    private void twoInts(int a, int b) {
+    }
+
+    private static Method twoIntParameters() {
+        return Arrays.stream(RowTimingsTest.class.getDeclaredMethods())
+            .filter(method -> method.getName().equals("twoInts"))
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,103 @@
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.Test;
+import org.tabletest.parser.Table;
+import org.tabletest.parser.TableParser;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScenarioNameTemplateTest {
+
+    @Test
+    void names_each_combination_by_scenario_and_current_value_set_values() {
+        Table table = TableParser.parse("""
+            Scenario | a      | b      | c
+            Example  | {1, 2} | 3      | {4}
+            """);
+        ScenarioNameTemplate.RowNames names = template(table, "threeInts").forRow(table.row(0));
+
+        assertEquals("Example (a = 1, c = 4)", names.displayName(List.of(1, 3, 4)));
+        assertEquals("Example (a = 2, c = 4)", names.displayName(List.of(2, 3, 4)));
+    }
+
+    @Test
+    void leaves_out_value_sets_passed_whole_to_a_set_parameter() {
+        Table table = TableParser.parse("""
+            Scenario | a      | b
+            Example  | {1, 2} | {3, 4}
+            """);
+        ScenarioNameTemplate.RowNames names = template(table, "intAndSet").forRow(table.row(0));
+
+        assertEquals("Example (a = 1)", names.displayName(List.of(1, Set.of(3, 4))));
+    }
+
+    @Test
+    void takes_scenario_name_from_scenario_parameter() {
+        Table table = TableParser.parse("""
+            Name    | a
+            Example | {1, 2}
+                    | 3
+            """);
+        ScenarioNameTemplate template = template(table, "scenarioAndInt");
+
+        assertTrue(template.isScenarioParameter(0));
+        assertTrue(template.hasScenarioName(table.row(0)));
+        assertFalse(template.hasScenarioName(table.row(1)));
+        assertEquals("Example (a = 2)", template.forRow(table.row(0)).displayName(Arrays.asList("Example", 2)));
+    }
+
+    @Test
+    void names_blank_scenario_null() {
+        Table table = TableParser.parse("""
+            Scenario | a | b | c
+                     | 1 | 2 | 3
+            """);
+
+        assertEquals("null", template(table, "threeInts").forRow(table.row(0)).displayName(List.of(1, 2, 3)));
+    }
+
+    @Test
+    void fails_when_several_parameters_are_scenario_annotated() {
+        assertThrows(
+            TableTestException.class,
+            () -> ScenarioNameTemplate.of(2, parameters("twoScenarios"))
+        );
+    }
+
+    private static ScenarioNameTemplate template(Table table, String methodName) {
+        return ScenarioNameTemplate.of(table.columnCount(), parameters(methodName));
+    }
+
+    @SuppressWarnings("unused")
+    private void threeInts(int a, int b, int c) {
+    }
+
+    @SuppressWarnings("unused")
+    private void intAndSet(int a, Set<Integer> b) {
+    }
+
+    @SuppressWarnings("unused")
+    private void scenarioAndInt(@Scenario String name, int a) {
+    }
+
+    @SuppressWarnings("unused")
+    private void twoScenarios(@Scenario String first, @Scenario String second) {
+    }
+
+    private static Parameter[] parameters(String methodName) {
+        return Arrays.stream(ScenarioNameTemplateTest.class.getDeclaredMethods())
+            .filter(method -> method.getName().equals(methodName))
+            .map(Method::getParameters)
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,101 @@
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableBenchmarkResultsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writes_throughput_and_allocation_per_row_as_json_and_csv() throws Exception {
+        Method method = benchmarkMethod(String.class);
+        TableBenchmarkResults results = TableBenchmarkResults.of(method, configuration());
+        results.record("[1] Short \"quoted\" text", 2_000, 1_000_000, 64_000);
+        results.record("[2] Long text", 1_000, 4_000_000, -1);
+        results.close();
+
+        Path classDirectory = directory.resolve(getClass().getName());
+        assertEquals(
+            List.of(
+                "[",
+                "  {\"row\": \"[1] Short \\\"quoted\\\" text\", \"operations\": 2000, \"nanos\": 1000000, \"opsPerSecond\": 2000000.000, \"bytesPerOp\": 32.000},",
+                "  {\"row\": \"[2] Long text\", \"operations\": 1000, \"nanos\": 4000000, \"opsPerSecond\": 250000.000, \"bytesPerOp\": null}",
+                "]"
+            ),
+            Files.readAllLines(classDirectory.resolve(fileName(method) + ".json"))
+        );
+        assertEquals(
+            List.of(
+                "row,operations,nanos,ops_per_second,bytes_per_op",
+                "\"[1] Short \"\"quoted\"\" text\",2000,1000000,2000000.000,32.000",
+                "\"[2] Long text\",1000,4000000,250000.000,"
+            ),
+            Files.readAllLines(classDirectory.resolve(fileName(method) + ".csv"))
+        );
+    }
+
+    @Test
+    void writes_overloaded_methods_to_separate_files() throws Exception {
+        TableBenchmarkResults single = TableBenchmarkResults.of(benchmarkMethod(String.class), configuration());
+        single.record("[1] Single", 1, 1, -1);
+        single.close();
+        TableBenchmarkResults repeated = TableBenchmarkResults.of(benchmarkMethod(String.class, int.class), configuration());
+        repeated.record("[1] Repeated", 1, 1, -1);
+        repeated.close();
+
+        Path classDirectory = directory.resolve(getClass().getName());
+        String singleFile = fileName(benchmarkMethod(String.class)) + ".csv";
+        String repeatedFile = fileName(benchmarkMethod(String.class, int.class)) + ".csv";
+        assertNotEquals(singleFile, repeatedFile);
+        assertTrue(singleFile.matches("parse-[0-9a-f]{12}\\.csv"), singleFile);
+        assertTrue(Files.readAllLines(classDirectory.resolve(singleFile)).get(1).startsWith("\"[1] Single\""));
+        assertTrue(Files.readAllLines(classDirectory.resolve(repeatedFile)).get(1).startsWith("\"[1] Repeated\""));
+    }
+
+    @Test
+    void writes_nothing_when_nothing_was_measured() {
+        TableBenchmarkResults.of(benchmarkMethod(String.class), configuration()).close();
+
+        assertFalse(Files.exists(directory.resolve(getClass().getName())));
+    }
+
+    private Function<String, Optional<String>> configuration() {
+        Map<String, String> parameters = Map.of(TableBenchmarkResults.DIRECTORY_PROPERTY, directory.toString());
+        return key -> Optional.ofNullable(parameters.get(key));
+    }
+
+    @SuppressWarnings("unused")
+    private void parse(String input) {
+    }
+
+    @SuppressWarnings("unused")
+    private void parse(String input, int times) {
+    }
+
+    private static String fileName(Method method) {
+        return ResultCache.fileNameOf(method);
+    }
+
+    private static Method benchmarkMethod(Class<?>... parameterTypes) {
+        try {
+            return TableBenchmarkResultsTest.class.getDeclaredMethod("parse", parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.tabletest.parser.Table;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TablePrefetchExtensionTest {
+
+    private static final Map<String, Integer> PREFETCHED_ROWS = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void clearPrefetched() {
+        PREFETCHED_ROWS.clear();
+    }
+
+    @Test
+    void loads_every_table_of_the_class_before_its_tests_run() {
+        EngineRun run = EngineRun.of(PrefetchingClass.class);
+
+        assertEquals(List.of(), run.failed());
+        assertEquals(5, run.succeeded().size());
+        assertEquals(Map.of("inline", 2, "fromResource", 3), PREFETCHED_ROWS);
+    }
+
+    @Test
+    void reports_a_table_failing_to_load_on_its_own_test_only() {
+        EngineRun run = EngineRun.of(BrokenTableClass.class);
+
+        assertEquals(List.of("broken(int, int)"), run.failed());
+        assertEquals(List.of("[1] 1, 2"), run.succeeded());
+        Throwable failure = run.failures().get("broken(int, int)");
+        assertTrue(failure instanceof TableTestException, () -> "Unexpected failure " + failure);
+        assertTrue(
+            Arrays.stream(failure.getStackTrace())
+                .anyMatch(frame -> frame.getClassName().startsWith(CompletableFuture.class.getName())),
+            "The table is parsed by the prefetch executor"
+        );
+    }
+
+    /**
+     * Takes note of the tables prefetched for the test class, once all of them are loaded,
+     * before any test method of the class runs.
+     */
+    static class PrefetchedTables implements BeforeAllCallback {
+
+        @Override
+        public void beforeAll(ExtensionContext context) {
+            @SuppressWarnings("unchecked")
+            Map<Method, CompletableFuture<Table>> tables = context
+                .getStore(ExtensionContext.Namespace.create(PrefetchTables.class))
+                .get(context.getRequiredTestClass(), Map.class);
+            tables.forEach((method, table) -> PREFETCHED_ROWS.put(method.getName(), table.join().rowCount()));
+        }
+    }
+
+    @PrefetchTables
+    @ExtendWith(PrefetchedTables.class)
+    static class PrefetchingClass {
+
+        @TableTest("""
+            a | b
+            1 | 2
+            3 | 4
+            """)
+        void inline(int a, int b) {
+        }
+
+        @TableTest(resource = "external.table")
+        void fromResource(int a, int b, int sum) {
+        }
+    }
+
+    @PrefetchTables
+    static class BrokenTableClass {
+
+        @TableTest("""
+            a | b
+            1 | 2
+            """)
+        void valid(int a, int b) {
+        }
+
+        @TableTest("""
+            a | b
+            1 | 2 | 3
+            """)
+        void broken(int a, int b) {
+        }
+    }
+}
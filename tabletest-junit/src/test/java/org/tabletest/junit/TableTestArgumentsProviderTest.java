@@ -2,19 +2,24 @@ package org.tabletest.junit;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.provider.Arguments;
+import org.tabletest.parser.TableTestParseException;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.tabletest.junit.TableTestArgumentsProvider.provideArgumentsForInput;
 
 /**
- * Tests validation of the table shape against the test method parameters.
+ * Tests validation of the table shape against the test method parameters, expansion of value sets,
+ * and per-row conversion of cell values.
  */
 class TableTestArgumentsProviderTest {
 
@@ -82,6 +87,22 @@ class TableTestArgumentsProviderTest {
         assertMessageDescribesOffendingRow(exception, 4, 2, "1 | 2 | 3 | 4");
     }
 
+    @Test
+    void fails_on_a_malformed_row_before_providing_any_row() {
+        TableTestParseException exception = assertThrows(
+            TableTestParseException.class,
+            () -> provideArgumentsForInput(
+                intAndSetParameters(),
+                """
+                    a | b
+                    1 | {2}
+                    3 | {4
+                    """
+            )
+        );
+        assertEquals(3, exception.line());
+    }
+
     @Test
     void fails_when_table_has_more_columns_than_parameters_can_take() {
         TableTestException exception = assertThrowsWhileProviding(
@@ -126,6 +147,125 @@ class TableTestArgumentsProviderTest {
         assertEquals(1, arguments.count());
     }
 
+    @Test
+    void expands_value_sets_to_every_combination_by_default() {
+        Stream<? extends Arguments> arguments = provideArgumentsForInput(
+            threeIntParameters(),
+            """
+                a         | b         | c
+                {1, 2, 3} | {4, 5, 6} | {7, 8, 9}
+                """
+        );
+        assertEquals(27, arguments.count());
+    }
+
+    @Test
+    void expands_value_sets_to_covering_pairs_with_pairwise_expansion() {
+        List<List<Object>> combinations = provideArgumentsForInput(
+            threeIntParameters(),
+            """
+                a         | b         | c
+                {1, 2, 3} | {4, 5, 6} | {7, 8, 9}
+                """,
+            TableOptions.defaults().withExpansion(ValueSetExpansion.PAIRWISE)
+        ).map(it -> List.of(it.get())).toList();
+
+        assertEquals(10, combinations.size());
+        for (int[] pair : new int[][]{{0, 1}, {0, 2}, {1, 2}}) {
+            long distinctPairs = combinations.stream()
+                .map(values -> List.of(values.get(pair[0]), values.get(pair[1])))
+                .distinct()
+                .count();
+            assertEquals(9, distinctPairs, "Pairs of columns " + pair[0] + " and " + pair[1]);
+        }
+    }
+
+    @Test
+    void keeps_selected_values_in_display_name_with_pairwise_expansion() {
+        List<String> names = provideArgumentsForInput(
+            threeIntParameters(),
+            """
+                Scenario | a      | b      | c
+                Example  | {1, 2} | {3, 4} | 5
+                """,
+            TableOptions.defaults().withExpansion(ValueSetExpansion.PAIRWISE)
+        ).map(it -> ((Arguments.ArgumentSet) it).getName()).toList();
+
+        assertEquals(
+            List.of(
+                "Example (a = 1, b = 3)",
+                "Example (a = 1, b = 4)",
+                "Example (a = 2, b = 3)",
+                "Example (a = 2, b = 4)"
+            ),
+            names
+        );
+    }
+
+    @Test
+    void runs_a_reproducible_sample_of_combinations_per_row_with_sampling() {
+        String input = """
+            a                  | b                  | c
+            {1, 2, 3, 4, 5, 6} | {1, 2, 3, 4, 5, 6} | {1, 2, 3, 4, 5, 6}
+            {7, 8}             | {7, 8}             | 9
+            """;
+
+        List<List<Object>> sampled = sampledCombinations(input, ValueSetSampling.of(5, 99));
+
+        assertEquals(5 + 4, sampled.size());
+        assertEquals(5, sampled.stream().distinct().filter(values -> !values.contains(9)).count());
+        assertEquals(sampled, sampledCombinations(input, ValueSetSampling.of(5, 99)));
+    }
+
+    @Test
+    void converts_a_row_only_when_its_arguments_are_pulled() {
+        Iterator<? extends Arguments> arguments = provideArgumentsForInput(
+            twoIntParameters(),
+            """
+                Scenario | a   | b
+                Valid    | 1   | 2
+                Invalid  | one | 2
+                """
+        ).iterator();
+
+        assertArrayEquals(new Object[]{1, 2}, arguments.next().get());
+        assertThrows(TableTestException.class, arguments::next);
+    }
+
+    @Test
+    void parses_the_set_cells_of_a_row_only_when_its_arguments_are_pulled() {
+        Iterator<? extends Arguments> arguments = provideArgumentsForInput(
+            intAndSetParameters(),
+            """
+                Scenario | a | b
+                Valid    | 1 | {2}
+                Invalid  | 3 | {[x: 4, x: 5]}
+                """
+        ).iterator();
+
+        assertArrayEquals(new Object[]{1, Set.of(2)}, arguments.next().get());
+        assertThrows(TableTestParseException.class, arguments::next);
+    }
+
+    @Test
+    void converts_rows_without_scenario_name_up_front_for_their_display_name() {
+        Object[] values = provideArgumentsForInput(
+            twoIntParameters(),
+            """
+                a | b
+                1 | 2
+                """
+        ).findFirst().orElseThrow().get();
+
+        assertArrayEquals(new Object[]{1, 2}, values);
+    }
+
+    private static List<List<Object>> sampledCombinations(String input, ValueSetSampling sampling) {
+        return provideArgumentsForInput(threeIntParameters(), input, TableOptions.defaults().withSampling(sampling))
+            .map(it -> List.of(it.get()))
+            .toList();
+    }
+
     private static TableTestException assertThrowsWhileProviding(Method testMethod, String input) {
         return assertThrows(
             TableTestException.class,
@@ -154,6 +294,10 @@ class TableTestArgumentsProviderTest {
     private void twoInts(int a, int b) {
     }
 
+    @SuppressWarnings("unused")
+    private void threeInts(int a, int b, int c) {
+    }
+
     @SuppressWarnings("unused")
     private void intAndSet(int a, Set<Integer> b) {
     }
@@ -162,6 +306,10 @@ class TableTestArgumentsProviderTest {
         return testMethod("twoInts");
     }
 
+    private static Method threeIntParameters() {
+        return testMethod("threeInts");
+    }
+
     private static Method intAndSetParameters() {
         return testMethod("intAndSet");
     }
@@ -0,0 +1,151 @@
+package org.tabletest.junit;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValueSetSamplingTest {
+
+    @TableTest("""
+        Scenario                      | Sample size | Combinations     | Selected?
+        Fewer combinations than size  | 10          | 4                | 4
+        As many combinations as size  | 10          | 10               | 10
+        More combinations than size   | 10          | 100000           | 10
+        Huge product of combinations  | 5           | 1000000000000000 | 5
+        """)
+    void selects_at_most_sample_size_distinct_indices_in_ascending_order(
+        int sampleSize,
+        long combinationCount,
+        int expectedSelected
+    ) {
+        List<Long> indices = ValueSetSampling.of(sampleSize, 42).selectIndices(combinationCount, 0).boxed().toList();
+
+        assertEquals(expectedSelected, indices.size());
+        assertEquals(indices.stream().distinct().sorted().toList(), indices);
+        assertTrue(indices.stream().allMatch(index -> index >= 0 && index < combinationCount));
+    }
+
+    @Test
+    void selects_the_same_indices_for_the_same_seed_and_row() {
+        ValueSetSampling sampling = ValueSetSampling.of(20, 1234);
+
+        assertEquals(
+            sampling.selectIndices(10_000, 3).boxed().toList(),
+            ValueSetSampling.of(20, 1234).selectIndices(10_000, 3).boxed().toList()
+        );
+    }
+
+    @Test
+    void selects_different_indices_for_different_rows() {
+        ValueSetSampling sampling = ValueSetSampling.of(20, 1234);
+
+        assertFalse(
+            sampling.selectIndices(10_000, 0).boxed().toList()
+                .equals(sampling.selectIndices(10_000, 1).boxed().toList())
+        );
+    }
+
+    @Test
+    void selects_every_index_when_disabled() {
+        assertEquals(List.of(0L, 1L, 2L), ValueSetSampling.none().selectIndices(3, 0).boxed().toList());
+    }
+
+    @TableTest("""
+        Scenario                             | Annotation size | Annotation seed | Configuration                                        | Size? | Seed?
+        Nothing set                          | 0               | 0               | [:]                                                  | 0     | 0
+        Annotation only                      | 5               | 7               | [:]                                                  | 5     | 7
+        Configuration only                   | 0               | 0               | [tabletest.sample.size: 8, tabletest.sample.seed: 9] | 8     | 9
+        Annotation takes precedence          | 5               | 7               | [tabletest.sample.size: 8, tabletest.sample.seed: 9] | 5     | 7
+        Configured seed with annotation size | 5               | 0               | [tabletest.sample.seed: 9]                           | 5     | 9
+        Seed alone does not enable sampling  | 0               | 7               | [tabletest.sample.seed: 9]                           | 0     | 0
+        """)
+    void resolves_sample_size_and_seed_from_annotation_then_configuration(
+        int annotationSize,
+        long annotationSeed,
+        Map<String, String> configuration,
+        int expectedSize,
+        long expectedSeed
+    ) {
+        ValueSetSampling sampling = ValueSetSampling.resolve(annotationSize, annotationSeed, lookup(configuration));
+
+        assertEquals(expectedSize, sampling.sampleSize());
+        assertEquals(expectedSeed, sampling.seed());
+    }
+
+    @Test
+    void chooses_a_random_seed_when_sampling_without_a_seed() {
+        ValueSetSampling sampling = ValueSetSampling.resolve(5, 0, lookup(Map.of()));
+
+        assertTrue(sampling.isEnabled());
+        assertTrue(sampling.seed() != 0);
+        assertTrue(sampling.hasRandomSeed());
+    }
+
+    @Test
+    void does_not_count_a_seed_fixed_by_annotation_or_configuration_as_random() {
+        assertFalse(ValueSetSampling.resolve(5, 7, lookup(Map.of())).hasRandomSeed());
+        assertFalse(ValueSetSampling.resolve(5, 0, lookup(Map.of("tabletest.sample.seed", "9"))).hasRandomSeed());
+        assertFalse(ValueSetSampling.of(5, 9).hasRandomSeed());
+    }
+
+    @Test
+    void fails_on_configuration_parameter_that_is_not_a_number() {
+        TableTestException exception = assertThrows(
+            TableTestException.class,
+            () -> ValueSetSampling.resolve(0, 0, lookup(Map.of("tabletest.sample.size", "many")))
+        );
+        assertEquals(
+            "Configuration parameter tabletest.sample.size must be a whole number, but was \"many\"",
+            exception.getMessage()
+        );
+    }
+
+    @Test
+    void fails_naming_the_row_when_combinations_are_too_many_to_count() {
+        Set<Integer> values = IntStream.range(0, 10_000).boxed().collect(Collectors.toSet());
+        List<Set<Integer>> arguments = Collections.nCopies(5, values);
+
+        TableTestException exception = assertThrows(
+            TableTestException.class,
+            () -> ValueSetUtil.generateValueCombinations(
+                arguments, fiveInts(), ValueSetExpansion.CARTESIAN, ValueSetSampling.of(5, 42), 2
+            )
+        );
+        assertEquals(
+            "Data row 3 has too many combinations of value sets to sample. Value sets of sizes "
+                + "[10000, 10000, 10000, 10000, 10000] give more than 9223372036854775807 combinations. "
+                + "Split the value sets over several rows.",
+            exception.getMessage()
+        );
+    }
+
+    private static Function<String, Optional<String>> lookup(Map<String, String> configuration) {
+        return key -> Optional.ofNullable(configuration.get(key));
+    }
+
+    @SuppressWarnings("unused")
+    private void fiveInts(int a, int b, int c, int d, int e) {
+    }
+
+    private static Parameter[] fiveInts() {
+        return Arrays.stream(ValueSetSamplingTest.class.getDeclaredMethods())
+            .filter(method -> method.getName().equals("fiveInts") && method.getParameterCount() == 5)
+            .findFirst()
+            .orElseThrow()
+            .getParameters();
+    }
+}
@@ -82,6 +82,65 @@ public class JavaArrayParameterConversionTest {
         assertEquals(inputValue, Arrays.toString(values));
     }
 
+    @DisplayName("Array elements follow the same number rules as single values")
+    @Description("""
+            Elements of a primitive array are parsed straight into the array, without
+            boxing each one, yet accept everything a single int value does —
+            underscores, hexadecimal, and octal notation included.
+            """)
+    @TableTest("""
+        Scenario          | Input value               | Parameter type? | Converted value?
+        Underscores       | [1_000, -2_000_000]       | int[]           | [1000, -2000000]
+        Hexadecimal       | [0x10, '#FF']             | int[]           | [16, 255]
+        Octal             | [010, 0]                  | int[]           | [8, 0]
+        Explicit plus     | [+7, -7]                  | int[]           | [7, -7]
+        Largest and least | [2147483647, -2147483648] | int[]           | [2147483647, -2147483648]
+        """)
+    void converts_to_primitive_int_array_with_number_notation(
+        int[] values,
+        String expectedType,
+        List<Integer> expectedValues
+    ) {
+        assertEquals(expectedType, typeNameOf(values));
+        assertEquals(expectedValues, Arrays.stream(values).boxed().toList());
+    }
+
+    @DisplayName("A list converts to a primitive boolean array")
+    @Description("As for a single boolean value, case is ignored.")
+    @TableTest("""
+        Scenario    | Input value         | Parameter type? | Converted value?
+        Lowercase   | [true, false]       | boolean[]       | [true, false]
+        Mixed case  | [TRUE, False, true] | boolean[]       | [true, false, true]
+        Empty list  | []                  | boolean[]       | []
+        """)
+    void converts_to_primitive_boolean_array(boolean[] values, String expectedType, String expectedValues) {
+        assertEquals(expectedType, typeNameOf(values));
+        assertEquals(expectedValues, Arrays.toString(values));
+    }
+
+    @DisplayName("A list converts to a primitive char array")
+    @TableTest("""
+        Scenario   | Input value | Parameter type? | Converted value?
+        Letters    | "[a, b, c]" | char[]          | [a, b, c]
+        Digit text | "[1, 2]"    | char[]          | [1, 2]
+        """)
+    void converts_to_primitive_char_array(String inputValue, String expectedType, char[] values) {
+        assertEquals(expectedType, typeNameOf(values));
+        assertEquals(inputValue, Arrays.toString(values));
+    }
+
+    @DisplayName("Nested lists convert to a two-dimensional primitive array")
+    @Description("A matrix of numbers becomes an int[][], each row an int[] of its own length.")
+    @TableTest("""
+        Scenario        | Input value              | Parameter type? | Converted value?
+        Square matrix   | "[[1, 2], [3, 4]]"       | int[][]         | [[1, 2], [3, 4]]
+        Ragged rows     | "[[1], [2, 3, 4], []]"   | int[][]         | [[1], [2, 3, 4], []]
+        """)
+    void converts_to_nested_primitive_int_array(String inputValue, String expectedType, int[][] values) {
+        assertEquals(expectedType, typeNameOf(values));
+        assertEquals(inputValue, Arrays.deepToString(values));
+    }
+
     @DisplayName("Nested lists convert to a two-dimensional array")
     @TableTest("""
         Scenario     | Input value        | Parameter type? | Converted value?
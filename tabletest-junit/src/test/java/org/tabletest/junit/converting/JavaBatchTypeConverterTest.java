@@ -0,0 +1,150 @@
+package org.tabletest.junit.converting;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.provider.Arguments;
+import org.tabletest.junit.TableTest;
+import org.tabletest.junit.TableTestException;
+import org.tabletest.junit.TypeConverter;
+import org.tabletest.junit.javadomain.Age;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tabletest.junit.TableTestArgumentsProvider.provideArgumentsForInput;
+
+/**
+ * Tests that batch type converters convert the plain cells of a column in one call,
+ * leaving other cells to the type converters that convert cell by cell.
+ */
+public class JavaBatchTypeConverterTest {
+
+    @TableTest("""
+        Scenario       | Age | Doubled?
+        Young          | 12  | 24
+        Old            | 86  | 172
+        Value set      | {1} | 2
+        """)
+    void converts_column_with_batch_type_converter(Age age, int expectedDoubled) {
+        assertEquals(expectedDoubled, age.age());
+    }
+
+    @TypeConverter(batch = true)
+    public static List<Age> doubledAges(List<String> ages) {
+        return ages.stream().map(it -> new Age(2 * Integer.parseInt(it))).collect(Collectors.toList());
+    }
+
+    @TypeConverter
+    public static Age doubledAge(String age) {
+        return new Age(2 * Integer.parseInt(age));
+    }
+
+    @Test
+    void calls_batch_type_converter_once_per_column_with_every_plain_cell() throws NoSuchMethodException {
+        CountingConverters.calls.clear();
+
+        List<Object[]> arguments = provide(CountingConverters.class, """
+            First  | Second
+            1      | 10
+            {2, 3} | 20
+                   | 30
+            """);
+
+        assertEquals(List.of("batch [1]", "batch [10, 20, 30]", "single 2", "single 3"), CountingConverters.calls);
+        assertEquals(new Age(1), arguments.get(0)[0]);
+        assertEquals(new Age(30), arguments.get(3)[1]);
+        assertNull(arguments.get(3)[0]);
+    }
+
+    @Test
+    void fails_when_batch_type_converter_returns_wrong_number_of_values() throws NoSuchMethodException {
+        TableTestException exception = assertThrows(
+            TableTestException.class,
+            () -> provide(ShortBatchConverter.class, """
+                Age
+                1
+                2
+                """)
+        );
+        assertTrue(
+            exception.getMessage().startsWith("Batch type converter " + ShortBatchConverter.class.getTypeName() + ".firstAgeOnly() returned 1 values for 2 values"),
+            exception.getMessage()
+        );
+    }
+
+    @Test
+    void fails_when_batch_type_converter_returns_value_of_wrong_type() throws NoSuchMethodException {
+        TableTestException exception = assertThrows(
+            TableTestException.class,
+            () -> provide(MistypedBatchConverter.class, """
+                Age
+                1
+                2
+                """)
+        );
+        assertEquals(
+            "Batch type converter " + MistypedBatchConverter.class.getTypeName() + ".agesAsText() converted \"1\" to "
+                + "1 of type java.lang.String, which is not of type " + Age.class.getTypeName(),
+            exception.getMessage()
+        );
+    }
+
+    private static List<Object[]> provide(Class<?> testClass, String table) throws NoSuchMethodException {
+        Method method = Arrays.stream(testClass.getDeclaredMethods())
+            .filter(it -> it.getName().equals("params"))
+            .findFirst()
+            .orElseThrow(NoSuchMethodException::new);
+        return provideArgumentsForInput(method, table).map(Arguments::get).toList();
+    }
+
+    public static class CountingConverters {
+        static final List<String> calls = new ArrayList<>();
+
+        @SuppressWarnings("unused")
+        private void params(Age first, Age second) {
+        }
+
+        @TypeConverter(batch = true)
+        public static List<Age> ages(List<String> ages) {
+            calls.add("batch " + ages);
+            return ages.stream().map(it -> new Age(Integer.parseInt(it))).collect(Collectors.toList());
+        }
+
+        @TypeConverter
+        public static Age age(String age) {
+            calls.add("single " + age);
+            return new Age(Integer.parseInt(age));
+        }
+    }
+
+    public static class MistypedBatchConverter {
+
+        @SuppressWarnings("unused")
+        private void params(Age age) {
+        }
+
+        @TypeConverter(batch = true)
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        public static List<Age> agesAsText(List<String> ages) {
+            return (List) ages;
+        }
+    }
+
+    public static class ShortBatchConverter {
+
+        @SuppressWarnings("unused")
+        private void params(Age age) {
+        }
+
+        @TypeConverter(batch = true)
+        public static List<Age> firstAgeOnly(List<String> ages) {
+            return List.of(new Age(Integer.parseInt(ages.get(0))));
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.tabletest.junit.TableTest;
 import org.tabletest.junit.TypeConverter;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -94,6 +95,20 @@ public class JavaCustomTypeConverterTest {
         assertEquals(expectedDigits, String.valueOf(numbers.stream().mapToInt(Integer::intValue).sum()));
     }
 
+    @DisplayName("A converter reaches the elements of a primitive array")
+    @Description("""
+            Primitive arrays are normally filled by parsing digits straight into the
+            array, but a converter for the element type takes precedence there too.
+            """)
+    @TableTest("""
+        Scenario    | Number words    | Sum in digits?
+        Two words   | [one, three]    | 4
+        Three words | [two, two, two] | 6
+        """)
+    void converts_number_words_inside_a_primitive_array(int[] numbers, String expectedDigits) {
+        assertEquals(expectedDigits, String.valueOf(Arrays.stream(numbers).sum()));
+    }
+
     @TypeConverter
     @SuppressWarnings("unused")
     public static boolean parseBoolean(String value) {
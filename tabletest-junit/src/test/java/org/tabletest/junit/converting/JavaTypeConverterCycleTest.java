@@ -1,12 +1,19 @@
 package org.tabletest.junit.converting;
 
 import org.junit.jupiter.api.Test;
+import org.tabletest.junit.TableTestException;
 import org.tabletest.junit.TypeConverter;
 import org.tabletest.junit.javadomain.Age;
 import org.tabletest.junit.javadomain.Ages;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.tabletest.junit.ParameterTypeConverter.convertValue;
+import static org.tabletest.junit.TableTestArgumentsProvider.provideArgumentsForInput;
 import static org.tabletest.junit.TableTestExceptionAssertions.assertThrowsWhenTypeConverterCycleDetected;
 
 /**
@@ -26,6 +33,44 @@ public class JavaTypeConverterCycleTest {
         assertThrowsWhenTypeConverterCycleDetected("52", ageParameterOf(MutuallyReferentialConverters.class));
     }
 
+    @Test
+    void fails_when_type_converter_takes_a_collection_of_the_type_it_returns() {
+        assertThrowsWhenTypeConverterCycleDetected("52", ageParameterOf(ElementReferentialConverter.class));
+    }
+
+    @Test
+    void names_the_types_of_the_cycle_in_conversion_order() {
+        TableTestException exception = assertThrows(
+            TableTestException.class,
+            () -> convertValue("52", ageParameterOf(MutuallyReferentialConverters.class))
+        );
+
+        assertEquals(
+            "Type converter cycle detected for type " + Age.class.getTypeName() + ": " +
+                Age.class.getTypeName() + " -> " + Ages.class.getTypeName() + " -> " + Age.class.getTypeName() + ". " +
+                "A type converter must not take the type it returns, directly or via other converters.",
+            exception.getMessage()
+        );
+    }
+
+    @Test
+    void rejects_cycle_before_any_row_is_converted() throws NoSuchMethodException {
+        Method method = MutuallyReferentialConverters.class.getDeclaredMethod("params", Age.class);
+
+        assertThrows(
+            TableTestException.class,
+            () -> provideArgumentsForInput(method, """
+                Scenario | Age
+                No age   |
+                """)
+        );
+    }
+
+    @Test
+    void accepts_type_converter_taking_a_type_that_holds_the_parsed_value() {
+        assertEquals(new Age(52), convertValue("52", ageParameterOf(ObjectTakingConverter.class)));
+    }
+
     public static class SelfReferentialConverter {
 
         @SuppressWarnings("unused")
@@ -55,6 +100,30 @@ public class JavaTypeConverterCycleTest {
         }
     }
 
+    public static class ElementReferentialConverter {
+
+        @SuppressWarnings("unused")
+        private void params(Age age) {
+        }
+
+        @TypeConverter
+        public static Age fromAges(List<Age> ages) {
+            throw new IllegalStateException("should not be called");
+        }
+    }
+
+    public static class ObjectTakingConverter {
+
+        @SuppressWarnings("unused")
+        private void params(Age age) {
+        }
+
+        @TypeConverter
+        public static Age fromObject(Object age) {
+            return new Age(Integer.parseInt(age.toString()));
+        }
+    }
+
     private static Parameter ageParameterOf(Class<?> converterClass) {
         try {
             return converterClass.getDeclaredMethod("params", Age.class).getParameters()[0];
@@ -0,0 +1,62 @@
+package org.tabletest.junit.deprecated;
+
+import org.junit.jupiter.api.Test;
+import org.tabletest.junit.ParameterType;
+import org.tabletest.junit.TypeConversion;
+import org.tabletest.junit.TypeConverter;
+import org.tabletest.junit.javadomain.Age;
+
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DeprecatedTypeConversionTest {
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void converts_with_the_supplier_taking_the_converter_parameter_and_targets_in_progress() {
+        List<Object> supplied = new ArrayList<>();
+
+        Object converted = TypeConversion.convert(
+            "52",
+            new ParameterType(List.of(Age.class)),
+            AgeConverter.class,
+            Set.of(),
+            (Parameter parameter, Set<Class<?>> convertingTargets) -> {
+                supplied.add(parameter.getType());
+                supplied.add(convertingTargets);
+                return "52";
+            }
+        );
+
+        assertEquals(new Age(52), converted);
+        assertEquals(List.of(String.class, Set.of()), supplied);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void falls_back_to_built_in_conversion_without_a_type_converter() {
+        Object converted = TypeConversion.convert(
+            "52",
+            new ParameterType(List.of(Integer.class)),
+            AgeConverter.class,
+            Set.of(),
+            (parameter, convertingTargets) -> {
+                throw new AssertionError("No type converter to supply a value to");
+            }
+        );
+
+        assertEquals(52, converted);
+    }
+
+    public static class AgeConverter {
+
+        @TypeConverter
+        public static Age parseAge(String age) {
+            return new Age(Integer.parseInt(age));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.tabletest.junit.features;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.tabletest.junit.Description;
+import org.tabletest.junit.TableTest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Concurrent stress tests")
+@Description("""
+        With concurrency and repetitions set on @TableTest, every row first runs once
+        as usual, then from that many threads at once, each running it that many times.
+        The values of the row are converted once and shared by all threads. A row fails
+        if any of its concurrent runs fails, and its throughput and latency percentiles
+        are published as the report entry tabletest.stress.
+        """)
+public class JavaConcurrentStressTest {
+
+    private static final Map<String, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+
+    @DisplayName("Each row runs once, then repeatedly from every thread")
+    @TableTest(value = """
+        Scenario | Key | Increment
+        First    | a   | 1
+        Second   | b   | 2
+        """, concurrency = 4, repetitions = 50)
+    void counts_concurrently(String key, int increment) {
+        COUNTERS.computeIfAbsent(key, it -> new LongAdder()).add(increment);
+    }
+
+    @AfterAll
+    static void every_thread_ran_every_repetition() {
+        assertEquals(1 + 4 * 50, COUNTERS.get("a").sum());
+        assertEquals(2 * (1 + 4 * 50), COUNTERS.get("b").sum());
+    }
+}
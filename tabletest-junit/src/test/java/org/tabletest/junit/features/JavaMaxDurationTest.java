@@ -0,0 +1,65 @@
+package org.tabletest.junit.features;
+
+import org.junit.jupiter.api.DisplayName;
+import org.tabletest.junit.Description;
+import org.tabletest.junit.MaxDuration;
+import org.tabletest.junit.TableTest;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Latency budgets")
+@Description("""
+        A column bound to a parameter annotated @MaxDuration sets a time budget for
+        each row. A row whose invocation takes longer than its budget fails, so a
+        table can guard the latency of the code under test next to its behaviour.
+        """)
+public class JavaMaxDurationTest {
+
+    @DisplayName("Each row runs within the budget in its budget column")
+    @Description("""
+            Budgets are written as a number and a unit, like 50ms or 2s. An empty
+            budget cell leaves the row untimed.
+            """)
+    @TableTest("""
+        Scenario       | Count   | Budget | Sum?
+        Small range    | 10      | 2s     | 45
+        Larger range   | 100_000 | 5s     | 4999950000
+        Without budget | 3       |        | 3
+        """)
+    void sums_within_budget(int count, @MaxDuration Duration budget, long expectedSum) {
+        assertEquals(expectedSum, IntStream.range(0, count).asLongStream().sum());
+    }
+
+    @DisplayName("A value set of budgets runs the row once per budget")
+    @Description("""
+            Like any value set, a set of budgets expands the row into one invocation
+            per budget, each timed against its own budget.
+            """)
+    @TableTest("""
+        Scenario    | Count | Budget   | Sum?
+        Small range | 10    | {2s, 5s} | 45
+        """)
+    void sums_within_each_budget(int count, @MaxDuration Duration budget, long expectedSum) {
+        assertTrue(Set.of(Duration.ofSeconds(2), Duration.ofSeconds(5)).contains(budget));
+        assertEquals(expectedSum, IntStream.range(0, count).asLongStream().sum());
+    }
+
+    @DisplayName("Warm-up runs keep one-time costs out of the timed run")
+    @Description("""
+            With warmups = 2, each row runs twice untimed before the timed run, so
+            class loading and JIT compilation are not counted against the budget.
+            """)
+    @TableTest("""
+        Scenario    | Text                 | Budget | Length?
+        Short text  | abc                  | 1s     | 3
+        Longer text | "a somewhat longer"  | 1s     | 17
+        """)
+    void warms_up_before_timing(String text, @MaxDuration(warmups = 2) String budget, int expectedLength) {
+        assertEquals(expectedLength, text.length());
+    }
+}
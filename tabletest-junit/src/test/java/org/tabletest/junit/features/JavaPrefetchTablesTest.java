@@ -0,0 +1,61 @@
+package org.tabletest.junit.features;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.tabletest.junit.Description;
+import org.tabletest.junit.PrefetchTables;
+import org.tabletest.junit.TableTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Prefetched tables")
+@Description("""
+        With @PrefetchTables on the test class, the tables of all its table tests
+        are loaded and parsed in the background as soon as the class starts, so
+        reading resource files and parsing overlap with running the earlier tests.
+        Each test runs its own table just as it would without prefetching.
+        """)
+@PrefetchTables(parallelism = 2)
+public class JavaPrefetchTablesTest {
+
+    @DisplayName("An inline table runs from its prefetched rows")
+    @TableTest("""
+        Scenario   | a | b | a + b?
+        Zero sum   | 0 | 0 | 0
+        Both equal | 3 | 3 | 6
+        """)
+    void inline_table(int a, int b, int expectedSum) {
+        assertEquals(expectedSum, a + b);
+    }
+
+    @DisplayName("A table from a resource file is read in the background as well")
+    @Description("The rows below are the lines of src/test/resources/external.table.")
+    @TableTest(resource = "external.table")
+    void table_in_resource_file(int a, int b, int expectedSum) {
+        assertEquals(expectedSum, a + b);
+    }
+
+    @DisplayName("Value sets expand the prefetched rows as usual")
+    @TableTest("""
+        Scenario | x         | Is even?
+        Even     | {2, 4, 6} | true
+        Odd      | {1, 3, 5} | false
+        """)
+    void value_sets(int x, boolean expectedEven) {
+        assertEquals(expectedEven, x % 2 == 0);
+    }
+
+    @Nested
+    @DisplayName("Nested test classes prefetch their own tables")
+    class NestedTables {
+
+        @TableTest("""
+            Text  | Length?
+            ""    | 0
+            abc   | 3
+            """)
+        void nested_table(String text, int expectedLength) {
+            assertEquals(expectedLength, text.length());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.tabletest.junit.features;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.tabletest.junit.Description;
+import org.tabletest.junit.TableBenchmark;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Table benchmarks")
+@Description("""
+        A method annotated with @TableBenchmark runs every row of its table as a
+        micro-benchmark: once as a regular test, then for the configured warm-up and
+        measurement iterations. Values are converted once per row, before any timing.
+        Throughput and allocation per row are written as JSON and CSV under
+        target/tabletest-benchmarks.
+        """)
+public class JavaTableBenchmarkTest {
+
+    private static final Map<String, AtomicInteger> RUNS = new ConcurrentHashMap<>();
+
+    @DisplayName("Each row runs once, then for every warm-up and measured operation")
+    @TableBenchmark(value = """
+        Scenario   | Text  | Length?
+        Empty      | ""    | 0
+        Three      | abc   | 3
+        """, warmupIterations = 1, measurementIterations = 2, operationsPerIteration = 10)
+    void measures_each_row(String text, int expectedLength) {
+        RUNS.computeIfAbsent(text, it -> new AtomicInteger()).incrementAndGet();
+        assertEquals(expectedLength, text.length());
+    }
+
+    @AfterAll
+    static void every_row_ran_for_each_iteration() {
+        assertEquals(1 + 10 + 2 * 10, RUNS.get("").get());
+        assertEquals(1 + 10 + 2 * 10, RUNS.get("abc").get());
+    }
+}
@@ -3,6 +3,7 @@ package org.tabletest.junit.features;
 import org.junit.jupiter.api.DisplayName;
 import org.tabletest.junit.Description;
 import org.tabletest.junit.TableTest;
+import org.tabletest.junit.ValueSetExpansion;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -64,4 +65,36 @@ class JavaValueSetTest {
         assertEquals(passes, score >= passMark);
     }
 
+    @DisplayName("Pairwise expansion covers every pair of values with fewer invocations")
+    @Description("""
+            With expansion = PAIRWISE, a row runs just enough combinations for every
+            pair of values from any two value sets to occur at least once — here ten
+            invocations per row instead of the 27 of every combination.
+            """)
+    @TableTest(value = """
+        Scenario          | x         | y         | z         | Is sum odd?
+        Odd, even, even   | {1, 3, 5} | {2, 4, 6} | {0, 2, 8} | true
+        Odd, odd, odd     | {1, 3, 5} | {1, 7, 9} | {3, 5, 7} | true
+        Even, even, odd   | {2, 4, 6} | {0, 4, 8} | {1, 5, 9} | true
+        Even, odd, odd    | {2, 4, 6} | {1, 3, 5} | {1, 7, 9} | false
+        """, expansion = ValueSetExpansion.PAIRWISE)
+    void pairwise_value_set_combinations(int x, int y, int z, boolean expectedOddSum) {
+        assertEquals(expectedOddSum, (x + y + z) % 2 != 0);
+    }
+
+    @DisplayName("A sample size runs a random selection of the combinations")
+    @Description("""
+            With sampleSize = 4, each row runs four of its 27 combinations, chosen at
+            random with the given seed. Without a seed, a new one is chosen for every
+            run and reported, so a failing sample can be repeated.
+            """)
+    @TableTest(value = """
+        Scenario         | x         | y         | z         | Is sum odd?
+        Odd, even, even  | {1, 3, 5} | {2, 4, 6} | {0, 2, 8} | true
+        Even, odd, odd   | {2, 4, 6} | {1, 3, 5} | {1, 7, 9} | false
+        """, sampleSize = 4, seed = 2026)
+    void sampled_value_set_combinations(int x, int y, int z, boolean expectedOddSum) {
+        assertEquals(expectedOddSum, (x + y + z) % 2 != 0);
+    }
+
 }
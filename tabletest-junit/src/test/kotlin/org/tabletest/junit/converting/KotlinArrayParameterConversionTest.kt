@@ -64,6 +64,40 @@ class KotlinArrayParameterConversionTest {
         assertEquals(expected, values.toList())
     }
 
+    @TableTest(
+        """
+        Scenario    | Values              | Expected?
+        underscores | [1_000, -2_000_000] | [1000, -2000000]
+        hexadecimal | [0x10, '#FF']       | [16, 255]
+        octal       | [010, 0]            | [8, 0]
+        """
+    )
+    fun converts_to_primitive_int_array_with_number_notation(values: IntArray, expected: List<Int>) {
+        assertEquals(expected, values.toList())
+    }
+
+    @TableTest(
+        """
+        Scenario   | Values              | Expected?
+        lowercase  | [true, false]       | [true, false]
+        mixed case | [TRUE, False, true] | [true, false, true]
+        """
+    )
+    fun converts_to_primitive_boolean_array(values: BooleanArray, expected: List<Boolean>) {
+        assertEquals(expected, values.toList())
+    }
+
+    @TableTest(
+        """
+        Scenario      | Values               | Expected?
+        square matrix | [[1, 2], [3, 4]]     | [[1, 2], [3, 4]]
+        ragged rows   | [[1], [2, 3, 4], []] | [[1], [2, 3, 4], []]
+        """
+    )
+    fun converts_to_nested_primitive_int_array(values: Array<IntArray>, expected: List<List<Int>>) {
+        assertEquals(expected, values.map { it.toList() })
+    }
+
     @TableTest(
         """
         Scenario     | Values           | Expected?
@@ -1,6 +1,7 @@
 package org.tabletest.junit.features
 
 import org.tabletest.junit.TableTest
+import org.tabletest.junit.ValueSetExpansion
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertNull
 
@@ -40,4 +41,29 @@ class KotlinValueSetTest {
         assertEquals(expectedEvenSum, (x + y) % 2 == 0)
     }
 
+    @TableTest(
+        value = ["""
+        Scenario          | x         | y         | z         | is sum odd?
+        Odd, even, even   | {1, 3, 5} | {2, 4, 6} | {0, 2, 8} | true
+        Even, odd, odd    | {2, 4, 6} | {1, 3, 5} | {1, 7, 9} | false
+        """],
+        expansion = ValueSetExpansion.PAIRWISE
+    )
+    fun pairwise_value_set_combinations(x: Int, y: Int, z: Int, expectedOddSum: Boolean) {
+        assertEquals(expectedOddSum, (x + y + z) % 2 != 0)
+    }
+
+    @TableTest(
+        value = ["""
+        Scenario        | x         | y         | z         | is sum odd?
+        Odd, even, even | {1, 3, 5} | {2, 4, 6} | {0, 2, 8} | true
+        Even, odd, odd  | {2, 4, 6} | {1, 3, 5} | {1, 7, 9} | false
+        """],
+        sampleSize = 4,
+        seed = 2026
+    )
+    fun sampled_value_set_combinations(x: Int, y: Int, z: Int, expectedOddSum: Boolean) {
+        assertEquals(expectedOddSum, (x + y + z) % 2 != 0)
+    }
+
 }
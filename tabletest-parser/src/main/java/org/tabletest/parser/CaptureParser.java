@@ -49,6 +49,37 @@ public class CaptureParser {
         return createCaptureFunction(parser, success -> success.capture(quoteChar));
     }
 
+    /**
+     * Creates a parser that captures the matched value on success as a string, trimming off leading and
+     * trailing whitespace. An empty or blank value is captured as null.
+     * <p>
+     * Unlike {@link #captureUnquoted(Parser)}, the capture is the final string rather than a {@link StringValue}.
+     *
+     * @param parser base parser to use
+     * @return parser that captures matched values
+     */
+    public static Parser captureUnquotedString(Parser parser) {
+        return createCaptureFunction(parser, Success::captureTrimmedString);
+    }
+
+    /**
+     * Creates a parser that captures the matched value on success as a string, with or without the
+     * quotes around it.
+     * <p>
+     * Unlike {@link #captureQuoted(Parser, char)}, the capture is the final string rather than a {@link StringValue}.
+     *
+     * @param parser     base parser to use
+     * @param quoteChar  the character used for quoting
+     * @param keepQuotes if true, the quotes are kept around the captured string
+     * @return parser that captures matched values
+     */
+    public static Parser captureQuotedString(Parser parser, char quoteChar, boolean keepQuotes) {
+        return createCaptureFunction(
+            parser,
+            keepQuotes ? success -> success.captureString(quoteChar + success.consumed() + quoteChar) : Success::captureString
+        );
+    }
+
     /**
      * Creates a parser that collects captured values to a list.
      *
@@ -79,6 +110,19 @@ public class CaptureParser {
         return createCaptureFunction(parser, Success::collectCapturesToMap);
     }
 
+    /**
+     * Creates a parser that collects captured key-value pairs to a map, where string keys are captured
+     * as final strings by {@link #captureQuotedString(Parser, char, boolean)} and
+     * {@link #captureUnquotedString(Parser)}.
+     *
+     * @param parser     parser capturing values
+     * @param keepQuotes whether quoted keys are captured with their quotes
+     * @return created parser
+     */
+    public static Parser collectToMap(Parser parser, boolean keepQuotes) {
+        return createCaptureFunction(parser, success -> success.collectCapturesToMap(keepQuotes));
+    }
+
     private static Parser createCaptureFunction(Parser parser, Function<Success, Success> function) {
         return input -> {
             ParseResult result = parser.parse(input);
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a row into the text of its cells without running the row grammar, so that cells can be
+ * parsed, and cached, one at a time, or just counted.
+ * <p>
+ * The scan is conservative. Where a line holds anything the grammar might split differently,
+ * such as a bracket inside an unquoted element or text after a closing quote, no split is made
+ * and the line must be parsed as a whole. Lines are scanned in place, as a range of the input,
+ * and counting allocates nothing.
+ */
+final class CellSplitter {
+    /**
+     * Result of {@link #count} for a line that could not be split with certainty.
+     */
+    static final int UNCERTAIN = -1;
+
+    private static final String WHITESPACE = " \t\n\r\f";
+    private static final String ELEMENT_DELIMITERS = ",:|[]{}";
+    private static final int MAX_DEPTH = 64;
+
+    private CellSplitter() {
+    }
+
+    /**
+     * @param line row to split
+     * @return the text of each cell, including surrounding whitespace, or null if the line is a
+     * comment or could not be split with certainty
+     */
+    static List<String> split(String line) {
+        int end = line.length();
+        if (isComment(line, 0, end)) return null;
+        List<String> cells = new ArrayList<>();
+        int start = 0;
+        while (true) {
+            int cellEnd = endOfCell(line, skipWhitespace(line, start, end), end);
+            if (cellEnd < 0) return null;
+            cells.add(line.substring(start, cellEnd));
+            if (cellEnd == end) return cells;
+            start = cellEnd + 1;
+        }
+    }
+
+    /**
+     * Counts the cells of a line that is not blank.
+     *
+     * @param input input holding the line
+     * @param start position of the first character of the line
+     * @param end   position after the last character of the line
+     * @return the number of cells, 0 for a comment, or {@link #UNCERTAIN} if the line could not
+     * be split with certainty
+     */
+    static int count(String input, int start, int end) {
+        if (isComment(input, start, end)) return 0;
+        int cells = 1;
+        int cellStart = start;
+        while (true) {
+            int cellEnd = endOfCell(input, skipWhitespace(input, cellStart, end), end);
+            if (cellEnd < 0) return UNCERTAIN;
+            if (cellEnd == end) return cells;
+            cells++;
+            cellStart = cellEnd + 1;
+        }
+    }
+
+    private static boolean isComment(String input, int start, int end) {
+        int first = skipWhitespace(input, start, end);
+        return first + 1 < end && input.charAt(first) == '/' && input.charAt(first + 1) == '/';
+    }
+
+    /**
+     * @return the position of the separator ending the cell, the end of the line for the last
+     * cell, or -1 if the cell could not be delimited with certainty
+     */
+    private static int endOfCell(String input, int valueStart, int end) {
+        if (valueStart == end) return valueStart;
+        char first = input.charAt(valueStart);
+        int valueEnd;
+        if (first == '[' || first == '{') {
+            valueEnd = endOfBrackets(input, valueStart, end);
+        } else if (first == '\'' || first == '"') {
+            valueEnd = endOfQuote(input, valueStart, end);
+        } else {
+            int separator = valueStart;
+            while (separator < end && input.charAt(separator) != '|') separator++;
+            return separator;
+        }
+        if (valueEnd < 0) return -1;
+        int cellEnd = skipWhitespace(input, valueEnd, end);
+        return cellEnd == end || input.charAt(cellEnd) == '|' ? cellEnd : -1;
+    }
+
+    /**
+     * Finds the end of a bracketed value, recognising quotes and nested brackets only at the start
+     * of an element, where the grammar does. The brackets still open are kept as bits, set for a
+     * square bracket and clear for a curly brace, with the innermost lowest.
+     */
+    private static int endOfBrackets(String input, int from, int end) {
+        long open = 0;
+        int depth = 0;
+        boolean elementStart = true;
+        int i = from;
+        do {
+            i = skipWhitespace(input, i, end);
+            if (i == end) return -1;
+            char c = input.charAt(i);
+            if (c == '[' || c == '{') {
+                if (!elementStart || depth == MAX_DEPTH) return -1;
+                open = open << 1 | (c == '[' ? 1 : 0);
+                depth++;
+                i++;
+            } else if (c == ']' || c == '}') {
+                if ((c == ']') != ((open & 1) == 1)) return -1;
+                open >>>= 1;
+                depth--;
+                i++;
+                elementStart = false;
+            } else if (c == ',' || c == ':') {
+                i++;
+                elementStart = true;
+            } else if (c == '|' || !elementStart) {
+                return -1;
+            } else if (c == '\'' || c == '"') {
+                i = endOfQuote(input, i, end);
+                if (i < 0) return -1;
+                elementStart = false;
+            } else {
+                while (i < end && ELEMENT_DELIMITERS.indexOf(input.charAt(i)) < 0) i++;
+                if (i < end && (input.charAt(i) == '[' || input.charAt(i) == '{')) return -1;
+                elementStart = false;
+            }
+        } while (depth > 0);
+        return i;
+    }
+
+    private static int endOfQuote(String input, int quoteStart, int end) {
+        char quote = input.charAt(quoteStart);
+        for (int i = quoteStart + 1; i < end; i++) {
+            if (input.charAt(i) == quote) return i + 1;
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(String input, int from, int end) {
+        int i = from;
+        while (i < end && WHITESPACE.indexOf(input.charAt(i)) >= 0) i++;
+        return i;
+    }
+}
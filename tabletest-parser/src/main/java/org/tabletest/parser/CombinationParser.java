@@ -40,11 +40,13 @@ public class CombinationParser {
      * @return a parser requiring at least one component parser to succeed
      */
     public static Parser either(Parser... parsers) {
-        return input -> Arrays.stream(parsers)
-            .map(it -> it.parse(input))
-            .filter(ParseResult::isSuccess)
-            .findFirst()
-            .orElse(failure(input));
+        return input -> {
+            for (Parser parser : parsers) {
+                ParseResult result = parser.parse(input);
+                if (result instanceof Success) return result;
+            }
+            return failure();
+        };
     }
 
     /**
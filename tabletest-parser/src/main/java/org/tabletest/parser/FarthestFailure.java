@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.parser;
+
+import org.tabletest.parser.ParseResult.Failure;
+import org.tabletest.parser.ParseResult.Success;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.tabletest.parser.ParseResult.failure;
+
+/**
+ * Records the farthest position a parser reached before failing, and the tokens expected there.
+ * <p>
+ * Failures carry no position themselves, so backtracking over failed alternatives allocates nothing.
+ * Instead, when a parse turns out to be incomplete, the input is parsed again with tracking enabled,
+ * and each failing character parser reports its position to the tracker of the current thread.
+ * Positions are measured as the length of the remaining input, so the farthest failure is the one
+ * with the least input remaining.
+ */
+final class FarthestFailure {
+    private static final ThreadLocal<FarthestFailure> TRACKING = new ThreadLocal<>();
+
+    private int remaining = Integer.MAX_VALUE;
+    private final Set<String> expected = new LinkedHashSet<>();
+
+    private FarthestFailure() {
+    }
+
+    /**
+     * Reports a failure to match at the start of the given input.
+     *
+     * @param input    remaining input where the match failed
+     * @param expected the expected token, or null if not worth reporting
+     * @return the shared failure result
+     */
+    static Failure at(String input, String expected) {
+        FarthestFailure tracker = TRACKING.get();
+        if (tracker != null) {
+            tracker.record(input.length(), expected);
+        }
+        return failure();
+    }
+
+    /**
+     * Parses the input with tracking enabled, finding where the parse got stuck.
+     * A successful parse that leaves input unconsumed is stuck at the start of the unconsumed input.
+     *
+     * @param parser parser to apply
+     * @param input  input to parse
+     * @return the farthest failure
+     */
+    static FarthestFailure track(Parser parser, String input) {
+        FarthestFailure previous = TRACKING.get();
+        FarthestFailure tracker = new FarthestFailure();
+        TRACKING.set(tracker);
+        try {
+            ParseResult result = parser.parse(input);
+            if (result instanceof Success) {
+                tracker.record(result.rest().length(), null);
+            }
+        } finally {
+            TRACKING.set(previous);
+        }
+        if (tracker.remaining == Integer.MAX_VALUE) {
+            tracker.remaining = input.length();
+        }
+        return tracker;
+    }
+
+    private void record(int remaining, String expected) {
+        if (remaining < this.remaining) {
+            this.remaining = remaining;
+            this.expected.clear();
+        }
+        if (remaining == this.remaining && expected != null) {
+            this.expected.add(expected);
+        }
+    }
+
+    /**
+     * @param input the input that was parsed
+     * @return one-based column of the farthest failure in the input
+     */
+    int column(String input) {
+        return input.length() - remaining + 1;
+    }
+
+    /**
+     * @return the tokens that would have let the parse continue, in the order tried
+     */
+    List<String> expected() {
+        return new ArrayList<>(expected);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Immutable header values of a table with a lookup from header to column index.
+ * <p>
+ * A table shares one instance with all its rows, so the lookup is built at most once per table.
+ * It is built on the first lookup by name, keeping positional use free of its cost.
+ * Where a header occurs more than once, the first column with that header is found.
+ */
+final class HeaderIndex {
+    private static final HeaderIndex EMPTY = new HeaderIndex(Collections.emptyList());
+
+    private final List<String> names;
+    private volatile Map<String, Integer> indexByName;
+
+    private HeaderIndex(List<String> names) {
+        this.names = names;
+    }
+
+    static HeaderIndex empty() {
+        return EMPTY;
+    }
+
+    static HeaderIndex of(List<String> names) {
+        return names.isEmpty() ? EMPTY : new HeaderIndex(unmodifiableList(new ArrayList<>(names)));
+    }
+
+    List<String> names() {
+        return names;
+    }
+
+    /**
+     * @param header header value to find
+     * @return zero-based index of the first column with the header, or -1 if there is none
+     */
+    int indexOf(String header) {
+        Map<String, Integer> index = indexByName;
+        if (index == null) {
+            index = buildIndex();
+            indexByName = index;
+        }
+        Integer position = index.get(header);
+        return position == null ? -1 : position;
+    }
+
+    private Map<String, Integer> buildIndex() {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = names.size() - 1; i >= 0; i--) {
+            index.put(names.get(i), i);
+        }
+        return index;
+    }
+
+    /**
+     * @return headers without the first one
+     */
+    HeaderIndex skipFirst() {
+        return names.isEmpty() ? this : new HeaderIndex(names.subList(1, names.size()));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof HeaderIndex)) return false;
+        return names.equals(((HeaderIndex) obj).names);
+    }
+
+    @Override
+    public int hashCode() {
+        return names.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return names.toString();
+    }
+}
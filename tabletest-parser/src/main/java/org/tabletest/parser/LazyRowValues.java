@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.parser;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Unmodifiable values of a row whose list, set and map cells are parsed when first read.
+ * <p>
+ * Reading a cell that is already parsed takes no lock; a cell still to be parsed is parsed once,
+ * under the lock of the row.
+ *
+ * @see TableParser#parseLazily(String, boolean)
+ */
+final class LazyRowValues extends AbstractList<Object> implements RandomAccess {
+    private final String line;
+    private final int lineNumber;
+    private final boolean keepQuotes;
+    private final AtomicReferenceArray<Object> values;
+
+    /**
+     * @param values parsed values, with {@link Unparsed} standing in for cells still to be parsed
+     */
+    LazyRowValues(String line, int lineNumber, boolean keepQuotes, Object[] values) {
+        this.line = line;
+        this.lineNumber = lineNumber;
+        this.keepQuotes = keepQuotes;
+        this.values = new AtomicReferenceArray<>(values);
+    }
+
+    /**
+     * @throws TableTestParseException if the cell fails to parse
+     */
+    @Override
+    public Object get(int index) {
+        Object value = values.get(index);
+        return value instanceof Unparsed ? parse(index) : value;
+    }
+
+    private synchronized Object parse(int index) {
+        Object value = values.get(index);
+        if (value instanceof Unparsed) {
+            value = TableParser.parseLazyCell(((Unparsed) value).text, index, line, lineNumber, keepQuotes);
+            values.set(index, value);
+        }
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return values.length();
+    }
+
+    /**
+     * The text of a cell still to be parsed.
+     */
+    static final class Unparsed {
+        private final String text;
+
+        Unparsed(String text) {
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Splits input into lines at {@code \n}, for {@link TableSource}.
+ */
+final class Lines {
+    private static final int BUFFER_SIZE = 8192;
+
+    private Lines() {
+    }
+
+    /**
+     * Hands each line of the text to the action, numbering them from the given line number.
+     *
+     * @return the line number following the last line of the text
+     */
+    static int forEach(CharSequence text, int firstLineNumber, ObjIntConsumer<String> action) {
+        int lineNumber = firstLineNumber;
+        int start = 0;
+        for (int end = 0; end < text.length(); end++) {
+            if (text.charAt(end) == '\n') {
+                action.accept(text.subSequence(start, end).toString(), lineNumber++);
+                start = end + 1;
+            }
+        }
+        action.accept(text.subSequence(start, text.length()).toString(), lineNumber++);
+        return lineNumber;
+    }
+
+    /**
+     * Hands each line read to the action.
+     */
+    static void forEach(Reader reader, ObjIntConsumer<String> action) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        StringBuilder line = new StringBuilder();
+        int lineNumber = 1;
+        int read;
+        while ((read = reader.read(buffer)) >= 0) {
+            int start = 0;
+            for (int end = 0; end < read; end++) {
+                if (buffer[end] == '\n') {
+                    line.append(buffer, start, end - start);
+                    action.accept(line.toString(), lineNumber++);
+                    line.setLength(0);
+                    start = end + 1;
+                }
+            }
+            line.append(buffer, start, read - start);
+        }
+        action.accept(line.toString(), lineNumber);
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.parser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of parse results, for tables repeating rows or bracketed cells.
+ * <p>
+ * Rows are cached by the text of their line, and list, set and map cells by their text without
+ * surrounding whitespace, so a duplicate row or a repeated {@code [...]} or {@code {...}} cell is
+ * parsed only once. Each holds up to a given number of entries, evicting the least recently used.
+ * Hit and miss counts show whether the cache pays off for a given table.
+ * <p>
+ * Cached rows and values are shared, so lists, sets and maps parsed with a cache are unmodifiable.
+ * A cache may be shared between tables and is safe to use from several threads.
+ *
+ * @see TableParser#parse(String, boolean, ParseCache)
+ * @see TableParser#stream(java.io.Reader, boolean, ParseCache)
+ */
+public final class ParseCache {
+    private static final Object NO_ROW = new Object();
+
+    private final Map<Key, Object> lines;
+    private final Map<Key, Object> cells;
+    private long lineHits;
+    private long lineMisses;
+    private long cellHits;
+    private long cellMisses;
+
+    private ParseCache(int maxEntries) {
+        this.lines = leastRecentlyUsed(maxEntries);
+        this.cells = leastRecentlyUsed(maxEntries);
+    }
+
+    /**
+     * @param maxEntries maximum number of rows, and of cells, to keep; must be positive
+     * @return an empty cache
+     */
+    public static ParseCache bounded(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Maximum number of entries must be positive: " + maxEntries);
+        }
+        return new ParseCache(maxEntries);
+    }
+
+    private static Map<Key, Object> leastRecentlyUsed(int maxEntries) {
+        return new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Looks up the row parsed from a line, parsing and caching it on a miss.
+     *
+     * @param parse parses the line, returning null for a comment
+     * @return the row, or null for a comment
+     */
+    Row line(String line, boolean keepQuotes, Supplier<Row> parse) {
+        Key key = new Key(line, keepQuotes);
+        Object cached;
+        synchronized (this) {
+            cached = lines.get(key);
+            if (cached == null) lineMisses++;
+            else lineHits++;
+        }
+        if (cached != null) return cached == NO_ROW ? null : (Row) cached;
+        Row row = parse.get();
+        synchronized (this) {
+            lines.put(key, row == null ? NO_ROW : row);
+        }
+        return row;
+    }
+
+    /**
+     * Looks up the value parsed from the text of a list, set or map cell, parsing and caching it on a miss.
+     *
+     * @param parse parses the cell, returning null if it cannot be parsed on its own
+     * @return the value, or null if the cell cannot be parsed on its own
+     */
+    Object cell(String cell, boolean keepQuotes, Supplier<Object> parse) {
+        Key key = new Key(cell, keepQuotes);
+        Object cached;
+        synchronized (this) {
+            cached = cells.get(key);
+            if (cached == null) cellMisses++;
+            else cellHits++;
+        }
+        if (cached != null) return cached;
+        Object value = parse.get();
+        if (value != null) {
+            synchronized (this) {
+                cells.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return the number of lines found in the cache
+     */
+    public synchronized long lineHits() {
+        return lineHits;
+    }
+
+    /**
+     * @return the number of lines parsed because they were not in the cache
+     */
+    public synchronized long lineMisses() {
+        return lineMisses;
+    }
+
+    /**
+     * @return the share of line lookups found in the cache, or 0 before any lookup
+     */
+    public synchronized double lineHitRatio() {
+        return ratio(lineHits, lineMisses);
+    }
+
+    /**
+     * @return the number of list, set and map cells found in the cache
+     */
+    public synchronized long cellHits() {
+        return cellHits;
+    }
+
+    /**
+     * @return the number of list, set and map cells parsed because they were not in the cache
+     */
+    public synchronized long cellMisses() {
+        return cellMisses;
+    }
+
+    /**
+     * @return the share of list, set and map cell lookups found in the cache, or 0 before any lookup
+     */
+    public synchronized double cellHitRatio() {
+        return ratio(cellHits, cellMisses);
+    }
+
+    private static double ratio(long hits, long misses) {
+        return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format(
+            "ParseCache[lines=%d/%d (%.0f%%), cells=%d/%d (%.0f%%)]",
+            lineHits, lineHits + lineMisses, 100 * lineHitRatio(),
+            cellHits, cellHits + cellMisses, 100 * cellHitRatio()
+        );
+    }
+
+    private static final class Key {
+        private final String text;
+        private final boolean keepQuotes;
+
+        private Key(String text, boolean keepQuotes) {
+            this.text = text;
+            this.keepQuotes = keepQuotes;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key other = (Key) obj;
+            return keepQuotes == other.keepQuotes && text.equals(other.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(text, keepQuotes);
+        }
+    }
+}
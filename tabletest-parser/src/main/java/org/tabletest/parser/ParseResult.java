@@ -44,6 +44,19 @@ public interface ParseResult {
         return success(consumed, rest, emptyList());
     }
 
+    /**
+     * @return the shared failure result
+     */
+    static Failure failure() {
+        return Failure.INSTANCE;
+    }
+
+    /**
+     * @param rest the remaining input
+     * @return a failure carrying the remaining input
+     * @deprecated the parser's own failures are the shared instance without remaining input; use {@link #failure()}
+     */
+    @Deprecated
     static Failure failure(String rest) {
         return new Failure(rest);
     }
@@ -134,6 +147,31 @@ public interface ParseResult {
             return new Success(consumed, rest, nextCaptures);
         }
 
+        /**
+         * Stores the consumed input as a string capture. If nothing was consumed, an empty string is stored.
+         */
+        Success captureString() {
+            return captureString(consumed);
+        }
+
+        /**
+         * Stores the given string as a capture of the consumed input.
+         */
+        Success captureString(String value) {
+            ArrayList<Object> nextCaptures = new ArrayList<>(captures);
+            nextCaptures.add(value);
+            return new Success(consumed, rest, nextCaptures);
+        }
+
+        /**
+         * Stores the consumed input as a string capture, trimming off leading and trailing whitespace.
+         * An empty or blank value is stored as null.
+         */
+        Success captureTrimmedString() {
+            String trimmed = consumed.trim();
+            return captureString(trimmed.isEmpty() ? null : trimmed);
+        }
+
         /**
          * Collects captured values into a list, retaining capture order. Null values are not allowed.
          *
@@ -169,6 +207,16 @@ public interface ParseResult {
          *                                 or a key occurs more than once
          */
         Success collectCapturesToMap() {
+            return collectCapturesToMap(false);
+        }
+
+        /**
+         * Collects captured values into a map, as {@link #collectCapturesToMap()} does.
+         *
+         * @param keysKeepQuotes whether quoted string keys were captured with their quotes, to be left out
+         *                       when checking that keys are unique
+         */
+        Success collectCapturesToMap(boolean keysKeepQuotes) {
             if (captures.size() % 2 != 0) {
                 throw new TableTestParseException("Must have an even number of captures to collect to map");
             }
@@ -179,17 +227,33 @@ public interface ParseResult {
             Set<Object> seenKeys = new HashSet<>();
             for (int i = 0; i < captures.size(); i += 2) {
                 Object key = captures.get(i);
-                if (!seenKeys.add(keyIdentity(key))) {
+                Object identity = keyIdentity(key, keysKeepQuotes);
+                if (!seenKeys.add(identity)) {
                     throw new TableTestParseException(
-                        "Duplicate key `" + keyIdentity(key) + "` in map `[" + consumed.trim() + "]`");
+                        "Duplicate key `" + identity + "` in map `[" + consumed.trim() + "]`");
                 }
                 captureGroup.put(key, captures.get(i + 1));
             }
             return new Success(consumed, rest, singletonList(unmodifiableMap(captureGroup)));
         }
 
-        private static Object keyIdentity(Object key) {
-            return key instanceof StringValue ? ((StringValue) key).value() : key;
+        /**
+         * The key without quotes. A string key captured with its quotes is quoted if it starts and ends with
+         * the same quote, as unquoted map keys cannot start with a quote.
+         */
+        private static Object keyIdentity(Object key, boolean keysKeepQuotes) {
+            if (key instanceof StringValue) return ((StringValue) key).value();
+            if (keysKeepQuotes && key instanceof String && isQuoted((String) key)) {
+                String quoted = (String) key;
+                return quoted.substring(1, quoted.length() - 1);
+            }
+            return key;
+        }
+
+        private static boolean isQuoted(String text) {
+            if (text.length() < 2) return false;
+            char first = text.charAt(0);
+            return (first == '\'' || first == '"') && text.charAt(text.length() - 1) == first;
         }
 
         private Success append(Success nextResult) {
@@ -223,13 +287,30 @@ public interface ParseResult {
         }
     }
 
+    /**
+     * A failed parse. The parser's failures carry no state and are represented by a single shared
+     * instance, so failing alternatives allocate nothing while backtracking. Where the parse got stuck
+     * is found separately, by tracking the farthest failure when a parse turns out to be incomplete.
+     */
     class Failure implements ParseResult {
+        private static final Failure INSTANCE = new Failure("");
+
         private final String rest;
 
+        /**
+         * @param rest the remaining input
+         * @deprecated the parser's own failures are the shared instance without remaining input;
+         * use {@link ParseResult#failure()}
+         */
+        @Deprecated
         public Failure(String rest) {
             this.rest = rest;
         }
 
+        /**
+         * @return the remaining input given to a deprecated constructor, or the empty string for the
+         * parser's own failures, which carry no remaining input
+         */
         @Override
         public String rest() {
             return rest;
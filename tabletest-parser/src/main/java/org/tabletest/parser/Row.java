@@ -23,30 +23,43 @@ import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
-import static java.util.stream.Collectors.toList;
 
 /**
  * Immutable representation of a table row with cell values.
  */
 public class Row {
     private final List<Object> values;
-    private final List<String> headers;
+    private final HeaderIndex headers;
 
     public Row(List<Object> values, List<String> headers) {
-        this.values = unmodifiableList(new ArrayList<>(values));
-        this.headers = unmodifiableList(new ArrayList<>(headers));
+        this(unmodifiableList(new ArrayList<>(values)), HeaderIndex.of(headers));
     }
 
     public Row(List<Object> values) {
         this(values, emptyList());
     }
 
+    /**
+     * Creates a row sharing already unmodifiable values, without headers.
+     */
+    static Row sharing(List<Object> values) {
+        return new Row(values, HeaderIndex.empty());
+    }
+
+    /**
+     * Creates a row sharing already immutable values and headers.
+     */
+    private Row(List<Object> values, HeaderIndex headers) {
+        this.values = values;
+        this.headers = headers;
+    }
+
     public List<Object> values() {
         return values;
     }
 
     public List<String> headers() {
-        return headers;
+        return headers.names();
     }
 
     /**
@@ -65,10 +78,7 @@ public class Row {
      * @return new row with first value removed if test is false, otherwise this row is returned.
      */
     public Row skipFirstUnless(boolean test) {
-        return test ? this : new Row(
-            values.stream().skip(1).collect(toList()),
-            headers.stream().skip(1).collect(toList())
-        );
+        return test ? this : skipFirst();
     }
 
     /**
@@ -78,10 +88,11 @@ public class Row {
      * @return new row with first value removed if test is true, otherwise this row is returned.
      */
     public Row skipFirstIf(boolean test) {
-        return test ? new Row(
-            values.stream().skip(1).collect(toList()),
-            headers.stream().skip(1).collect(toList())
-        ) : this;
+        return test ? skipFirst() : this;
+    }
+
+    private Row skipFirst() {
+        return values.isEmpty() ? this : new Row(values.subList(1, values.size()), headers.skipFirst());
     }
 
     /**
@@ -107,15 +118,63 @@ public class Row {
         return values.get(index);
     }
 
+    /**
+     * Gets the value in the column with the given header.
+     * Where a header occurs more than once, the value of the first such column is returned.
+     *
+     * @param header header of the column
+     * @return value
+     * @throws IllegalArgumentException if the row has no column with the header
+     */
+    public Object value(String header) {
+        return values.get(indexOf(header));
+    }
+
+    /**
+     * Gets the value in the column with the given header, cast to the given type.
+     *
+     * @param <T>    value type
+     * @param header header of the column
+     * @param type   expected type of the value, such as {@code String.class}, {@code List.class}, or {@code Map.class}
+     * @return value
+     * @throws IllegalArgumentException if the row has no column with the header
+     * @throws ClassCastException       if the value is not of the given type
+     */
+    public <T> T value(String header, Class<T> type) {
+        return type.cast(value(header));
+    }
+
+    /**
+     * Returns true if the row has a column with the given header.
+     *
+     * @param header header to look for
+     * @return true if a column has the header
+     */
+    public boolean hasHeader(String header) {
+        return headers.indexOf(header) >= 0;
+    }
+
+    private int indexOf(String header) {
+        int index = headers.indexOf(header);
+        if (index < 0) {
+            throw new IllegalArgumentException("No column with header `" + header + "` in " + headers);
+        }
+        return index;
+    }
+
     public Row withHeaders(List<String> headers) {
+        return withHeaders(HeaderIndex.of(headers));
+    }
+
+    Row withHeaders(HeaderIndex headers) {
         return new Row(values, headers);
     }
 
     public String header(int index) {
-        if (headers.isEmpty() || index < 0 || index >= headers.size()) {
+        if (index < 0 || index >= headers.names().size()) {
             throw new IndexOutOfBoundsException("Invalid header index: " + index);
         }
-        return headers.get(index);
+        return headers.names().get(index);
     }
 
     @Override
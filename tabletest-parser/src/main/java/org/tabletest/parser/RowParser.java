@@ -15,8 +15,13 @@
  */
 package org.tabletest.parser;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 import static org.tabletest.parser.CaptureParser.captureQuoted;
+import static org.tabletest.parser.CaptureParser.captureQuotedString;
 import static org.tabletest.parser.CaptureParser.captureUnquoted;
+import static org.tabletest.parser.CaptureParser.captureUnquotedString;
 import static org.tabletest.parser.CaptureParser.collectToList;
 import static org.tabletest.parser.CaptureParser.collectToMap;
 import static org.tabletest.parser.CaptureParser.collectToSet;
@@ -40,6 +45,8 @@ public class RowParser {
 
     /**
      * Parses a string representing a TableTest row with pipe-separated values.
+     * <p>
+     * String values are captured as {@link StringValue}s, recording how they were quoted.
      *
      * @param input string to parse
      * @return parse result containing captured values
@@ -48,13 +55,88 @@ public class RowParser {
         return PARSER.parse(input);
     }
 
+    /**
+     * Parses a string representing a TableTest row with pipe-separated values, capturing the values
+     * as they appear in a table: string values as strings, and lists, sets and maps holding them.
+     *
+     * @param input      string to parse
+     * @param keepQuotes if true, quoted string values keep their quotes; if false, they are unwrapped
+     * @return parse result containing captured values
+     */
+    static ParseResult parse(String input, boolean keepQuotes) {
+        return (keepQuotes ? PARSER_KEEPING_QUOTES : PARSER_UNWRAPPING_QUOTES).parse(input);
+    }
+
+    /**
+     * Parses the text of a single cell, capturing its value as {@link #parse(String, boolean)} does.
+     *
+     * @param input      cell text, without the separators around it
+     * @param keepQuotes if true, quoted string values keep their quotes; if false, they are unwrapped
+     * @return parse result capturing the cell value
+     */
+    static ParseResult parseCell(String input, boolean keepQuotes) {
+        return (keepQuotes ? CELL_KEEPING_QUOTES : CELL_UNWRAPPING_QUOTES).parse(input);
+    }
+
+    /**
+     * How string values are captured.
+     */
+    enum Scalars {
+        /**
+         * As {@link StringValue}s recording their quotes.
+         */
+        STRING_VALUES,
+        /**
+         * As strings, unwrapped from their quotes.
+         */
+        UNWRAPPING_QUOTES,
+        /**
+         * As strings, keeping their quotes.
+         */
+        KEEPING_QUOTES;
+
+        Parser quoted(Parser parser, char quoteChar) {
+            return this == STRING_VALUES
+                ? captureQuoted(parser, quoteChar)
+                : captureQuotedString(parser, quoteChar, this == KEEPING_QUOTES);
+        }
+
+        Parser unquoted(Parser parser) {
+            return this == STRING_VALUES ? captureUnquoted(parser) : captureUnquotedString(parser);
+        }
+
+        Parser map(Parser parser) {
+            return this == STRING_VALUES ? collectToMap(parser) : collectToMap(parser, this == KEEPING_QUOTES);
+        }
+    }
+
+    /**
+     * Parsers for nested list, set and map values, built once per way of capturing string values and
+     * referred to by the element parsers, so nested values do not build the grammar again.
+     */
+    private static final Map<Scalars, Parser> NESTED_VALUES = new EnumMap<>(Scalars.class);
+
+    static {
+        for (Scalars scalars : Scalars.values()) {
+            NESTED_VALUES.put(scalars, either(mapValue(scalars), listValue(scalars), setValue(scalars)));
+        }
+    }
+
     /**
      * Main parser for processing input lines, handling both comments and data rows.
      */
-    private static final Parser PARSER = line();
+    private static final Parser PARSER = line(Scalars.STRING_VALUES);
+
+    private static final Parser PARSER_UNWRAPPING_QUOTES = line(Scalars.UNWRAPPING_QUOTES);
 
-    private static Parser line() {
-        return either(comment(), row());
+    private static final Parser PARSER_KEEPING_QUOTES = line(Scalars.KEEPING_QUOTES);
+
+    private static final Parser CELL_UNWRAPPING_QUOTES = cell(Scalars.UNWRAPPING_QUOTES);
+
+    private static final Parser CELL_KEEPING_QUOTES = cell(Scalars.KEEPING_QUOTES);
+
+    private static Parser line(Scalars scalars) {
+        return either(comment(), row(scalars));
     }
 
     private static Parser comment() {
@@ -71,7 +153,11 @@ public class RowParser {
      * @return parser for table rows
      */
     static Parser row() {
-        return entries(cell(), character('|'));
+        return row(Scalars.STRING_VALUES);
+    }
+
+    private static Parser row(Scalars scalars) {
+        return entries(cell(scalars), character('|'));
     }
 
     /**
@@ -81,11 +167,15 @@ public class RowParser {
      * @return parser for table values
      */
     static Parser cell() {
-        return sequence(anyWhitespace(), value(), anyWhitespace());
+        return cell(Scalars.STRING_VALUES);
     }
 
-    private static Parser value() {
-        return either(mapValue(), listValue(), setValue(), stringValue());
+    private static Parser cell(Scalars scalars) {
+        return sequence(anyWhitespace(), value(scalars), anyWhitespace());
+    }
+
+    private static Parser value(Scalars scalars) {
+        return either(mapValue(scalars), listValue(scalars), setValue(scalars), stringValue(scalars));
     }
 
     /**
@@ -95,9 +185,13 @@ public class RowParser {
      * @return parser for map values
      */
     static Parser mapValue() {
+        return mapValue(Scalars.STRING_VALUES);
+    }
+
+    private static Parser mapValue(Scalars scalars) {
         return sequence(
             character('['),
-            collectToMap(either(emptyMapValue(), keyValuePairs())),
+            scalars.map(either(emptyMapValue(), keyValuePairs(scalars))),
             character(']')
         );
     }
@@ -106,28 +200,28 @@ public class RowParser {
         return sequence(anyWhitespace(), character(':'), anyWhitespace());
     }
 
-    private static Parser keyValuePairs() {
-        return entries(keyValuePair(), character(','));
+    private static Parser keyValuePairs(Scalars scalars) {
+        return entries(keyValuePair(scalars), character(','));
     }
 
-    private static Parser keyValuePair() {
-        return sequence(mapKey(), character(':'), elementValue());
+    private static Parser keyValuePair(Scalars scalars) {
+        return sequence(mapKey(scalars), character(':'), elementValue(scalars));
     }
 
-    private static Parser mapKey() {
+    private static Parser mapKey(Scalars scalars) {
         return sequence(
             anyWhitespace(),
             either(
-                singleQuotedValue(),
-                doubleQuotedValue(),
-                unquotedMapKey()
+                singleQuotedValue(scalars),
+                doubleQuotedValue(scalars),
+                unquotedMapKey(scalars)
             ),
             anyWhitespace()
         );
     }
 
-    private static Parser unquotedMapKey() {
-        return captureUnquoted(sequence(
+    private static Parser unquotedMapKey(Scalars scalars) {
+        return scalars.unquoted(sequence(
                 characterExcept(',', ':', '|', '[', ']', '{', '}', '\'', '"'),
                 atLeast(0, characterExcept(',', ':', '|', '[', ']'))
             ));
@@ -140,9 +234,13 @@ public class RowParser {
      * @return parser for set values
      */
     static Parser setValue() {
+        return setValue(Scalars.STRING_VALUES);
+    }
+
+    private static Parser setValue(Scalars scalars) {
         return sequence(
             character('{'),
-            collectToSet(optional(elementValues())),
+            collectToSet(optional(elementValues(scalars))),
             character('}')
         );
     }
@@ -154,36 +252,38 @@ public class RowParser {
      * @return parser for list values
      */
     static Parser listValue() {
+        return listValue(Scalars.STRING_VALUES);
+    }
+
+    private static Parser listValue(Scalars scalars) {
         return sequence(
             character('['),
-            collectToList(optional(elementValues())),
+            collectToList(optional(elementValues(scalars))),
             character(']')
         );
     }
 
-    private static Parser elementValues() {
-        return entries(elementValue(), character(','));
+    private static Parser elementValues(Scalars scalars) {
+        return entries(elementValue(scalars), character(','));
     }
 
-    private static Parser elementValue() {
+    private static Parser elementValue(Scalars scalars) {
         return sequence(
             anyWhitespace(),
             either(
-                forwardRef(RowParser::mapValue),
-                forwardRef(RowParser::listValue),
-                forwardRef(RowParser::setValue),
+                forwardRef(() -> NESTED_VALUES.get(scalars)),
                 either(
-                    singleQuotedValue(),
-                    doubleQuotedValue(),
-                    unquotedElementValue()
+                    singleQuotedValue(scalars),
+                    doubleQuotedValue(scalars),
+                    unquotedElementValue(scalars)
                 )
             ),
             anyWhitespace()
         );
     }
 
-    private static Parser unquotedElementValue() {
-        return captureUnquoted(sequence(
+    private static Parser unquotedElementValue(Scalars scalars) {
+        return scalars.unquoted(sequence(
             characterExcept(',', ':', '|', '[', ']', '{', '}', '\'', '"'),
             atLeast(0, characterExcept(',', ':', '|', ']', '}'))
         ));
@@ -200,27 +300,31 @@ public class RowParser {
      * @return parser for string values
      */
     static Parser stringValue() {
-        return either(singleQuotedValue(), doubleQuotedValue(), unquotedValue());
+        return stringValue(Scalars.STRING_VALUES);
+    }
+
+    private static Parser stringValue(Scalars scalars) {
+        return either(singleQuotedValue(scalars), doubleQuotedValue(scalars), unquotedValue(scalars));
     }
 
-    private static Parser singleQuotedValue() {
+    private static Parser singleQuotedValue(Scalars scalars) {
         return sequence(
             character('\''),
-            captureQuoted(zeroOrMore(characterExcept('\'')), '\''),
+            scalars.quoted(zeroOrMore(characterExcept('\'')), '\''),
             character('\'')
         );
     }
 
-    private static Parser doubleQuotedValue() {
+    private static Parser doubleQuotedValue(Scalars scalars) {
         return sequence(
             character('"'),
-            captureQuoted(zeroOrMore(characterExcept('"')), '"'),
+            scalars.quoted(zeroOrMore(characterExcept('"')), '"'),
             character('"')
         );
     }
 
-    private static Parser unquotedValue() {
-        return captureUnquoted(
+    private static Parser unquotedValue(Scalars scalars) {
+        return scalars.unquoted(
             optional(
                 sequence(
                     characterExcept('[', '{', '|'),
@@ -15,16 +15,9 @@
  */
 package org.tabletest.parser;
 
-import org.tabletest.parser.ParseResult.Failure;
-import org.tabletest.parser.ParseResult.Success;
-
-import java.util.Arrays;
-
 import static org.tabletest.parser.CombinationParser.atLeast;
-import static org.tabletest.parser.CombinationParser.either;
 import static org.tabletest.parser.CombinationParser.sequence;
 import static org.tabletest.parser.CombinationParser.zeroOrMore;
-import static org.tabletest.parser.ParseResult.failure;
 import static org.tabletest.parser.ParseResult.success;
 
 /**
@@ -42,13 +35,10 @@ public class StringParser {
      * @return parser that succeeds if input starts with specified character
      */
     public static Parser character(char c) {
-        return character(String.valueOf(c));
-    }
-
-    private static Parser character(String c) {
-        return input -> input.startsWith(c)
-                        ? success(c, input.substring(1))
-                        : failure(input);
+        String consumed = String.valueOf(c);
+        return input -> !input.isEmpty() && input.charAt(0) == c
+                        ? success(consumed, input.substring(1))
+                        : FarthestFailure.at(input, consumed);
     }
 
     /**
@@ -68,14 +58,9 @@ public class StringParser {
      * @return parser that succeeds if input starts with any of the given characters
      */
     public static Parser characters(String anyOf) {
-        return either(eachOf(anyOf));
-    }
-
-    private static Parser[] eachOf(String cs) {
-        return Arrays.stream(cs.split(""))
-            .filter(it -> !it.isEmpty())
-            .map(StringParser::character)
-            .toArray(Parser[]::new);
+        return input -> !input.isEmpty() && anyOf.indexOf(input.charAt(0)) >= 0
+                        ? success(String.valueOf(input.charAt(0)), input.substring(1))
+                        : FarthestFailure.at(input, null);
     }
 
     /**
@@ -85,7 +70,9 @@ public class StringParser {
      * @return parser that succeeds if input starts with a character not among the given characters
      */
     public static Parser characterExcept(String noneOf) {
-        return characterExcept(noneOf.toCharArray());
+        return input -> !input.isEmpty() && noneOf.indexOf(input.charAt(0)) < 0
+                        ? success(String.valueOf(input.charAt(0)), input.substring(1))
+                        : FarthestFailure.at(input, null);
     }
 
     /**
@@ -95,13 +82,7 @@ public class StringParser {
      * @return parser that succeeds if input starts with a character not among the given characters
      */
     public static Parser characterExcept(char... noneOf) {
-        return input -> {
-            ParseResult result = characters(noneOf).parse(input);
-            if (result instanceof Success) return failure(input);
-            return input.isEmpty()
-                ? failure(input)
-                : success(String.valueOf(input.charAt(0)), input.substring(1));
-        };
+        return characterExcept(new String(noneOf));
     }
 
     /**
@@ -114,6 +95,14 @@ public class StringParser {
         return sequence(eachOf(str));
     }
 
+    private static Parser[] eachOf(String cs) {
+        Parser[] parsers = new Parser[cs.length()];
+        for (int i = 0; i < cs.length(); i++) {
+            parsers[i] = character(cs.charAt(i));
+        }
+        return parsers;
+    }
+
     /**
      * Creates a parser matching one or more whitespace character, including space, tab,
      * newline, carriage return, or form feed.
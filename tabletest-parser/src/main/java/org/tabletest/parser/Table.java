@@ -28,12 +28,18 @@ import static java.util.stream.Collectors.toList;
 public class Table {
     private final Row header;
     private final List<Row> rows;
+    private volatile HeaderIndex headerIndex;
 
     public Table(Row header, List<Row> rows) {
         this.header = requireNonNull(header, "Header row cannot be null");
         this.rows = requireNonNull(rows, "Data rows cannot be null");
     }
 
+    private Table(Row header, List<Row> rows, HeaderIndex headerIndex) {
+        this(header, rows);
+        this.headerIndex = headerIndex;
+    }
+
     /**
      * Creates a table with the provided rows. First row expected to be the header,
      * remaining rows expected to be the data.
@@ -115,7 +121,19 @@ public class Table {
      * @throws TableTestParseException if a header cell is blank
      */
     public List<String> headers() {
-        return header.mapIndexed(Table::requireHeaderValue).collect(toList());
+        return headerIndex().names();
+    }
+
+    /**
+     * Validates the header cells and builds the header lookup on first use.
+     */
+    HeaderIndex headerIndex() {
+        HeaderIndex index = headerIndex;
+        if (index == null) {
+            index = HeaderIndex.of(header.mapIndexed(Table::requireHeaderValue).collect(toList()));
+            headerIndex = index;
+        }
+        return index;
     }
 
     private static String requireHeaderValue(Integer index, Object value) {
@@ -136,13 +154,51 @@ public class Table {
         return headers().get(index);
     }
 
+    /**
+     * Streams the values of one column of the data rows, in row order, without reading the other columns.
+     * Where a header occurs more than once, the first column with that header is streamed.
+     *
+     * @param header header of the column
+     * @return stream of the column's values
+     * @throws IllegalArgumentException if the table has no column with the header
+     */
+    public Stream<Object> column(String header) {
+        int index = headerIndex().indexOf(header);
+        if (index < 0) {
+            throw new IllegalArgumentException("No column with header `" + header + "` in " + headers());
+        }
+        return rows.stream().map(row -> row.value(index));
+    }
+
+    /**
+     * Streams the values of one column of the data rows, cast to the given type.
+     *
+     * @param <T>    value type
+     * @param header header of the column
+     * @param type   expected type of the values, such as {@code String.class}, {@code List.class}, or {@code Map.class}
+     * @return stream of the column's values
+     * @throws IllegalArgumentException if the table has no column with the header
+     * @throws ClassCastException       when a value is reached that is not of the given type
+     */
+    public <T> Stream<T> column(String header, Class<T> type) {
+        return column(header).map(type::cast);
+    }
+
+    /**
+     * Returns a table whose data rows carry the header values, sharing one header lookup between them
+     * so that {@link Row#value(String)} is a constant-time lookup.
+     *
+     * @return table with headers in rows
+     * @throws TableTestParseException if a header cell is blank
+     */
     public Table withHeadersInRows() {
-        List<String> hdrs = this.headers();
+        HeaderIndex index = headerIndex();
         return new Table(
             header,
             rows.stream()
-                .map(row -> row.withHeaders(hdrs))
-                .collect(toList())
+                .map(row -> row.withHeaders(index))
+                .collect(toList()),
+            index
         );
     }
 
@@ -15,22 +15,20 @@
  */
 package org.tabletest.parser;
 
-import java.util.AbstractMap;
-import java.util.Arrays;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 
-import static java.util.stream.Collectors.toList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.joining;
 
 /**
  * Parser for converting TableTest format text into Table object.
  */
 public class TableParser {
-    private static final String ROW_SEPARATOR = "\\n";
+    private static final Object INCOMPLETE = new Object();
 
     private TableParser() {
     }
@@ -49,6 +47,9 @@ public class TableParser {
 
     /**
      * Parses input string in TableTest format into a Table representation.
+     * <p>
+     * Values are built in their final form while the row is parsed, with quotes kept or unwrapped as
+     * requested. Lists, sets and maps in the table are unmodifiable, and keep the order of their elements.
      *
      * @param input      string to parse
      * @param keepQuotes if true, preserves original quotes in string values; if false, unwraps quotes
@@ -57,63 +58,435 @@ public class TableParser {
      * @throws TableTestParseException if input contains no table rows
      */
     public static Table parse(String input, boolean keepQuotes) {
-        List<Row> rows = Arrays.stream(input.split(ROW_SEPARATOR))
-            .filter(it -> !it.trim().isEmpty())
-            .map(line -> parseRow(line, keepQuotes))
-            .filter(Objects::nonNull)
-            .collect(toList());
+        return parseLines(TableSource.of(input), keepQuotes, null);
+    }
+
+    /**
+     * Parses the lines of the given source in TableTest format into a Table representation.
+     * String values are unwrapped from their quotes.
+     *
+     * @param source lines to parse
+     * @return Table with parsed rows (first valid row as header)
+     * @throws NullPointerException    if source is null
+     * @throws TableTestParseException if the source contains no table rows
+     * @throws UncheckedIOException    if reading the source fails
+     */
+    public static Table parse(TableSource source) {
+        return parse(source, false);
+    }
+
+    /**
+     * Parses the lines of the given source in TableTest format into a Table representation.
+     * <p>
+     * Lines are parsed as the source hands them over, without being joined into one string
+     * first. Line numbers in parse errors count the lines of the source.
+     *
+     * @param source     lines to parse
+     * @param keepQuotes if true, preserves original quotes in string values; if false, unwraps quotes
+     * @return Table with parsed rows (first valid row as header)
+     * @throws NullPointerException    if source is null
+     * @throws TableTestParseException if the source contains no table rows
+     * @throws UncheckedIOException    if reading the source fails
+     */
+    public static Table parse(TableSource source, boolean keepQuotes) {
+        return parseLines(source, keepQuotes, null);
+    }
+
+    /**
+     * Parses input string in TableTest format into a Table representation, looking up and storing
+     * rows and list, set and map cells in the given cache.
+     * <p>
+     * The table is the same as without the cache, except that its lists, sets and maps may be
+     * shared with other rows.
+     *
+     * @param input      string to parse
+     * @param keepQuotes if true, preserves original quotes in string values; if false, unwraps quotes
+     * @param cache      cache of parsed rows and cells
+     * @return Table with parsed rows (first valid row as header)
+     * @throws NullPointerException    if input or cache is null
+     * @throws TableTestParseException if input contains no table rows
+     */
+    public static Table parse(String input, boolean keepQuotes, ParseCache cache) {
+        return parseLines(TableSource.of(input), keepQuotes, Objects.requireNonNull(cache, "cache"));
+    }
+
+    /**
+     * Parses input string in TableTest format into a Table representation, leaving list, set and
+     * map cells to be parsed when first read.
+     * String values are unwrapped from their quotes.
+     * <p>
+     * See {@link #parseLazily(String, boolean)}.
+     *
+     * @param input string to parse
+     * @return Table with parsed rows (first valid row as header)
+     * @throws NullPointerException    if input is null
+     * @throws TableTestParseException if input contains no table rows
+     */
+    public static Table parseLazily(String input) {
+        return parseLazily(input, false);
+    }
+
+    /**
+     * Parses input string in TableTest format into a Table representation, leaving list, set and
+     * map cells to be parsed when first read.
+     * <p>
+     * Each line is first split into cells by a single scan that follows quotes and brackets, so
+     * the shape of the table is known at once while the nested value grammar runs only for the
+     * cells actually read. A list, set or map cell that fails to parse throws
+     * {@link TableTestParseException}, with the same message as from {@link #parse(String, boolean)},
+     * when the cell is read rather than when the table is parsed. Lines whose cells cannot be told
+     * apart by the scan are parsed in full at once.
+     * <p>
+     * Rows are unmodifiable and safe to read from several threads.
+     *
+     * @param input      string to parse
+     * @param keepQuotes if true, preserves original quotes in string values; if false, unwraps quotes
+     * @return Table with parsed rows (first valid row as header)
+     * @throws NullPointerException    if input is null
+     * @throws TableTestParseException if input contains no table rows
+     */
+    public static Table parseLazily(String input, boolean keepQuotes) {
+        return parseLazily(TableSource.of(input), keepQuotes);
+    }
+
+    /**
+     * Parses the lines of the given source in TableTest format into a Table representation, leaving
+     * list, set and map cells to be parsed when first read.
+     * String values are unwrapped from their quotes.
+     * <p>
+     * See {@link #parseLazily(String, boolean)}.
+     *
+     * @param source lines to parse
+     * @return Table with parsed rows (first valid row as header)
+     * @throws NullPointerException    if source is null
+     * @throws TableTestParseException if the source contains no table rows
+     * @throws UncheckedIOException    if reading the source fails
+     */
+    public static Table parseLazily(TableSource source) {
+        return parseLazily(source, false);
+    }
+
+    /**
+     * Parses the lines of the given source in TableTest format into a Table representation, leaving
+     * list, set and map cells to be parsed when first read.
+     * <p>
+     * See {@link #parseLazily(String, boolean)}. Line numbers in parse errors count the lines of the source.
+     *
+     * @param source     lines to parse
+     * @param keepQuotes if true, preserves original quotes in string values; if false, unwraps quotes
+     * @return Table with parsed rows (first valid row as header)
+     * @throws NullPointerException    if source is null
+     * @throws TableTestParseException if the source contains no table rows
+     * @throws UncheckedIOException    if reading the source fails
+     */
+    public static Table parseLazily(TableSource source, boolean keepQuotes) {
+        List<Row> rows = new ArrayList<>();
+        source.forEachLine((line, lineNumber) -> addRow(rows, splitLine(line, lineNumber, keepQuotes)));
+        return tableOf(rows);
+    }
+
+    private static Table parseLines(TableSource source, boolean keepQuotes, ParseCache cache) {
+        List<Row> rows = new ArrayList<>();
+        source.forEachLine((line, lineNumber) -> addRow(rows, parseLine(line, lineNumber, keepQuotes, cache)));
+        return tableOf(rows);
+    }
+
+    private static void addRow(List<Row> rows, Row row) {
+        if (row != null) rows.add(row);
+    }
+
+    private static Table tableOf(List<Row> rows) {
         if (rows.isEmpty()) {
-            throw new TableTestParseException(
-                "Table has no rows: input was empty or contained only blank lines and comments");
+            throw noRows();
         }
         return new Table(rows).withHeadersInRows();
     }
 
-    private static Row parseRow(String line, boolean keepQuotes) {
-        ParseResult parsedRow = RowParser.parse(line);
+    /**
+     * Checks that input in TableTest format is well-formed, without building the values of its rows.
+     * <p>
+     * The header row is parsed and its cells checked, as by {@link Table#headers()}. Each other line
+     * is scanned once, following quotes and brackets, to count its cells, so the data rows of a
+     * well-formed table are checked in linear time without allocating. Every row must have as many
+     * cells as the header row. A line the scan cannot vouch for, such as one with an unbalanced quote
+     * or bracket, is parsed in full and fails as it would in {@link #parse(String)}.
+     * <p>
+     * Values within list, set and map cells are not checked; a duplicate map key, for example,
+     * passes validation but fails parsing.
+     *
+     * @param input string to check
+     * @throws NullPointerException    if input is null
+     * @throws TableTestParseException if input contains no table rows, a row fails to parse, a header
+     *                                 cell is blank, or a row has a different number of cells than the header row
+     */
+    public static void validate(String input) {
+        RowWidthCheck check = new RowWidthCheck();
+        int lineNumber = 0;
+        for (int start = 0; start <= input.length(); start++) {
+            int end = start;
+            while (end < input.length() && input.charAt(end) != '\n') end++;
+            check.line(input, start, end, ++lineNumber);
+            start = end;
+        }
+        check.requireRows();
+    }
+
+    /**
+     * Checks that the lines of the given source are well-formed, without building the values of its rows.
+     * <p>
+     * See {@link #validate(String)}.
+     *
+     * @param source lines to check
+     * @throws NullPointerException    if source is null
+     * @throws TableTestParseException if the source contains no table rows, a row fails to parse, a header
+     *                                 cell is blank, or a row has a different number of cells than the header row
+     * @throws UncheckedIOException    if reading the source fails
+     */
+    public static void validate(TableSource source) {
+        RowWidthCheck check = new RowWidthCheck();
+        source.forEachLine((line, lineNumber) -> check.line(line, 0, line.length(), lineNumber));
+        check.requireRows();
+    }
+
+    /**
+     * Checks each row against the width of the header row, the first row found.
+     */
+    private static final class RowWidthCheck {
+        private int columnCount;
+
+        void line(String input, int start, int end, int lineNumber) {
+            if (columnCount == 0) {
+                columnCount = headerWidth(input.substring(start, end), lineNumber);
+                return;
+            }
+            int cellCount = cellCount(input, start, end, lineNumber);
+            if (cellCount > 0 && cellCount != columnCount) {
+                throw rowWidthMismatch(input.substring(start, end), lineNumber, cellCount, columnCount);
+            }
+        }
+
+        void requireRows() {
+            if (columnCount == 0) {
+                throw noRows();
+            }
+        }
+    }
+
+    /**
+     * @return the number of columns of the header row on the line, or 0 if the line is blank or a comment
+     */
+    private static int headerWidth(String line, int lineNumber) {
+        Row header = parseLine(line, lineNumber, false);
+        if (header == null) return 0;
+        new Table(header, emptyList()).headers();
+        return header.valueCount();
+    }
+
+    /**
+     * @return the number of cells of the row on the line, or 0 if the line is blank or a comment
+     */
+    private static int cellCount(String input, int start, int end, int lineNumber) {
+        if (isBlank(input, start, end)) return 0;
+        int cellCount = CellSplitter.count(input, start, end);
+        if (cellCount != CellSplitter.UNCERTAIN) return cellCount;
+        Row row = parseLine(input.substring(start, end), lineNumber, false);
+        return row == null ? 0 : row.valueCount();
+    }
+
+    private static boolean isBlank(String input, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (input.charAt(i) > ' ') return false;
+        }
+        return true;
+    }
+
+    /**
+     * Parses TableTest format read from the given reader one line at a time.
+     * String values are unwrapped from their quotes.
+     * <p>
+     * See {@link #stream(Reader, boolean)}.
+     *
+     * @param reader source of the table
+     * @return the table with its header read and its data rows still to be read
+     * @throws TableTestParseException if the input contains no table rows or the header row fails to parse
+     * @throws UncheckedIOException    if reading fails
+     */
+    public static TableStream stream(Reader reader) {
+        return stream(reader, false);
+    }
+
+    /**
+     * Parses TableTest format read from the given reader one line at a time.
+     * <p>
+     * The header row is read and parsed immediately. Data rows are read and parsed as they are
+     * consumed, so memory use does not grow with the size of the input. Parse errors are the same
+     * as for {@link #parse(String, boolean)}, including line numbers, but are thrown when the
+     * offending row is reached. Closing the returned table closes the reader.
+     *
+     * @param reader     source of the table
+     * @param keepQuotes if true, preserves original quotes in string values; if false, unwraps quotes
+     * @return the table with its header read and its data rows still to be read
+     * @throws TableTestParseException if the input contains no table rows or the header row fails to parse
+     * @throws UncheckedIOException    if reading fails
+     */
+    public static TableStream stream(Reader reader, boolean keepQuotes) {
+        return new TableStream(reader, keepQuotes, null);
+    }
+
+    /**
+     * Parses TableTest format read from the given reader one line at a time, looking up and storing
+     * rows and list, set and map cells in the given cache.
+     * <p>
+     * See {@link #stream(Reader, boolean)} and {@link #parse(String, boolean, ParseCache)}.
+     *
+     * @param reader     source of the table
+     * @param keepQuotes if true, preserves original quotes in string values; if false, unwraps quotes
+     * @param cache      cache of parsed rows and cells
+     * @return the table with its header read and its data rows still to be read
+     * @throws NullPointerException    if cache is null
+     * @throws TableTestParseException if the input contains no table rows or the header row fails to parse
+     * @throws UncheckedIOException    if reading fails
+     */
+    public static TableStream stream(Reader reader, boolean keepQuotes, ParseCache cache) {
+        return new TableStream(reader, keepQuotes, Objects.requireNonNull(cache, "cache"));
+    }
+
+    /**
+     * Parses a line of the input.
+     *
+     * @param line       line to parse
+     * @param lineNumber one-based position of the line in the input
+     * @param keepQuotes whether to preserve original quotes in string values
+     * @return the parsed row, or null if the line is blank or a comment
+     * @throws TableTestParseException if the line fails to parse
+     */
+    static Row parseLine(String line, int lineNumber, boolean keepQuotes) {
+        if (line.trim().isEmpty()) return null;
+        ParseResult parsedRow = RowParser.parse(line, keepQuotes);
         if (parsedRow.isIncomplete()) {
-            throw new TableTestParseException("Failed to parse `" + parsedRow.rest() + "` in row `" + line + "`");
+            throw incompleteRow(line, lineNumber);
+        }
+        List<Object> values = parsedRow.captures();
+        return values.isEmpty() ? null : Row.sharing(values);
+    }
+
+    /**
+     * Parses a line of the input, through the cache if there is one.
+     *
+     * @param cache cache of parsed rows and cells, or null to parse without
+     * @see #parseLine(String, int, boolean)
+     */
+    static Row parseLine(String line, int lineNumber, boolean keepQuotes, ParseCache cache) {
+        if (cache == null) return parseLine(line, lineNumber, keepQuotes);
+        if (line.trim().isEmpty()) return null;
+        return cache.line(line, keepQuotes, () -> parseCells(line, lineNumber, keepQuotes, cache));
+    }
+
+    /**
+     * Parses a line one cell at a time, so that list, set and map cells can be looked up in the cache.
+     * Falls back to parsing the whole line, which also reports any error, where cells cannot be
+     * told apart with certainty or a cell does not parse on its own.
+     */
+    private static Row parseCells(String line, int lineNumber, boolean keepQuotes, ParseCache cache) {
+        List<String> cells = CellSplitter.split(line);
+        if (cells == null) return parseLine(line, lineNumber, keepQuotes);
+        List<Object> values = new ArrayList<>(cells.size());
+        for (String cell : cells) {
+            String text = cell.trim();
+            Object value = isBracketed(text)
+                ? cache.cell(text, keepQuotes, () -> parseCell(text, keepQuotes))
+                : scalarValue(text, keepQuotes);
+            if (value == INCOMPLETE) return parseLine(line, lineNumber, keepQuotes);
+            values.add(value);
         }
-        List<Object> values = parsedRow.captures().stream()
-            .map(v -> unwrapValue(v, keepQuotes))
-            .collect(toList());
-        return values.isEmpty() ? null : new Row(values);
+        return new Row(values);
     }
 
-    private static Object unwrapValue(Object value, boolean keepQuotes) {
-        if (value == null) return null;
-        if (value instanceof StringValue) {
-            StringValue sv = (StringValue) value;
-            return keepQuotes ? sv.withQuotes() : sv.value();
+    /**
+     * Splits a line into cells, leaving list, set and map cells to be parsed when first read.
+     * Falls back to parsing the whole line where cells cannot be told apart with certainty.
+     */
+    private static Row splitLine(String line, int lineNumber, boolean keepQuotes) {
+        if (line.trim().isEmpty()) return null;
+        List<String> cells = CellSplitter.split(line);
+        if (cells == null) return parseLine(line, lineNumber, keepQuotes);
+        Object[] values = new Object[cells.size()];
+        for (int i = 0; i < values.length; i++) {
+            String text = cells.get(i).trim();
+            values[i] = isBracketed(text) ? new LazyRowValues.Unparsed(text) : scalarValue(text, keepQuotes);
         }
-        if (value instanceof List) return unwrapList((List<?>) value, keepQuotes);
-        if (value instanceof Set) return unwrapSet((Set<?>) value, keepQuotes);
-        if (value instanceof Map) return unwrapMap((Map<?, ?>) value, keepQuotes);
-        return value;
+        return Row.sharing(new LazyRowValues(line, lineNumber, keepQuotes, values));
     }
 
-    private static List<Object> unwrapList(List<?> list, boolean keepQuotes) {
-        return list.stream().map(v -> unwrapValue(v, keepQuotes)).collect(toList());
+    /**
+     * Parses a list, set or map cell of a lazily parsed row, reporting a failure as parsing the
+     * whole line would.
+     */
+    static Object parseLazyCell(String cell, int index, String line, int lineNumber, boolean keepQuotes) {
+        Object value = parseCell(cell, keepQuotes);
+        return value != INCOMPLETE ? value : parseLine(line, lineNumber, keepQuotes).value(index);
     }
 
-    private static LinkedHashSet<Object> unwrapSet(Set<?> set, boolean keepQuotes) {
-        return set.stream()
-            .map(v -> unwrapValue(v, keepQuotes))
-            .collect(LinkedHashSet::new, Set::add, Set::addAll);
+    private static boolean isBracketed(String cell) {
+        return cell.startsWith("[") || cell.startsWith("{");
     }
 
-    private static LinkedHashMap<Object, Object> unwrapMap(Map<?, ?> map, boolean keepQuotes) {
-        return map.entrySet().stream()
-            .map(e -> unwrapEntry(e, keepQuotes))
-            .collect(LinkedHashMap::new, TableParser::putEntry, Map::putAll);
+    /**
+     * Reads the value of a scalar cell split off by {@link CellSplitter}, which has made sure that
+     * a quoted cell holds nothing but the quoted value.
+     */
+    private static Object scalarValue(String cell, boolean keepQuotes) {
+        if (cell.isEmpty()) return null;
+        char first = cell.charAt(0);
+        if (first != '\'' && first != '"') return cell;
+        return keepQuotes ? cell : cell.substring(1, cell.length() - 1);
     }
 
-    private static Map.Entry<Object, Object> unwrapEntry(Map.Entry<?, ?> entry, boolean keepQuotes) {
-        return new AbstractMap.SimpleEntry<>(unwrapValue(entry.getKey(), keepQuotes), unwrapValue(entry.getValue(), keepQuotes));
+    private static Object parseCell(String cell, boolean keepQuotes) {
+        ParseResult parsedCell = RowParser.parseCell(cell, keepQuotes);
+        if (parsedCell.isIncomplete() || parsedCell.captures().size() != 1) return INCOMPLETE;
+        return parsedCell.captures().get(0);
+    }
+
+    private static TableTestParseException rowWidthMismatch(String line, int lineNumber, int cellCount, int columnCount) {
+        return new TableTestParseException(
+            "Row `" + line.trim() + "` on line " + lineNumber + " has " + cellCount
+                + (cellCount == 1 ? " cell" : " cells") + " but the header row has " + columnCount
+                + (columnCount == 1 ? " column" : " columns"),
+            lineNumber,
+            0,
+            emptyList()
+        );
+    }
+
+    static TableTestParseException noRows() {
+        return new TableTestParseException(
+            "Table has no rows: input was empty or contained only blank lines and comments");
+    }
+
+    /**
+     * Describes where parsing of a row got stuck, by parsing it again while tracking the farthest failure.
+     */
+    private static TableTestParseException incompleteRow(String line, int lineNumber) {
+        FarthestFailure failure = FarthestFailure.track(RowParser::parse, line);
+        int column = failure.column(line);
+        List<String> expected = failure.expected();
+        String stuckAt = line.substring(column - 1);
+        return new TableTestParseException(
+            (stuckAt.isEmpty()
+                ? "Unexpected end of input in row `" + line + "`"
+                : "Failed to parse `" + stuckAt + "` in row `" + line + "`")
+            + " on line " + lineNumber + " at column " + column + describeExpected(expected),
+            lineNumber,
+            column,
+            expected
+        );
     }
 
-    private static Object putEntry(LinkedHashMap<Object, Object> m, Map.Entry<Object, Object> e) {
-        return m.put(e.getKey(), e.getValue());
+    private static String describeExpected(List<String> expected) {
+        if (expected.isEmpty()) return "";
+        String tokens = expected.stream().map(it -> "`" + it + "`").collect(joining(", "));
+        return expected.size() == 1 ? ", expected " + tokens : ", expected one of " + tokens;
     }
 
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.parser;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * The lines of a table in TableTest format, handed to the parser one at a time.
+ * <p>
+ * Sources split their input into lines at {@code \n} only, as {@link TableParser#parse(String)}
+ * does; a carriage return before it is whitespace to the parser. Lines are handed over as they
+ * are found, so a table given as several strings, or read from a file, is never joined into a
+ * single string to be split again.
+ * <p>
+ * Sources of strings, files and resources can be read any number of times. A source of a
+ * {@link Reader} can be read once.
+ *
+ * @see TableParser#parse(TableSource, boolean)
+ * @see TableParser#validate(TableSource)
+ */
+@FunctionalInterface
+public interface TableSource {
+
+    /**
+     * Reads the table, handing each line to the given action.
+     *
+     * @param action receives each line, without its line terminator, and its one-based line number
+     * @throws UncheckedIOException if reading fails
+     */
+    void forEachLine(ObjIntConsumer<String> action);
+
+    /**
+     * @param text the table
+     * @return a source of the lines of the text
+     */
+    static TableSource of(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        return action -> Lines.forEach(text, 1, action);
+    }
+
+    /**
+     * Creates a source of a table given as consecutive strings, such as the elements of
+     * {@code @TableTest.value()}. Each string holds one or more lines and ends a line.
+     *
+     * @param lines the table as consecutive strings
+     * @return a source of the lines of the strings, numbered as if they were joined with {@code \n}
+     */
+    static TableSource of(String... lines) {
+        Objects.requireNonNull(lines, "lines");
+        return action -> {
+            int lineNumber = 1;
+            for (String text : lines) {
+                lineNumber = Lines.forEach(text, lineNumber, action);
+            }
+        };
+    }
+
+    /**
+     * Creates a source that reads the table from a reader, closing it when read.
+     *
+     * @param reader source of the table
+     * @return a source of the lines read, which can be read once
+     */
+    static TableSource of(Reader reader) {
+        Objects.requireNonNull(reader, "reader");
+        return action -> {
+            try (Reader closing = reader) {
+                Lines.forEach(closing, action);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    /**
+     * @param path    file holding the table
+     * @param charset encoding of the file
+     * @return a source of the lines of the file, read each time the source is read
+     */
+    static TableSource of(Path path, Charset charset) {
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(charset, "charset");
+        return action -> {
+            try (Reader reader = Files.newBufferedReader(path, charset)) {
+                Lines.forEach(reader, action);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    /**
+     * Creates a source of a classpath resource, found as by {@link Class#getResource(String)}.
+     *
+     * @param anchor  class the resource name is resolved against
+     * @param name    name of the resource holding the table
+     * @param charset encoding of the resource
+     * @return a source of the lines of the resource, read each time the source is read
+     * @throws IllegalArgumentException if there is no such resource
+     */
+    static TableSource ofResource(Class<?> anchor, String name, Charset charset) {
+        Objects.requireNonNull(charset, "charset");
+        URL resource = anchor.getResource(name);
+        if (resource == null) {
+            throw new IllegalArgumentException("Resource `" + name + "` not found relative to " + anchor.getName());
+        }
+        return action -> {
+            try (Reader reader = new InputStreamReader(resource.openStream(), charset)) {
+                Lines.forEach(reader, action);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
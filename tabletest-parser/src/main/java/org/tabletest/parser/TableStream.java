@@ -0,0 +1,203 @@
+/*
+ * Copyright 2025-present Nils Christian Haugen
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tabletest.parser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * A table read from a {@link Reader} one line at a time.
+ * <p>
+ * The header row is parsed when the table is created. Data rows are read and parsed as they are
+ * consumed, through {@link #iterator()} or {@link #rows()}, either of which may be used once.
+ * Rows carry the header values, as for {@link Table#withHeadersInRows()}.
+ * <p>
+ * Closing the table closes the underlying reader. If the header row cannot be read or parsed,
+ * the reader is closed before the failure is thrown.
+ *
+ * @see TableParser#stream(Reader, boolean)
+ */
+public class TableStream implements Iterable<Row>, AutoCloseable {
+    private final BufferedReader reader;
+    private final boolean keepQuotes;
+    private final ParseCache cache;
+    private final Row header;
+    private final HeaderIndex headers;
+    private final StringBuilder line = new StringBuilder();
+    private int lineNumber;
+    private boolean consumed;
+
+    TableStream(Reader reader, boolean keepQuotes, ParseCache cache) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        this.keepQuotes = keepQuotes;
+        this.cache = cache;
+        try {
+            Row firstRow = nextRow();
+            if (firstRow == null) {
+                throw TableParser.noRows();
+            }
+            this.header = firstRow;
+            this.headers = new Table(firstRow, emptyList()).headerIndex();
+        } catch (RuntimeException failure) {
+            closeAfter(failure);
+            throw failure;
+        }
+    }
+
+    /**
+     * Closes the reader of a table that could not be created, which the caller never gets to close.
+     */
+    private void closeAfter(RuntimeException failure) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * @return the header row
+     */
+    public Row header() {
+        return header;
+    }
+
+    /**
+     * @return the header values
+     * @see Table#headers()
+     */
+    public List<String> headers() {
+        return headers.names();
+    }
+
+    /**
+     * @return the number of columns based on the header row
+     */
+    public int columnCount() {
+        return header.valueCount();
+    }
+
+    /**
+     * Returns an iterator reading and parsing the data rows as they are requested.
+     *
+     * @return iterator over the data rows
+     * @throws IllegalStateException   if the rows have already been consumed
+     * @throws TableTestParseException from {@code hasNext()} when the next row fails to parse
+     * @throws UncheckedIOException    from {@code hasNext()} when reading fails
+     */
+    @Override
+    public Iterator<Row> iterator() {
+        if (consumed) {
+            throw new IllegalStateException("Rows of a streamed table can only be consumed once");
+        }
+        consumed = true;
+        return new Iterator<Row>() {
+            private Row next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    next = nextRow();
+                }
+                return next != null;
+            }
+
+            @Override
+            public Row next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Row row = next.withHeaders(headers);
+                next = null;
+                return row;
+            }
+        };
+    }
+
+    /**
+     * Returns a sequential stream reading and parsing the data rows as they are consumed.
+     * Closing the stream closes the table.
+     *
+     * @return stream of the data rows
+     * @throws IllegalStateException if the rows have already been consumed
+     */
+    public Stream<Row> rows() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+            )
+            .onClose(this::close);
+    }
+
+    /**
+     * Closes the underlying reader.
+     *
+     * @throws UncheckedIOException if closing fails
+     */
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads lines until one holds a row, skipping blank lines and comments.
+     *
+     * @return the parsed row, or null at the end of input
+     */
+    private Row nextRow() {
+        while (readLine()) {
+            Row row = TableParser.parseLine(line.toString(), lineNumber, keepQuotes, cache);
+            if (row != null) return row;
+        }
+        return null;
+    }
+
+    /**
+     * Reads the next line, split on {@code \n} only, as {@link TableParser#parse(String, boolean)} does.
+     *
+     * @return false at the end of input
+     */
+    private boolean readLine() {
+        line.setLength(0);
+        try {
+            int c = reader.read();
+            if (c < 0) return false;
+            while (c >= 0 && c != '\n') {
+                line.append((char) c);
+                c = reader.read();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        lineNumber++;
+        return true;
+    }
+}
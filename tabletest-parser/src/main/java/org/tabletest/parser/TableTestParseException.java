@@ -15,8 +15,52 @@
  */
 package org.tabletest.parser;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
 public class TableTestParseException extends RuntimeException {
+    private final int line;
+    private final int column;
+    private final List<String> expected;
+
     public TableTestParseException(String message) {
+        this(message, 0, 0, emptyList());
+    }
+
+    /**
+     * @param message  description of the failure
+     * @param line     one-based line number of the row in the input
+     * @param column   one-based column in the row where parsing got stuck
+     * @param expected tokens that would have let parsing continue
+     */
+    public TableTestParseException(String message, int line, int column, List<String> expected) {
         super(message);
+        this.line = line;
+        this.column = column;
+        this.expected = unmodifiableList(new ArrayList<>(expected));
+    }
+
+    /**
+     * @return one-based line number of the failing row in the input, or 0 if the failure is not tied to a row
+     */
+    public int line() {
+        return line;
+    }
+
+    /**
+     * @return one-based column in the row where parsing got stuck, or 0 if the failure is not tied to a column
+     */
+    public int column() {
+        return column;
+    }
+
+    /**
+     * @return tokens that would have let parsing continue at {@link #column()}, if known
+     */
+    public List<String> expected() {
+        return expected;
     }
 }
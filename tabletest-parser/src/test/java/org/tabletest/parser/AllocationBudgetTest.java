@@ -0,0 +1,78 @@
+package org.tabletest.parser;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.tabletest.junit.TableTest;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tabletest.parser.AllocationMeter.allocatedBytes;
+
+/**
+ * Guards against allocation regressions in parsing. Each kind of cell must stay within a budget
+ * of bytes allocated per cell, and the allocation per row and per cell must not grow with the
+ * number of rows or the width of a row, as it would if rows or remaining input were copied
+ * over and over.
+ * <p>
+ * Budgets leave room for differences between JVMs; lower them when parsing gets leaner. The measurements
+ * still depend on the JVM, so these tests are tagged {@code allocation} and run only with {@code -Pallocation}.
+ */
+@Tag("allocation")
+class AllocationBudgetTest {
+
+    private static final int COLUMNS = 4;
+    private static final int ROWS = 500;
+
+    @TableTest("""
+        Scenario      | Cell                     | Bytes per cell?
+        Scalar        | 12345                    | 8_000
+        Quoted scalar | "'a b c'"                | 8_000
+        Empty         | "''"                     | 7_000
+        List          | '[1, 2, 3]'              | 30_000
+        Nested list   | '[[1, 2], [3, 4]]'       | 56_000
+        Map of lists  | '[a: [1, 2], b: [3, 4]]' | 65_000
+        Set           | '{1, 2, 3}'              | 25_000
+        """)
+    void stays_within_budget_per_cell(String cell, long budgetPerCell) {
+        String table = table(cell, COLUMNS, ROWS);
+
+        long bytesPerCell = allocatedBytes(() -> TableParser.parse(table)) / (COLUMNS * ROWS);
+
+        assertTrue(
+            bytesPerCell <= budgetPerCell,
+            "Parsing " + cell + " allocates " + bytesPerCell + " bytes per cell, budget is " + budgetPerCell
+        );
+    }
+
+    @Test
+    void allocates_the_same_per_row_however_many_rows() {
+        String cell = "[a: [1, 2], b: {3, 4}]";
+        long bytesPerRowOfFew = allocatedBytes(() -> TableParser.parse(table(cell, COLUMNS, 500))) / 500;
+        long bytesPerRowOfMany = allocatedBytes(() -> TableParser.parse(table(cell, COLUMNS, 4000))) / 4000;
+
+        assertTrue(
+            bytesPerRowOfMany <= bytesPerRowOfFew * 1.2,
+            "Bytes per row grow from " + bytesPerRowOfFew + " for 500 rows to " + bytesPerRowOfMany + " for 4000 rows"
+        );
+    }
+
+    @Test
+    void allocates_about_the_same_per_cell_however_wide_the_row() {
+        String cell = "[a: [1, 2], b: {3, 4}]";
+        long bytesPerCellOfNarrow = allocatedBytes(() -> TableParser.parse(table(cell, 4, 400))) / (4 * 400);
+        long bytesPerCellOfWide = allocatedBytes(() -> TableParser.parse(table(cell, 64, 25))) / (64 * 25);
+
+        assertTrue(
+            bytesPerCellOfWide <= bytesPerCellOfNarrow * 1.5,
+            "Bytes per cell grow from " + bytesPerCellOfNarrow + " for 4 columns to " + bytesPerCellOfWide + " for 64 columns"
+        );
+    }
+
+    private static String table(String cell, int columns, int rows) {
+        String header = IntStream.range(0, columns).mapToObj(i -> "c" + i).collect(Collectors.joining(" | "));
+        String row = IntStream.range(0, columns).mapToObj(i -> cell).collect(Collectors.joining(" | "));
+        return header + "\n" + IntStream.range(0, rows).mapToObj(i -> row).collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,58 @@
+package org.tabletest.parser;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures the bytes allocated by the current thread, where the JVM supports it.
+ * <p>
+ * The modules are built and released on their own and share no test code, so the same class is
+ * kept in the tests of tabletest-junit. Change both copies together, so that allocation budgets
+ * in the two modules are measured the same way and stay comparable.
+ */
+final class AllocationMeter {
+    private static final int WARM_UP_RUNS = 5;
+    private static final int MEASURED_RUNS = 5;
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Measures the bytes allocated by an action after warming it up, taking the least of several
+     * runs so that allocations by the JIT compiler and other one-off work do not count.
+     * Aborts the calling test if the JVM cannot measure allocations per thread.
+     *
+     * @param action action to measure
+     * @return bytes allocated by one run of the action
+     */
+    static long allocatedBytes(Runnable action) {
+        com.sun.management.ThreadMXBean threads = allocationMeasuringThreads();
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            action.run();
+        }
+        long least = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            action.run();
+            least = Math.min(least, threads.getThreadAllocatedBytes(threadId) - before);
+        }
+        return least;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationMeasuringThreads() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(
+            threads instanceof com.sun.management.ThreadMXBean,
+            "JVM does not support measuring allocated bytes per thread"
+        );
+        com.sun.management.ThreadMXBean measuring = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(measuring.isThreadAllocatedMemorySupported(), "JVM does not support measuring allocated bytes per thread");
+        if (!measuring.isThreadAllocatedMemoryEnabled()) {
+            measuring.setThreadAllocatedMemoryEnabled(true);
+        }
+        return measuring;
+    }
+}
@@ -45,8 +45,8 @@ class CaptureParserTest {
     void unsuccessfully_parsed_quoted_values_are_not_captured() {
         assertAll(
             () -> assertParseSuccess("23", List.of(singleQuoted("1")), captureQuoted(DIGIT, '\'').parse("123")),
-            () -> assertParseFailure("", List.of(), captureQuoted(DIGIT, '\'').parse("")),
-            () -> assertParseFailure("abc", List.of(), captureQuoted(DIGIT, '\'').parse("abc"))
+            () -> assertParseFailure("", captureQuoted(DIGIT, '\''), ""),
+            () -> assertParseFailure("abc", captureQuoted(DIGIT, '\''), "abc")
         );
     }
 
@@ -81,8 +81,8 @@ class CaptureParserTest {
     void unsuccessfully_parsed_unquoted_values_are_not_captured() {
         assertAll(
             () -> assertParseSuccess("23", List.of(unquoted("1")), captureUnquoted(DIGIT).parse("123")),
-            () -> assertParseFailure("", List.of(), captureUnquoted(DIGIT).parse("")),
-            () -> assertParseFailure("abc", List.of(), captureUnquoted(DIGIT).parse("abc"))
+            () -> assertParseFailure("", captureUnquoted(DIGIT), ""),
+            () -> assertParseFailure("abc", captureUnquoted(DIGIT), "abc")
         );
     }
 
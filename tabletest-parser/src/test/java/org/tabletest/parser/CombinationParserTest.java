@@ -13,7 +13,7 @@ import static org.tabletest.parser.CombinationParser.either;
 import static org.tabletest.parser.CombinationParser.optional;
 import static org.tabletest.parser.CombinationParser.sequence;
 import static org.tabletest.parser.CombinationParser.zeroOrMore;
-import static org.tabletest.parser.ParseResult.failure;
+import static org.tabletest.parser.ParseAssertions.assertParseFailure;
 import static org.tabletest.parser.ParseResult.success;
 import static org.tabletest.parser.StringParser.character;
 import static org.tabletest.parser.StringParser.characterExcept;
@@ -33,7 +33,7 @@ class CombinationParserTest {
         assertFalse(aOrB.parse("c").isSuccess());
         assertEquals(success("a", "bc"), aOrB.parse("abc"));
         assertEquals(success("b", "cd"), aOrB.parse("bcd"));
-        assertEquals(failure(""), aOrB.parse(""));
+        assertParseFailure("", aOrB, "");
 
         // Test order of evaluation - first match wins
         Parser orderTest = either(
@@ -65,10 +65,10 @@ class CombinationParserTest {
         // Basic sequence test
         Parser aAndB = sequence(character('a'), character('b'));
         assertEquals(success("ab", "cdef"), aAndB.parse("abcdef"));
-        assertEquals(failure("bcdef"), aAndB.parse("bcdef"));
-        assertEquals(failure("cdef"), aAndB.parse("acdef"));
-        assertEquals(failure("def"), aAndB.parse("adef"));
-        assertEquals(failure(""), aAndB.parse(""));
+        assertParseFailure("bcdef", aAndB, "bcdef");
+        assertParseFailure("cdef", aAndB, "acdef");
+        assertParseFailure("def", aAndB, "adef");
+        assertParseFailure("", aAndB, "");
 
         // Sequence with mixed parser types
         Parser helloWorld = sequence(
@@ -77,7 +77,7 @@ class CombinationParserTest {
             string("world")
         );
         assertEquals(success("hello world", "!"), helloWorld.parse("hello world!"));
-        assertEquals(failure("world"), helloWorld.parse("helloworld"));
+        assertParseFailure("world", helloWorld, "helloworld");
 
         // Empty sequence should succeed
         Parser emptySeq = sequence();
@@ -101,9 +101,9 @@ class CombinationParserTest {
         assertEquals(success("12", ""), atLeastTwoDigits.parse("12"));
         assertEquals(success("12345", ""), atLeastTwoDigits.parse("12345"));
         assertEquals(success("123", "abc"), atLeastTwoDigits.parse("123abc"));
-        assertEquals(failure(""), atLeastTwoDigits.parse(""));
-        assertEquals(failure(""), atLeastTwoDigits.parse("1"));
-        assertEquals(failure("abc"), atLeastTwoDigits.parse("1abc"));
+        assertParseFailure("", atLeastTwoDigits, "");
+        assertParseFailure("", atLeastTwoDigits, "1");
+        assertParseFailure("abc", atLeastTwoDigits, "1abc");
 
         // atLeast(0, ...) should always succeed
         Parser atLeastZeroDigits = atLeast(0, characters("0123456789"));
@@ -120,7 +120,7 @@ class CombinationParserTest {
         );
         assertEquals(success("hello world", ""), words.parse("hello world"));
         assertEquals(success("a b", ""), words.parse("a b"));
-        assertEquals(failure(""), words.parse("word"));
+        assertParseFailure("", words, "word");
     }
 
     @Test
@@ -221,8 +221,8 @@ class CombinationParserTest {
     void shouldHandleEmptyPatterns() {
         // Empty either should fail
         Parser emptyEither = either();
-        assertEquals(failure("abc"), emptyEither.parse("abc"));
-        assertEquals(failure(""), emptyEither.parse(""));
+        assertParseFailure("abc", emptyEither, "abc");
+        assertParseFailure("", emptyEither, "");
 
         // Empty sequence should succeed with empty match
         Parser emptySequence = sequence();
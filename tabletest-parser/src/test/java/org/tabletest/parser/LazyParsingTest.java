@@ -0,0 +1,90 @@
+package org.tabletest.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LazyParsingTest {
+
+    private static final String TABLE = """
+        Scenario           | Value                        | Other
+        // comment | [1, 2]
+        Scalars            | abc                          | 'quoted | pipe'
+        Blank              |                              | ""
+        List               | [1, 2, 3]                    | []
+        Nested             | [[1, 2], {3, [4]}]           | {}
+        Map                | [a: [1], 'b c': {2}, "d": x] | [:]
+        Quote in brackets  | ['a|b', "c]d"]               | {'}'}
+        Bracket in token   | [a[b, c{d]                   | {e[f}
+        Unterminated quote | 'abc                         | "def
+        Trailing separator | a                            |
+        """;
+
+    @Test
+    void parses_the_same_table_as_parsing_eagerly() {
+        assertEquals(TableParser.parse(TABLE), TableParser.parseLazily(TABLE));
+        assertEquals(TableParser.parse(TABLE, true), TableParser.parseLazily(TABLE, true));
+        assertEquals(TableParser.parse(TABLE), TableParser.parseLazily(TableSource.of(TABLE.split("\n"))));
+    }
+
+    @Test
+    void fails_only_when_a_malformed_cell_is_read() {
+        String input = "a | b | c\n1 | [x: 1, x: 2] | {2}";
+        TableTestParseException expected = assertThrows(TableTestParseException.class, () -> TableParser.parse(input));
+
+        Row row = TableParser.parseLazily(input).row(0);
+
+        assertEquals(3, row.valueCount());
+        assertEquals("1", row.value(0));
+        assertEquals(List.of("2"), List.copyOf((Set<?>) row.value(2)));
+        TableTestParseException actual = assertThrows(TableTestParseException.class, () -> row.value(1));
+        assertEquals(expected.getMessage(), actual.getMessage());
+    }
+
+    @Test
+    void reports_a_malformed_map_with_its_line_and_column_when_read() {
+        String input = "a | b\n\n1 | [x: 1, y]";
+        TableTestParseException expected = assertThrows(TableTestParseException.class, () -> TableParser.parse(input));
+        Row row = TableParser.parseLazily(input).row(0);
+
+        TableTestParseException actual = assertThrows(TableTestParseException.class, () -> row.value(1));
+
+        assertEquals(3, actual.line());
+        assertEquals(expected.column(), actual.column());
+        assertEquals(expected.getMessage(), actual.getMessage());
+    }
+
+    @Test
+    void parses_lines_it_cannot_split_at_once() {
+        assertThrows(TableTestParseException.class, () -> TableParser.parseLazily("a | b\n'x' y | z"));
+    }
+
+    @Test
+    void parses_each_cell_once() {
+        Row row = TableParser.parseLazily("a\n[1, 2]").row(0);
+
+        assertSame(row.value(0), row.value(0));
+    }
+
+    @Test
+    void parses_a_cell_once_when_read_from_several_threads() {
+        Row row = TableParser.parseLazily("a\n[1, 2]").row(0);
+
+        List<Object> values = IntStream.range(0, 8).parallel().mapToObj(it -> row.value(0)).toList();
+
+        values.forEach(value -> assertSame(row.value(0), value));
+    }
+
+    @Test
+    void makes_rows_unmodifiable() {
+        List<Object> values = TableParser.parseLazily("a | b\n1 | [2]").row(0).values();
+
+        assertThrows(UnsupportedOperationException.class, () -> values.set(0, "x"));
+    }
+}
@@ -4,14 +4,25 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class ParseAssertions {
     static void assertParseSuccess(String expectedRest, List<Object> expectedCaptures, ParseResult actual) {
         assertParseResult(true, expectedRest, expectedCaptures, actual);
     }
 
-    static void assertParseFailure(String expectedRest, List<Object> expectedCaptures, ParseResult actual) {
-        assertParseResult(false, expectedRest, expectedCaptures, actual);
+    /**
+     * Asserts that the parser fails on the input, getting no further than where the expected rest begins.
+     */
+    static void assertParseFailure(String expectedRest, Parser parser, String input) {
+        assertAll(
+            () -> assertSame(ParseResult.failure(), parser.parse(input), "failure"),
+            () -> assertEquals(
+                expectedRest,
+                input.substring(FarthestFailure.track(parser, input).column(input) - 1),
+                "rest at farthest failure"
+            )
+        );
     }
 
     static void assertParseResult(
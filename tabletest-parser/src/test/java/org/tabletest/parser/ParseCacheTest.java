@@ -0,0 +1,157 @@
+package org.tabletest.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParseCacheTest {
+
+    private static final String TABLE = """
+        Scenario            | Value                        | Other
+        // comment | [1, 2]
+        Scalars             | abc                          | 'quoted | pipe'
+        Blank               |                              | ""
+        List                | [1, 2, 3]                    | []
+        Nested              | [[1, 2], {3, [4]}]           | {}
+        Map                 | [a: [1], 'b c': {2}, "d": x] | [:]
+        Quote in brackets   | ['a|b', "c]d"]               | {'}'}
+        Quote inside token  | [a'b, c"d]                   | x'y
+        Bracket in token    | [a[b, c{d]                   | {e[f}
+        Brace in map key    | [a}b: 1, c{d: 2]             | [x: y]
+        Unterminated quote  | 'abc                         | "def
+        Trailing separator  | a                            |
+        """;
+
+    @Test
+    void parses_the_same_table_as_without_a_cache() {
+        for (boolean keepQuotes : new boolean[]{false, true}) {
+            assertEquals(
+                TableParser.parse(TABLE, keepQuotes),
+                TableParser.parse(TABLE, keepQuotes, ParseCache.bounded(100))
+            );
+        }
+    }
+
+    @Test
+    void fails_on_the_same_rows_as_without_a_cache() {
+        for (String line : Arrays.asList("'a' b | c", "[1, 2 | 3", "[1]\u0001 | x", "[a: 1, a: 2] | x", "{a: b}")) {
+            String table = "h1 | h2\n" + line;
+            TableTestParseException expected = assertThrows(TableTestParseException.class, () -> TableParser.parse(table));
+
+            TableTestParseException actual = assertThrows(
+                TableTestParseException.class,
+                () -> TableParser.parse(table, false, ParseCache.bounded(100))
+            );
+
+            assertEquals(expected.getMessage(), actual.getMessage());
+        }
+    }
+
+    @Test
+    void parses_duplicate_rows_once() {
+        ParseCache cache = ParseCache.bounded(100);
+
+        Table table = TableParser.parse("a | b\n1 | 2\n1 | 2\n\n1 | 2\n3 | 4", false, cache);
+
+        assertEquals(4, table.rowCount());
+        assertSame(table.row(0).values(), table.row(1).values());
+        assertEquals(2, cache.lineHits());
+        assertEquals(3, cache.lineMisses());
+        assertEquals(0.4, cache.lineHitRatio());
+    }
+
+    @Test
+    void parses_repeated_list_set_and_map_cells_once_however_they_are_padded() {
+        ParseCache cache = ParseCache.bounded(100);
+
+        Table table = TableParser.parse("""
+            a         | b        | c
+            1         | [1, 2]   | {x}
+            2         |  [1, 2]  |   {x}
+            [k: v]    | [1, 2]   | [k: v]
+            """, false, cache);
+
+        assertSame(table.row(0).value(1), table.row(1).value(1));
+        assertSame(table.row(0).value(2), table.row(1).value(2));
+        assertSame(table.row(2).value(0), table.row(2).value(2));
+        assertEquals(4, cache.cellHits());
+        assertEquals(3, cache.cellMisses());
+    }
+
+    @Test
+    void keeps_values_parsed_with_and_without_quotes_apart() {
+        ParseCache cache = ParseCache.bounded(100);
+        String input = "a\n['x']";
+
+        assertEquals(List.of("x"), TableParser.parse(input, false, cache).row(0).value(0));
+        assertEquals(List.of("'x'"), TableParser.parse(input, true, cache).row(0).value(0));
+    }
+
+    @Test
+    void evicts_the_least_recently_used_entries_beyond_its_bound() {
+        ParseCache cache = ParseCache.bounded(2);
+
+        TableParser.parse("a\n1\n2\n1\n3\n2", false, cache);
+
+        assertEquals(1, cache.lineHits());
+        assertEquals(5, cache.lineMisses());
+    }
+
+    @Test
+    void makes_shared_values_unmodifiable() {
+        Table table = TableParser.parse("a | b | c\n[1] | {2} | [k: [v]]", false, ParseCache.bounded(10));
+
+        List<?> list = (List<?>) table.row(0).value(0);
+        Map<?, ?> map = (Map<?, ?>) table.row(0).value(2);
+        assertThrows(UnsupportedOperationException.class, list::clear);
+        assertThrows(UnsupportedOperationException.class, ((Set<?>) table.row(0).value(1))::clear);
+        assertThrows(UnsupportedOperationException.class, ((List<?>) map.get("k"))::clear);
+    }
+
+    @Test
+    void streams_through_the_cache() {
+        ParseCache cache = ParseCache.bounded(10);
+        String input = "a | b\n1 | [2]\n1 | [2]\n3 | [2]";
+
+        try (TableStream streamed = TableParser.stream(new StringReader(input), false, cache)) {
+            assertEquals(TableParser.parse(input).rows(), streamed.rows().collect(toList()));
+        }
+        assertEquals(1, cache.lineHits());
+        assertEquals(1, cache.cellHits());
+    }
+
+    @Test
+    void reports_no_hits_before_any_lookup() {
+        ParseCache cache = ParseCache.bounded(1);
+
+        assertEquals(0, cache.lineHitRatio());
+        assertEquals(0, cache.cellHitRatio());
+        assertEquals("ParseCache[lines=0/0 (0%), cells=0/0 (0%)]", cache.toString());
+    }
+
+    @Test
+    void rejects_a_bound_that_is_not_positive() {
+        assertThrows(IllegalArgumentException.class, () -> ParseCache.bounded(0));
+    }
+
+    @Test
+    void splits_only_lines_it_can_split_with_certainty() {
+        assertEquals(Arrays.asList("a ", " [1, 'x|y'] ", " {2}"), CellSplitter.split("a | [1, 'x|y'] | {2}"));
+        assertEquals(Arrays.asList("'a|b' ", ""), CellSplitter.split("'a|b' |"));
+        assertNull(CellSplitter.split("  // comment"));
+        assertNull(CellSplitter.split("[a[b] | c"));
+        assertNull(CellSplitter.split("[a}b: 1] | c"));
+        assertNull(CellSplitter.split("'a' b | c"));
+        assertNull(CellSplitter.split("'abc | d"));
+    }
+}
@@ -12,6 +12,7 @@ import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -35,22 +36,39 @@ class ParseResultTest {
 
     @Test
     void failureIsFailure() {
-        ParseResult result = failure("rest");
+        ParseResult result = failure();
         assertAll(
             () -> assertFalse(result.isSuccess(), "Should not be success"),
             () -> assertTrue(result.isFailure(), "Should be failure"),
-            () -> assertEquals("rest", result.rest()),
+            () -> assertEquals("", result.rest(), "Failure carries no rest"),
             () -> assertEquals(List.of(), result.captures())
         );
     }
 
+    @Test
+    void failureIsSharedSentinel() {
+        assertSame(failure(), failure());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void deprecatedFailureKeepsRestAndValueEquality() {
+        ParseResult result = new ParseResult.Failure("rest");
+        assertAll(
+            () -> assertTrue(result.isFailure(), "Should be failure"),
+            () -> assertEquals("rest", result.rest()),
+            () -> assertEquals(new ParseResult.Failure("rest"), result),
+            () -> assertEquals(failure("rest"), result),
+            () -> assertNotEquals(failure(), result)
+        );
+    }
+
     @Test
     void incompleteness() {
         assertAll(
             () -> assertFalse(success("value", "").isIncomplete(), "Successful result with empty rest is complete"),
             () -> assertTrue(success("value", "rest").isIncomplete(), "Result with rest is incomplete"),
-            () -> assertTrue(failure("rest").isIncomplete(), "Failure result is always incomplete"),
-            () -> assertTrue(failure("").isIncomplete(), "Failure result is always incomplete")
+            () -> assertTrue(failure().isIncomplete(), "Failure result is always incomplete")
         );
     }
 
@@ -59,7 +77,7 @@ class ParseResultTest {
 
         @Test
         void nothingAppendsToFailure() {
-            ParseResult failure = failure("failure");
+            ParseResult failure = failure();
 
             assertSame(
                 failure, failure.append(() -> {
@@ -85,7 +103,7 @@ class ParseResultTest {
         @Test
         void appendingFailureToSuccessIsFailure() {
             ParseResult firstSuccess = success("first", "rest");
-            ParseResult thenFailure = failure("rest");
+            ParseResult thenFailure = failure();
 
             assertSame(thenFailure, firstSuccess.append(() -> thenFailure));
         }
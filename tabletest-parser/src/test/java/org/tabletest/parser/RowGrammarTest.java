@@ -53,15 +53,16 @@ public class RowGrammarTest {
     @Description("""
             Brackets and braces do not protect a pipe — only quotes do. The pipe
             splits the row mid-collection, leaving an unbalanced fragment, and the
-            failure surfaces as a generic parse error naming the whole row rather
-            than the pipe. To keep a pipe inside a collection, quote the element:
-            ['a | b']. Every row below fails with a TableTestParseException.
+            error points at the pipe, naming its column and the tokens that could
+            have continued the collection. To keep a pipe inside a collection,
+            quote the element: ['a | b']. Every row below fails with a
+            TableTestParseException.
             """)
     @TableTest("""
         Scenario                     | Row          | Error message?
-        Unquoted pipe in a list      | "[a | b]"    | "Failed to parse `[a | b]` in row `[a | b]`"
-        Unquoted pipe in a set       | "{a | b}"    | "Failed to parse `{a | b}` in row `{a | b}`"
-        Unquoted pipe in a map value | "[k: a | b]" | "Failed to parse `[k: a | b]` in row `[k: a | b]`"
+        Unquoted pipe in a list      | "[a | b]"    | "Failed to parse `| b]` in row `[a | b]` on line 2 at column 4, expected one of `:`, `,`, `]`"
+        Unquoted pipe in a set       | "{a | b}"    | "Failed to parse `| b}` in row `{a | b}` on line 2 at column 4, expected one of `,`, `}`"
+        Unquoted pipe in a map value | "[k: a | b]" | "Failed to parse `| b]` in row `[k: a | b]` on line 2 at column 7, expected one of `,`, `]`"
         """)
     void shouldRejectUnquotedPipeInsideCollection(String row, String expectedErrorMessage) {
         TableTestParseException actualException = assertThrows(
@@ -6,9 +6,12 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.tabletest.parser.RowParser.mapValue;
 import static org.tabletest.parser.RowParser.parse;
@@ -120,4 +123,75 @@ class RowParserTest {
         // Quoted empty string
         assertEquals(List.of(doubleQuoted(""), singleQuoted("")), row().parse("\"\" | ''").captures());
     }
+
+    @Test
+    void shouldCaptureFinalStringsWhenParsingForTable() {
+        String input = "a | 'b' | [\"c\", d] | {'e', e} | [k: ['v'], \"q\": w]";
+
+        assertEquals(
+            List.of("a", "b", List.of("c", "d"), Set.of("e"), Map.of("k", List.of("v"), "q", "w")),
+            parse(input, false).captures()
+        );
+        assertEquals(
+            List.of("a", "'b'", List.of("\"c\"", "d"), Set.of("'e'", "e"), Map.of("k", List.of("'v'"), "\"q\"", "w")),
+            parse(input, true).captures()
+        );
+    }
+
+    @TableTest("""
+        Map                    | Keep quotes?
+        '[a: 1, "a": 2]'       | false
+        '[a: 1, "a": 2]'       | true
+        "['a': 1, b: 2, a: 3]" | true
+        """)
+    void shouldRejectQuotedAndUnquotedSpellingOfSameKey(String map, boolean keepQuotes) {
+        TableTestParseException exception = assertThrows(
+            TableTestParseException.class,
+            () -> parse("x | " + map, keepQuotes)
+        );
+        assertTrue(exception.getMessage().startsWith("Duplicate key `a` in map"), exception.getMessage());
+    }
+
+    @Test
+    void shouldNotMistakeQuotesInsideQuotedKeyForQuotedKey() {
+        assertEquals(
+            List.of(Map.of("'a'", "1", "a", "2")),
+            parse("[\"'a'\": 1, a: 2]", false).captures()
+        );
+    }
+
+    @Test
+    void shouldCaptureUnmodifiableCollections() {
+        List<Object> captures = parse("[1, [2]] | {3} | [k: v]", false).captures();
+
+        assertThrows(UnsupportedOperationException.class, ((List<?>) captures.get(0))::clear);
+        assertThrows(UnsupportedOperationException.class, ((List<?>) ((List<?>) captures.get(0)).get(1))::clear);
+        assertThrows(UnsupportedOperationException.class, ((Set<?>) captures.get(1))::clear);
+        assertThrows(UnsupportedOperationException.class, ((Map<?, ?>) captures.get(2))::clear);
+    }
+
+    @Test
+    void shouldReportFarthestFailureOfIncompleteRow() {
+        TableTestParseException exception = assertThrows(
+            TableTestParseException.class,
+            () -> TableParser.parse("a | b\n1 | {x, y")
+        );
+
+        assertEquals(2, exception.line());
+        assertEquals(10, exception.column());
+        assertEquals(List.of(",", "}"), exception.expected());
+        assertEquals(
+            "Unexpected end of input in row `1 | {x, y` on line 2 at column 10, expected one of `,`, `}`",
+            exception.getMessage()
+        );
+    }
+
+    @Test
+    void shouldTrackFarthestFailureWhenDiagnosing() {
+        FarthestFailure tracked = FarthestFailure.track(row(), "[a | b]");
+
+        assertEquals(4, tracked.column("[a | b]"));
+        assertEquals(List.of(":", ",", "]"), tracked.expected());
+        assertSame(ParseResult.failure(), mapValue().parse("[a"));
+    }
 }
@@ -0,0 +1,93 @@
+package org.tabletest.parser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TableSourceTest {
+
+    private static final String TABLE = """
+        Name | Skills
+        John | [Java, SQL]
+        Jane | {Python}""";
+
+    @Test
+    void parses_strings_as_if_joined_by_line_breaks() {
+        String[] parts = {"// people\nName | Skills", "John | [Java, SQL]\n", "Jane | {Python}"};
+
+        assertEquals(TableParser.parse(String.join("\n", parts)), TableParser.parse(TableSource.of(parts)));
+        assertEquals(List.of("// people", "Name | Skills", "John | [Java, SQL]", "", "Jane | {Python}"), lines(TableSource.of(parts)));
+    }
+
+    @Test
+    void numbers_lines_across_strings() {
+        TableSource source = TableSource.of("a | b\n1 | 2", "", "3 | [4");
+
+        TableTestParseException exception = assertThrows(TableTestParseException.class, () -> TableParser.parse(source));
+
+        assertEquals(4, exception.line());
+    }
+
+    @Test
+    void parses_a_char_sequence() {
+        assertEquals(TableParser.parse(TABLE), TableParser.parse(TableSource.of(new StringBuilder(TABLE))));
+    }
+
+    @Test
+    void reads_a_reader_once_and_closes_it() {
+        TableSource source = TableSource.of(new StringReader(TABLE));
+
+        assertEquals(TableParser.parse(TABLE), TableParser.parse(source));
+        assertThrows(UncheckedIOException.class, () -> TableParser.parse(source));
+    }
+
+    @Test
+    void reads_a_file_each_time_it_is_parsed(@TempDir Path directory) throws Exception {
+        Path file = Files.write(directory.resolve("people.table"), TABLE.replace("\n", "\r\n").getBytes(StandardCharsets.UTF_8));
+        TableSource source = TableSource.of(file, StandardCharsets.UTF_8);
+
+        assertEquals(TableParser.parse(TABLE), TableParser.parse(source));
+        assertEquals(TableParser.parse(TABLE), TableParser.parse(source));
+    }
+
+    @Test
+    void reads_a_classpath_resource() {
+        TableSource source = TableSource.ofResource(getClass(), "people.table", StandardCharsets.UTF_8);
+
+        assertEquals(TableParser.parse(TABLE), TableParser.parse(source, false));
+    }
+
+    @Test
+    void fails_on_a_missing_resource() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> TableSource.ofResource(getClass(), "missing.table", StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void validates_the_lines_of_a_source() {
+        TableTestParseException exception = assertThrows(
+            TableTestParseException.class,
+            () -> TableParser.validate(TableSource.of("a | b", "1 | 2", "3"))
+        );
+
+        assertEquals("Row `3` on line 3 has 1 cell but the header row has 2 columns", exception.getMessage());
+    }
+
+    private static List<String> lines(TableSource source) {
+        List<String> lines = new ArrayList<>();
+        source.forEachLine((line, lineNumber) -> lines.add(line));
+        return lines;
+    }
+}
@@ -0,0 +1,153 @@
+package org.tabletest.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableStreamTest {
+
+    private static final String TABLE = """
+        // leading comment
+        Name | Skills      | Attributes
+
+        John | [Java, SQL] | [strength: 8]
+        // disabled | [] | [:]
+        Jane | {Python}    | ['a b': "c"]
+        """;
+
+    @Test
+    void streams_the_same_rows_as_parse() {
+        Table table = TableParser.parse(TABLE);
+
+        try (TableStream streamed = TableParser.stream(new StringReader(TABLE))) {
+            assertEquals(table.header(), streamed.header());
+            assertEquals(table.headers(), streamed.headers());
+            assertEquals(table.columnCount(), streamed.columnCount());
+            assertEquals(table.rows(), streamed.rows().collect(toList()));
+        }
+    }
+
+    @Test
+    void keeps_quotes_when_asked_to() {
+        try (TableStream streamed = TableParser.stream(new StringReader(TABLE), true)) {
+            assertEquals(TableParser.parse(TABLE, true).rows(), streamed.rows().collect(toList()));
+        }
+    }
+
+    @Test
+    void reads_only_the_header_until_rows_are_consumed() {
+        CountingReader reader = new CountingReader("a | b\n1 | 2\n3 | 4\n");
+
+        TableStream streamed = TableParser.stream(reader);
+        assertEquals(List.of("a", "b"), streamed.headers());
+        assertEquals("a | b\n".length(), reader.charactersRead);
+
+        Iterator<Row> rows = streamed.iterator();
+        assertEquals(List.of("1", "2"), rows.next().values());
+        assertEquals("a | b\n1 | 2\n".length(), reader.charactersRead);
+    }
+
+    @Test
+    void fails_when_the_failing_row_is_reached_with_its_line_number() {
+        String input = "a | b\n1 | 2\n\n3 | [4\n5 | 6";
+
+        TableTestParseException expected = assertThrows(TableTestParseException.class, () -> TableParser.parse(input));
+
+        Iterator<Row> rows = TableParser.stream(new StringReader(input)).iterator();
+        assertEquals(List.of("1", "2"), rows.next().values());
+        TableTestParseException actual = assertThrows(TableTestParseException.class, rows::hasNext);
+
+        assertEquals(expected.getMessage(), actual.getMessage());
+        assertEquals(4, actual.line());
+        assertEquals(expected.column(), actual.column());
+        assertEquals(expected.expected(), actual.expected());
+    }
+
+    @Test
+    void fails_eagerly_when_there_are_no_rows() {
+        TableTestParseException exception = assertThrows(
+            TableTestParseException.class,
+            () -> TableParser.stream(new StringReader("\n// only a comment\n"))
+        );
+        assertTrue(exception.getMessage().startsWith("Table has no rows"), exception.getMessage());
+    }
+
+    @Test
+    void fails_eagerly_on_a_blank_header_cell() {
+        TableTestParseException exception = assertThrows(
+            TableTestParseException.class,
+            () -> TableParser.stream(new StringReader("a | \"\" | \n1 | 2 | 3"))
+        );
+        assertEquals("Header cell in column 3 is blank", exception.getMessage());
+    }
+
+    @Test
+    void allows_the_rows_to_be_consumed_only_once() {
+        TableStream streamed = TableParser.stream(new StringReader("a\n1"));
+        streamed.rows();
+
+        assertThrows(IllegalStateException.class, streamed::iterator);
+    }
+
+    @Test
+    void closes_the_reader_when_the_row_stream_is_closed() {
+        CountingReader reader = new CountingReader("a\n1");
+
+        try (Stream<Row> rows = TableParser.stream(reader).rows()) {
+            assertEquals(1, rows.count());
+        }
+
+        assertTrue(reader.closed);
+    }
+
+    @Test
+    void closes_the_reader_when_the_header_row_fails() {
+        for (String input : List.of("\n// only a comment\n", "a | \"\" | \n1 | 2 | 3", "a | [b\n1 | 2")) {
+            CountingReader reader = new CountingReader(input);
+
+            assertThrows(TableTestParseException.class, () -> TableParser.stream(reader), input);
+
+            assertTrue(reader.closed, input);
+        }
+    }
+
+    @Test
+    void has_no_rows_after_a_header_only_input() {
+        try (TableStream streamed = TableParser.stream(new StringReader("a | b"))) {
+            assertFalse(streamed.iterator().hasNext());
+        }
+    }
+
+    private static class CountingReader extends Reader {
+        private final StringReader delegate;
+        private int charactersRead;
+        private boolean closed;
+
+        CountingReader(String content) {
+            this.delegate = new StringReader(content);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, Math.min(length, 1));
+            if (read > 0) charactersRead += read;
+            return read;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("Table structure")
@@ -112,6 +114,72 @@ public class TableStructureTest {
         assertEquals(expectedErrorMessage, actualException.getMessage());
     }
 
+    @DisplayName("Cells can be looked up by column header")
+    @Description("""
+            Row.value(header) and Table.column(header) find a column by its
+            header. Where a header occurs more than once, the first column with
+            that header is used.
+            """)
+    @TableTest("""
+        Scenario          | Input                               | Header | Column values?
+        First column      | ["a | b", "1 | 2", "3 | 4"]         | a      | [1, 3]
+        Last column       | ["a | b | c", "1 | 2 | 3"]          | c      | [3]
+        Duplicate headers | ["a | b | a", "1 | 2 | 3"]          | a      | [1]
+        Collection cells  | ["a | b", "[1, 2] | x", "{} | y"]   | a      | [[1, 2], []]
+        """)
+    void shouldLookUpCellsByHeader(List<String> inputLines, String header, List<Object> expectedValues) {
+        Table table = TableParser.parse(String.join("\n", inputLines));
+
+        assertEquals(expectedValues.toString(), table.column(header).toList().toString());
+        assertEquals(
+            expectedValues.toString(),
+            table.withHeadersInRows().rows().stream().map(row -> row.value(header)).toList().toString()
+        );
+    }
+
+    @Test
+    void shouldRejectLookupOfUnknownHeader() {
+        Table table = TableParser.parse("a | b\n1 | 2");
+
+        IllegalArgumentException columnException = assertThrows(
+            IllegalArgumentException.class,
+            () -> table.column("c")
+        );
+        assertEquals("No column with header `c` in [a, b]", columnException.getMessage());
+
+        Row row = table.withHeadersInRows().row(0);
+        assertFalse(row.hasHeader("c"));
+        assertThrows(IllegalArgumentException.class, () -> row.value("c"));
+    }
+
+    @Test
+    void shouldCastLookedUpValuesToRequestedType() {
+        Table table = TableParser.parse("a | b\n[1, 2] | x");
+        Row row = table.withHeadersInRows().row(0);
+
+        assertEquals(List.of("1", "2"), row.value("a", List.class));
+        assertEquals("x", row.value("b", String.class));
+        assertEquals(List.of("x"), table.column("b", String.class).toList());
+        assertThrows(ClassCastException.class, () -> row.value("b", List.class));
+    }
+
+    @Test
+    void shouldKeepHeaderLookupAfterSkippingFirstColumn() {
+        Row row = TableParser.parse("Scenario | a | b\nname | 1 | 2").withHeadersInRows().row(0).skipFirstIf(true);
+
+        assertEquals(List.of("a", "b"), row.headers());
+        assertEquals("2", row.value("b"));
+        assertFalse(row.hasHeader("Scenario"));
+    }
+
+    @Test
+    void shouldShareHeaderLookupBetweenRows() {
+        Table table = TableParser.parse("a | b\n1 | 2\n3 | 4").withHeadersInRows();
+
+        assertSame(table.row(0).headers(), table.row(1).headers());
+        assertSame(table.headers(), table.row(0).headers());
+    }
+
     @Test
     void shouldParseLongCellValuesWithoutStackOverflow() {
         String longValue = "x".repeat(20_000);
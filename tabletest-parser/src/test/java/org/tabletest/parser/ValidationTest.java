@@ -0,0 +1,111 @@
+package org.tabletest.parser;
+
+import org.junit.jupiter.api.Test;
+import org.tabletest.junit.TableTest;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tabletest.parser.AllocationMeter.allocatedBytes;
+
+class ValidationTest {
+
+    private static final String TABLE = """
+        // leading comment
+        Scenario           | Value                        | Other
+
+        Scalars            | abc                          | 'quoted | pipe'
+        Blank              |                              | ""
+        // disabled | [
+        Nested             | [[1, 2], {3, [4]}]           | {}
+        Map                | [a: [1], 'b c': {2}, "d": x] | [:]
+        Quote in brackets  | ['a|b', "c]d"]               | {'}'}
+        Bracket in token   | [a[b, c{d]                   | {e[f}
+        Unterminated quote | 'abc                         | "def
+        Duplicate key      | [a: 1, a: 2]                 | x
+        Trailing separator | a                            |
+        """;
+
+    @Test
+    void accepts_a_well_formed_table() {
+        assertDoesNotThrow(() -> TableParser.validate(TABLE));
+    }
+
+    @TableTest("""
+        Scenario             | Row                    | Cells?
+        Extra cell           | '1 | 2 | 3'            | 3
+        Missing cell         | 1                      | 1
+        Pipe in nested quote | '[a, "|"] | {} | x'    | 3
+        Padded               | '  1 |  2 |  3'        | 3
+        """)
+    void fails_on_a_row_of_another_width_than_the_header(String row, int cells) {
+        TableTestParseException exception = assertThrows(
+            TableTestParseException.class,
+            () -> TableParser.validate("a | b\n\n" + row)
+        );
+
+        assertEquals(3, exception.line());
+        assertEquals(
+            "Row `" + row.trim() + "` on line 3 has " + cells + (cells == 1 ? " cell" : " cells")
+                + " but the header row has 2 columns",
+            exception.getMessage()
+        );
+    }
+
+    @TableTest("""
+        Scenario            | Row
+        Unclosed list       | '1 | [2, 3'
+        Mismatched brackets | '1 | [2, 3}'
+        Text after quote    | "1 | 'a' b"
+        Unclosed nested set | '1 | [{2, 3]'
+        """)
+    void fails_on_a_malformed_row_as_parsing_does(String row) {
+        String input = "a | b\n" + row;
+        TableTestParseException expected = assertThrows(TableTestParseException.class, () -> TableParser.parse(input));
+
+        TableTestParseException actual = assertThrows(TableTestParseException.class, () -> TableParser.validate(input));
+
+        assertEquals(expected.getMessage(), actual.getMessage());
+        assertEquals(expected.line(), actual.line());
+        assertEquals(expected.column(), actual.column());
+    }
+
+    @Test
+    void fails_on_a_blank_header_cell() {
+        TableTestParseException exception = assertThrows(
+            TableTestParseException.class,
+            () -> TableParser.validate("a |  | c\n1 | 2 | 3")
+        );
+
+        assertEquals("Header cell in column 2 is blank", exception.getMessage());
+    }
+
+    @Test
+    void fails_on_a_table_without_rows() {
+        assertThrows(TableTestParseException.class, () -> TableParser.validate(""));
+        assertThrows(TableTestParseException.class, () -> TableParser.validate("\n  \n// only a comment\n"));
+    }
+
+    @Test
+    void allocates_nothing_for_the_data_rows_of_a_well_formed_table() {
+        String row = "x | 'quoted' | [a: [1, 2], b: {3}] | {x, y}";
+        String few = table(row, 10);
+        String many = table(row, 10_000);
+
+        long bytesForFew = allocatedBytes(() -> TableParser.validate(few));
+        long bytesForMany = allocatedBytes(() -> TableParser.validate(many));
+
+        assertTrue(
+            bytesForMany <= bytesForFew + 1_000,
+            "Validating 10000 rows allocates " + bytesForMany + " bytes, 10 rows " + bytesForFew
+        );
+    }
+
+    private static String table(String row, int rows) {
+        return "a | b | c | d\n" + IntStream.range(0, rows).mapToObj(i -> row).collect(Collectors.joining("\n"));
+    }
+}
@@ -49,36 +49,30 @@ public class ValueGrammarTest {
     @Description("""
             Values that do not open a list — quoted brackets, a stray closing
             bracket, a letter before the bracket — capture as plain strings.
+            A malformed list fails at the first character that cannot continue
+            it, counted from the start of the value.
             """)
     @TableTest("""
-        Scenario                       | Input    | Success? | Parsed Type?     | Error Message?
-        Quoted brackets                | '"[]"'   | true     | java.lang.String |
-        Only opening bracket           | '['      | false    |                  | Failed to parse `[`
-        Only closing bracket           | ']'      | true     | java.lang.String |
-        Opening bracket, closing brace | '[a, b}' | false    |                  | Failed to parse `[a, b}`
-        Opening brace, closing bracket | '{a, b]' | false    |                  | Failed to parse `{a, b]`
-        Double opening bracket         | '[[]'    | false    |                  | Failed to parse `[[]`
-        Double closing bracket         | '[]]'    | false    |                  | Failed to parse `]`
-        Unexpected leading character   | 'a[]'    | true     | java.lang.String |
-        Unexpected trailing character  | '[]a'    | false    |                  | Failed to parse `a`
-        Missing element                | '[a,]'   | false    |                  | Failed to parse `[a,]`
+        Scenario                       | Input    | Success? | Parsed Type?     | Error Message?          | Fails at?
+        Quoted brackets                | '"[]"'   | true     | java.lang.String |                         |
+        Only opening bracket           | '['      | false    |                  | Unexpected end of input | 2
+        Only closing bracket           | ']'      | true     | java.lang.String |                         |
+        Opening bracket, closing brace | '[a, b}' | false    |                  | Failed to parse `}`     | 6
+        Opening brace, closing bracket | '{a, b]' | false    |                  | Failed to parse `]`     | 6
+        Double opening bracket         | '[[]'    | false    |                  | Unexpected end of input | 4
+        Double closing bracket         | '[]]'    | false    |                  | Failed to parse `]`     | 3
+        Unexpected leading character   | 'a[]'    | true     | java.lang.String |                         |
+        Unexpected trailing character  | '[]a'    | false    |                  | Failed to parse `a`     | 3
+        Missing element                | '[a,]'   | false    |                  | Failed to parse `]`     | 4
         """)
     void shouldHandleInvalidListSyntax(
         String input,
         boolean expectedSuccess,
         Class expectedType,
-        String expectedErrorMessage
+        String expectedErrorMessage,
+        Integer expectedFailurePosition
     ) {
-        String table = "Scenario | Input\nInvalid | " + input;
-        if (expectedSuccess) {
-            assertInstanceOf(expectedType, TableParser.parse(table).row(0).value(1));
-        } else {
-            TableTestParseException actualException = assertThrows(
-                TableTestParseException.class,
-                () -> TableParser.parse(table)
-            );
-            assertTrue(actualException.getMessage().startsWith(expectedErrorMessage), actualException.getMessage());
-        }
+        assertInvalidValueSyntax(input, expectedSuccess, expectedType, expectedErrorMessage, expectedFailurePosition);
     }
 
     @DisplayName("Sets in {curly braces} keep each distinct value once")
@@ -104,34 +98,26 @@ public class ValueGrammarTest {
     @DisplayName("A value starting with { must be a well-formed set")
     @Description("Values that do not open a set capture as plain strings.")
     @TableTest("""
-        Scenario                       | Input    | Success? | Parsed Type?     | Error Message?
-        Quoted braces                  | '"{}"'   | true     | java.lang.String |
-        Missing closing brace          | '{'      | false    |                  | Failed to parse `{`
-        Missing opening brace          | '}'      | true     | java.lang.String |
-        Opening bracket, closing brace | '[a, b}' | false    |                  | Failed to parse `[a, b}`
-        Opening brace, closing bracket | '{a, b]' | false    |                  | Failed to parse `{a, b]`
-        Double opening brace           | '{{}'    | false    |                  | Failed to parse `{{}`
-        Double closing brace           | '{}}'    | false    |                  | Failed to parse `}`
-        Unexpected leading character   | 'a{}'    | true     | java.lang.String |
-        Unexpected trailing character  | '{}a'    | false    |                  | Failed to parse `a`
-        Missing element                | '{a,}'   | false    |                  | Failed to parse `{a,}`
+        Scenario                       | Input    | Success? | Parsed Type?     | Error Message?          | Fails at?
+        Quoted braces                  | '"{}"'   | true     | java.lang.String |                         |
+        Missing closing brace          | '{'      | false    |                  | Unexpected end of input | 2
+        Missing opening brace          | '}'      | true     | java.lang.String |                         |
+        Opening bracket, closing brace | '[a, b}' | false    |                  | Failed to parse `}`     | 6
+        Opening brace, closing bracket | '{a, b]' | false    |                  | Failed to parse `]`     | 6
+        Double opening brace           | '{{}'    | false    |                  | Unexpected end of input | 4
+        Double closing brace           | '{}}'    | false    |                  | Failed to parse `}`     | 3
+        Unexpected leading character   | 'a{}'    | true     | java.lang.String |                         |
+        Unexpected trailing character  | '{}a'    | false    |                  | Failed to parse `a`     | 3
+        Missing element                | '{a,}'   | false    |                  | Failed to parse `}`     | 4
         """)
     void shouldHandleInvalidSetSyntax(
         String input,
         boolean expectedSuccess,
         Class expectedType,
-        String expectedErrorMessage
+        String expectedErrorMessage,
+        Integer expectedFailurePosition
     ) {
-        String table = "Scenario | Input\nInvalid | " + input;
-        if (expectedSuccess) {
-            assertInstanceOf(expectedType, TableParser.parse(table).row(0).value(1));
-        } else {
-            TableTestParseException actualException = assertThrows(
-                TableTestParseException.class,
-                () -> TableParser.parse(table)
-            );
-            assertTrue(actualException.getMessage().startsWith(expectedErrorMessage), actualException.getMessage());
-        }
+        assertInvalidValueSyntax(input, expectedSuccess, expectedType, expectedErrorMessage, expectedFailurePosition);
     }
 
     @DisplayName("Maps in [key: value] form support nesting and quoted keys")
@@ -159,30 +145,45 @@ public class ValueGrammarTest {
     }
 
     @DisplayName("A malformed map or a duplicate key fails parsing")
-    @Description("Values that do not open a map capture as plain strings.")
+    @Description("""
+            Values that do not open a map capture as plain strings. A duplicate
+            key is only found once the whole map is read, so it has no position.
+            """)
     @TableTest("""
-        Scenario                       | Input    | Success? | Parsed Type?     | Error Message?
-        Quoted empty map               | '"[:]"'  | true     | java.lang.String |
-        Missing closing bracket        | '[:'     | false    |                  | Failed to parse `[:`
-        Missing opening bracket        | ':]'     | true     | java.lang.String |
-        Opening bracket, closing brace | '[a: b}' | false    |                  | Failed to parse `[a: b}`
-        Opening brace, closing bracket | '{a: b]' | false    |                  | Failed to parse `{a: b]`
-        Double opening bracket         | '[[:]'   | false    |                  | Failed to parse `[[:]`
-        Double closing bracket         | '[:]]'   | false    |                  | Failed to parse `]`
-        Unexpected leading character   | 'a[:]'   | true     | java.lang.String |
-        Unexpected trailing character  | '[:]a'   | false    |                  | Failed to parse `a`
-        Missing element                | '[a:b,]' | false    |                  | Failed to parse `[a:b,]`
-        Duplicate keys                 | '[a:b, a:c]' | false |                 | Duplicate key `a`
-        Duplicate quoted key           | '[a:b, "a":c]' | false |               | Duplicate key `a`
-        Same key different value types | '[a:b, a:[b], a:{b}, a:[b:c]]' | false | | Duplicate key `a`
+        Scenario                       | Input                          | Success? | Parsed Type?     | Error Message?          | Fails at?
+        Quoted empty map               | '"[:]"'                        | true     | java.lang.String |                         |
+        Missing closing bracket        | '[:'                           | false    |                  | Unexpected end of input | 3
+        Missing opening bracket        | ':]'                           | true     | java.lang.String |                         |
+        Opening bracket, closing brace | '[a: b}'                       | false    |                  | Failed to parse `}`     | 6
+        Opening brace, closing bracket | '{a: b]'                       | false    |                  | Failed to parse `: b]`  | 3
+        Double opening bracket         | '[[:]'                         | false    |                  | Unexpected end of input | 5
+        Double closing bracket         | '[:]]'                         | false    |                  | Failed to parse `]`     | 4
+        Unexpected leading character   | 'a[:]'                         | true     | java.lang.String |                         |
+        Unexpected trailing character  | '[:]a'                         | false    |                  | Failed to parse `a`     | 4
+        Missing element                | '[a:b,]'                       | false    |                  | Failed to parse `]`     | 6
+        Duplicate keys                 | '[a:b, a:c]'                   | false    |                  | Duplicate key `a`       |
+        Duplicate quoted key           | '[a:b, "a":c]'                 | false    |                  | Duplicate key `a`       |
+        Same key different value types | '[a:b, a:[b], a:{b}, a:[b:c]]' | false    |                  | Duplicate key `a`       |
         """)
     void shouldHandleInvalidMapSyntax(
         String input,
         boolean expectedSuccess,
         Class expectedType,
-        String expectedErrorMessage
+        String expectedErrorMessage,
+        Integer expectedFailurePosition
+    ) {
+        assertInvalidValueSyntax(input, expectedSuccess, expectedType, expectedErrorMessage, expectedFailurePosition);
+    }
+
+    private static void assertInvalidValueSyntax(
+        String input,
+        boolean expectedSuccess,
+        Class expectedType,
+        String expectedErrorMessage,
+        Integer expectedFailurePosition
     ) {
-        String table = "Scenario | Input\nInvalid | " + input;
+        String rowPrefix = "Invalid | ";
+        String table = "Scenario | Input\n" + rowPrefix + input;
         if (expectedSuccess) {
             assertInstanceOf(expectedType, TableParser.parse(table).row(0).value(1));
         } else {
@@ -191,6 +192,9 @@ public class ValueGrammarTest {
                 () -> TableParser.parse(table)
             );
             assertTrue(actualException.getMessage().startsWith(expectedErrorMessage), actualException.getMessage());
+            if (expectedFailurePosition != null) {
+                assertEquals(rowPrefix.length() + expectedFailurePosition, actualException.column());
+            }
         }
     }
 
@@ -311,19 +315,20 @@ public class ValueGrammarTest {
             """;
 
         TableTestParseException exception = assertThrows(TableTestParseException.class, () -> TableParser.parse(input));
-        assertTrue(exception.getMessage().startsWith("Failed to parse `[2025-08-01T00:00:00] | 0` in row `Purchase too old"), exception.getMessage());
+        assertTrue(exception.getMessage().startsWith("Failed to parse `:00] | 0` in row `Purchase too old"), exception.getMessage());
+        assertEquals(List.of(",", "]"), exception.expected());
     }
 
     @DisplayName("Stray quotes and unbalanced brackets fail with a parse error")
-    @Description("The error names the offending fragment and the row it is in.")
+    @Description("The error names where parsing got stuck and the row it is in.")
     @TableTest("""
         Scenario                   | Input  | Error Message?
         Triple single quotes       | "'''"  | Failed to parse `'`
         Triple double quotes       | '\"""' | Failed to parse `"`
-        Standalone opening bracket | '['    | Failed to parse `[`
-        Standalone opening brace   | '{'    | Failed to parse `{`
-        Additional opening bracket | '[[]'  | Failed to parse `[[]`
-        Additional opening brace   | '{{}'  | Failed to parse `{{}`
+        Standalone opening bracket | '['    | Unexpected end of input
+        Standalone opening brace   | '{'    | Unexpected end of input
+        Additional opening bracket | '[[]'  | Unexpected end of input
+        Additional opening brace   | '{{}'  | Unexpected end of input
         Additional closing bracket | '[]]'  | Failed to parse `]`
         Additional closing brace   | '{}}'  | Failed to parse `}`
         """)